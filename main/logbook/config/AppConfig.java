@@ -1,6 +1,15 @@
 package logbook.config;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import logbook.config.bean.AppConfigBean;
 import logbook.constants.AppConstants;
@@ -44,11 +53,68 @@ public class AppConfig {
             } else {
                 configBean = new AppConfigBean();
             }
+            // 設定が変更されたらバックグラウンドで書き込む
+            ConfigStore.watch(AppConstants.APP_CONFIG_FILE, () -> state(configBean), AppConfig::get,
+                    BeanUtils::writeObject);
         } catch (Exception e) {
             LoggerHolder.LOG.warn("アプリケーション設定を読み込みますに失敗しました", e);
         }
     }
 
+    /**
+     * 設定の状態を値で比較できるように複製します
+     * <p>
+     * 配列とコレクションはリストに、設定のBeanはフィールドの値のリストに変換するため、
+     * 配列やBeanの中身を直接書き換えた場合も変更として検出できます。
+     * </p>
+     *
+     * @param value 設定の値
+     * @return 状態
+     */
+    private static Object state(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> clazz = value.getClass();
+        if (clazz.isArray()) {
+            int length = Array.getLength(value);
+            List<Object> list = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                list.add(state(Array.get(value, i)));
+            }
+            return list;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = new HashMap<>();
+            for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), state(entry.getValue()));
+            }
+            return map;
+        }
+        if (value instanceof Collection) {
+            List<Object> list = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                list.add(state(element));
+            }
+            return list;
+        }
+        if (clazz.getPackage() == AppConfigBean.class.getPackage()) {
+            List<Object> fields = new ArrayList<>();
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    try {
+                        fields.add(state(field.get(value)));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+            return fields;
+        }
+        return value;
+    }
+
     /**
      * アプリケーション設定を取得します
      *
@@ -0,0 +1,246 @@
+package logbook.config;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.CheckForNull;
+
+import logbook.thread.ThreadManager;
+import logbook.util.BeanUtils;
+import logbook.util.FileUtils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 設定ファイルをバックグラウンドで書き込みます
+ * <p>
+ * 登録された設定は変更されてから数秒以内にまとめて書き込まれます。変更は{@link #markDirty(Path)}で通知するか、
+ * 設定の状態を定期的に比較して検出します。<br>
+ * 書き込みは一時ファイルに書いてから置き換えるため、書き込み中に終了しても設定ファイルが壊れることはありません。
+ * </p>
+ *
+ */
+public final class ConfigStore {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(ConfigStore.class);
+    }
+
+    /** 変更を確認する間隔(ミリ秒) */
+    private static final long INTERVAL = 2000;
+
+    /** コンパクト形式の設定ファイルの拡張子 */
+    private static final String COMPACT_SUFFIX = ".dat";
+
+    /** コンパクト形式の設定ファイルの先頭 */
+    private static final int COMPACT_MAGIC = 0x4C424D31;
+
+    /** 登録された設定 */
+    private static final Map<Path, Store<?>> STORES = new ConcurrentHashMap<>();
+
+    /** 変更の確認を開始したか */
+    private static boolean started;
+
+    /**
+     * 設定の書き込み
+     *
+     * @param <T> 設定
+     */
+    @FunctionalInterface
+    public interface Encoder<T> {
+        /**
+         * 設定をファイルに書き込みます
+         *
+         * @param path ファイル
+         * @param value 設定
+         * @throws IOException IOException
+         */
+        void write(Path path, T value) throws IOException;
+    }
+
+    /**
+     * {@link #markDirty(Path)}で変更が通知された時に書き込む設定を登録します
+     *
+     * @param path 設定ファイル
+     * @param snapshot 書き込む設定を作成する関数
+     * @param encoder 設定の書き込み
+     */
+    public static <T> void register(Path path, Supplier<T> snapshot, Encoder<T> encoder) {
+        STORES.put(path, new Store<>(path, null, snapshot, encoder));
+        start();
+    }
+
+    /**
+     * 状態が変わった時に書き込む設定を登録します
+     *
+     * @param path 設定ファイル
+     * @param state 設定の状態を作成する関数(equalsで比較します)
+     * @param snapshot 書き込む設定を作成する関数
+     * @param encoder 設定の書き込み
+     */
+    public static <T> void watch(Path path, Supplier<?> state, Supplier<T> snapshot, Encoder<T> encoder) {
+        STORES.put(path, new Store<>(path, state, snapshot, encoder));
+        start();
+    }
+
+    /**
+     * 設定が変更されたことを通知します
+     *
+     * @param path 設定ファイル
+     */
+    public static void markDirty(Path path) {
+        Store<?> store = STORES.get(path);
+        if (store != null) {
+            store.dirty = true;
+        }
+    }
+
+    /**
+     * 変更された設定を直ちに書き込みます
+     */
+    public static synchronized void flush() {
+        for (Store<?> store : STORES.values()) {
+            store.storeIfChanged();
+        }
+    }
+
+    /**
+     * 変更の確認を開始します
+     */
+    private static synchronized void start() {
+        if (!started) {
+            started = true;
+            ThreadManager.getExecutorService().scheduleWithFixedDelay(ConfigStore::flush,
+                    INTERVAL, INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * XML形式の設定ファイルに対応するコンパクト形式の設定ファイル
+     *
+     * @param path XML形式の設定ファイル
+     * @return コンパクト形式の設定ファイル
+     */
+    static Path getCompactFile(Path path) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return path.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + COMPACT_SUFFIX);
+    }
+
+    /**
+     * IDと数値の対応をコンパクト形式で書き込みます
+     *
+     * @param path XML形式の設定ファイル
+     * @param map IDと数値の対応
+     * @throws IOException IOException
+     */
+    static void writeCompact(Path path, Map<Long, Integer> map) throws IOException {
+        FileUtils.writeAtomically(getCompactFile(path), os -> {
+            DataOutputStream out = new DataOutputStream(os);
+            out.writeInt(COMPACT_MAGIC);
+            out.writeInt(map.size());
+            for (Entry<Long, Integer> entry : map.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+            out.flush();
+        });
+    }
+
+    /**
+     * IDと数値の対応を読み込みます
+     * <p>
+     * コンパクト形式の設定ファイルがない場合はXML形式の設定ファイルから読み込みます。
+     * </p>
+     *
+     * @param path XML形式の設定ファイル
+     * @return IDと数値の対応、どちらの設定ファイルも読み込めない場合null
+     */
+    @SuppressWarnings("unchecked")
+    @CheckForNull
+    static Map<Long, Integer> readCompact(Path path) {
+        Path compact = getCompactFile(path);
+        if (Files.isReadable(compact)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(compact)))) {
+                if (in.readInt() == COMPACT_MAGIC) {
+                    int size = in.readInt();
+                    Map<Long, Integer> map = new HashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        map.put(in.readLong(), in.readInt());
+                    }
+                    return map;
+                }
+            } catch (IOException e) {
+                LoggerHolder.LOG.warn("File '" + compact + "' の読み込み時に例外", e);
+            }
+        }
+        return BeanUtils.readObject(path, Map.class);
+    }
+
+    /**
+     * 登録された設定
+     *
+     * @param <T> 設定
+     */
+    private static final class Store<T> {
+
+        private final Path path;
+
+        private final Supplier<?> state;
+
+        private final Supplier<T> snapshot;
+
+        private final Encoder<T> encoder;
+
+        /** 最後に書き込んだ時の状態 */
+        private Object last;
+
+        /** 変更が通知された */
+        private volatile boolean dirty;
+
+        private Store(Path path, @CheckForNull Supplier<?> state, Supplier<T> snapshot, Encoder<T> encoder) {
+            this.path = path;
+            this.state = state;
+            this.snapshot = snapshot;
+            this.encoder = encoder;
+            this.last = state != null ? state.get() : null;
+        }
+
+        private void storeIfChanged() {
+            try {
+                Object current = null;
+                if (this.state != null) {
+                    current = this.state.get();
+                    if (!this.dirty && Objects.equals(current, this.last)) {
+                        return;
+                    }
+                } else if (!this.dirty) {
+                    return;
+                }
+                this.dirty = false;
+                this.encoder.write(this.path, this.snapshot.get());
+                this.last = current;
+            } catch (ConcurrentModificationException e) {
+                // 設定を変更中の場合は次回に書き込む
+                this.dirty = true;
+            } catch (Exception e) {
+                this.dirty = true;
+                LoggerHolder.LOG.warn("File '" + this.path + "' の書き込みに失敗しました", e);
+            }
+        }
+    }
+}
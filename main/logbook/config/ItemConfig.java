@@ -1,21 +1,27 @@
 package logbook.config;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 import logbook.constants.AppConstants;
 import logbook.data.context.ItemContext;
 import logbook.dto.ItemDto;
 import logbook.internal.Item;
-import logbook.util.BeanUtils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * 装備のIDと装備IDの紐付けを保存・復元します
+ * <p>
+ * 設定ファイルはコンパクト形式で保存します。XML形式の設定ファイルしかない場合はXML形式から読み込み、コンパクト形式で保存し直します。<br>
+ * 読み込み後は装備が変更されると{@link ItemContext}が{@link ConfigStore}に通知し、バックグラウンドで書き込みます。
+ * </p>
  *
  */
 public class ItemConfig {
@@ -41,35 +47,70 @@ public class ItemConfig {
         loadItem();
         loadLevel();
         loadALv();
+
+        register(AppConstants.ITEM_CONFIG_FILE, ItemConfig::itemMap);
+        register(AppConstants.ITEM_LEVEL_CONFIG_FILE, ItemConfig::levelMap);
+        register(AppConstants.ITEM_ALV_CONFIG_FILE, ItemConfig::alvMap);
+    }
+
+    /**
+     * 変更が通知された時に書き込むようにConfigStoreに登録します
+     *
+     * @param path 設定ファイル
+     * @param snapshot 書き込む内容
+     */
+    private static void register(Path path, Supplier<Map<Long, Integer>> snapshot) {
+        ConfigStore.register(path, snapshot, ConfigStore::writeCompact);
+        if (!Files.exists(ConfigStore.getCompactFile(path))) {
+            // XML形式から移行する
+            ConfigStore.markDirty(path);
+        }
     }
 
     /**
      * @throws IOException
      */
     private static void storeItem() throws IOException {
-        Map<Long, Integer> map = new HashMap<Long, Integer>();
-        for (Entry<Long, ItemDto> entry : ItemContext.get().entrySet()) {
-            map.put(entry.getKey(), entry.getValue().getId());
-        }
-        BeanUtils.writeObject(AppConstants.ITEM_CONFIG_FILE, map);
+        ConfigStore.writeCompact(AppConstants.ITEM_CONFIG_FILE, itemMap());
     }
 
     /**
      * @throws IOException
      */
     private static void storeLevel() throws IOException {
-        Map<Long, Integer> map = new HashMap<Long, Integer>();
-        map.putAll(ItemContext.level());
-        BeanUtils.writeObject(AppConstants.ITEM_LEVEL_CONFIG_FILE, map);
+        ConfigStore.writeCompact(AppConstants.ITEM_LEVEL_CONFIG_FILE, levelMap());
     }
 
     /**
      * @throws IOException
      */
     private static void storeALv() throws IOException {
+        ConfigStore.writeCompact(AppConstants.ITEM_ALV_CONFIG_FILE, alvMap());
+    }
+
+    /**
+     * @return 装備のIDと装備ID
+     */
+    private static Map<Long, Integer> itemMap() {
         Map<Long, Integer> map = new HashMap<Long, Integer>();
-        map.putAll(ItemContext.alv());
-        BeanUtils.writeObject(AppConstants.ITEM_ALV_CONFIG_FILE, map);
+        for (Entry<Long, ItemDto> entry : ItemContext.get().entrySet()) {
+            map.put(entry.getKey(), entry.getValue().getId());
+        }
+        return map;
+    }
+
+    /**
+     * @return 装備のIDと改修レベル
+     */
+    private static Map<Long, Integer> levelMap() {
+        return new HashMap<Long, Integer>(ItemContext.level());
+    }
+
+    /**
+     * @return 装備のIDと熟練度
+     */
+    private static Map<Long, Integer> alvMap() {
+        return new HashMap<Long, Integer>(ItemContext.alv());
     }
 
     /**
@@ -77,7 +118,7 @@ public class ItemConfig {
      */
     private static void loadItem() {
         try {
-            Map<Long, Integer> map = BeanUtils.readObject(AppConstants.ITEM_CONFIG_FILE, Map.class);
+            Map<Long, Integer> map = ConfigStore.readCompact(AppConstants.ITEM_CONFIG_FILE);
             if (map != null) {
                 for (Entry<Long, Integer> entry : map.entrySet()) {
                     Integer id = entry.getValue();
@@ -97,7 +138,7 @@ public class ItemConfig {
      */
     private static void loadLevel() {
         try {
-            Map<Long, Integer> map = BeanUtils.readObject(AppConstants.ITEM_LEVEL_CONFIG_FILE, Map.class);
+            Map<Long, Integer> map = ConfigStore.readCompact(AppConstants.ITEM_LEVEL_CONFIG_FILE);
             if (map != null) {
                 ItemContext.level().putAll(map);
             }
@@ -111,7 +152,7 @@ public class ItemConfig {
      */
     private static void loadALv() {
         try {
-            Map<Long, Integer> map = BeanUtils.readObject(AppConstants.ITEM_ALV_CONFIG_FILE, Map.class);
+            Map<Long, Integer> map = ConfigStore.readCompact(AppConstants.ITEM_ALV_CONFIG_FILE);
             if (map != null) {
                 ItemContext.alv().putAll(map);
             }
@@ -1,7 +1,5 @@
 package logbook.config;
 
-import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -14,7 +12,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * 装備マスターを保存・復元します
+ * 装備マスターを復元します<br>
+ * 現在は{@link MasterSnapshot}に保存するため、設定ファイルは移行のために読み込むだけです
  *
  */
 public class ItemMasterConfig {
@@ -24,17 +23,6 @@ public class ItemMasterConfig {
         private static final Logger LOG = LogManager.getLogger(ItemMasterConfig.class);
     }
 
-    /**
-     * 設定ファイルに書き込みます
-     */
-    public static void store() throws IOException {
-        Map<Integer, ItemDto> map = new HashMap<Integer, ItemDto>();
-        for (Integer id : Item.keySet()) {
-            map.put(id, Item.get(id));
-        }
-        BeanUtils.writeObject(AppConstants.ITEM_MST_CONFIG_FILE, map);
-    }
-
     /**
      * 装備マスターを設定ファイルから読み込みます
      */
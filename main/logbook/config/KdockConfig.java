@@ -1,6 +1,5 @@
 package logbook.config;
 
-import java.io.IOException;
 import java.util.Map;
 
 import javax.annotation.CheckForNull;
@@ -18,6 +17,9 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * 建造ドックの投入資源を保存・復元します
+ * <p>
+ * 設定ファイルへの書き込みは{@link ConfigStore}がバックグラウンドで行います。
+ * </p>
  *
  */
 public class KdockConfig {
@@ -30,17 +32,17 @@ public class KdockConfig {
     /** 建造ドックのBean */
     private static KdockMapBean mapBean;
 
+    static {
+        ConfigStore.register(AppConstants.KDOCK_CONFIG_FILE, KdockConfig::snapshot, BeanUtils::writeObject);
+    }
+
     /**
      * 建造ドックの投入資源を設定します
      *
      * @param dock ドック
      * @param resource 資源
-     * @throws IOException IOException
      */
-    public static void store(String dock, ResourceDto resource) throws IOException {
-        if (mapBean == null) {
-            mapBean = new KdockMapBean();
-        }
+    public static synchronized void store(String dock, ResourceDto resource) {
         KdockBean kdock = new KdockBean();
         kdock.setType(resource.getType());
         kdock.setFuel(resource.getFuel());
@@ -51,9 +53,9 @@ public class KdockConfig {
         kdock.setShipId(resource.getSecretary().getId());
         kdock.setHqLevel(resource.getHqLevel());
         kdock.setFreeDock(resource.getFreeDock());
-        mapBean.getKdockMap().put(dock, kdock);
+        getMapBean().getKdockMap().put(dock, kdock);
 
-        BeanUtils.writeObject(AppConstants.KDOCK_CONFIG_FILE, mapBean);
+        ConfigStore.markDirty(AppConstants.KDOCK_CONFIG_FILE);
     }
 
     /**
@@ -63,27 +65,22 @@ public class KdockConfig {
      * @return 建造ドックの投入資源
      */
     @CheckForNull
-    public static ResourceDto load(String dock) {
+    public static synchronized ResourceDto load(String dock) {
         try {
-            if (mapBean == null) {
-                mapBean = BeanUtils.readObject(AppConstants.KDOCK_CONFIG_FILE, KdockMapBean.class);
+            KdockBean kdock = getMapBean().getKdockMap().get(dock);
+
+            if (kdock == null) {
+                return null;
             }
-            if (mapBean != null) {
-                KdockBean kdock = mapBean.getKdockMap().get(dock);
-
-                if (kdock == null) {
-                    return null;
-                }
-
-                Map<Long, ShipDto> ships = ShipContext.get();
-                if (!ships.isEmpty() && ships.containsKey(kdock.getShipId())) {
-                    ResourceDto resource = new ResourceDto(kdock.getType(), kdock.getFuel(), kdock.getAmmo(),
-                            kdock.getMetal(),
-                            kdock.getBauxite(), kdock.getResearchMaterials(), ships.get(kdock.getShipId()),
-                            kdock.getHqLevel());
-                    resource.setFreeDock(kdock.getFreeDock());
-                    return resource;
-                }
+
+            Map<Long, ShipDto> ships = ShipContext.get();
+            if (!ships.isEmpty() && ships.containsKey(kdock.getShipId())) {
+                ResourceDto resource = new ResourceDto(kdock.getType(), kdock.getFuel(), kdock.getAmmo(),
+                        kdock.getMetal(),
+                        kdock.getBauxite(), kdock.getResearchMaterials(), ships.get(kdock.getShipId()),
+                        kdock.getHqLevel());
+                resource.setFreeDock(kdock.getFreeDock());
+                return resource;
             }
         } catch (Exception e) {
             LoggerHolder.LOG.warn("建造ドックの投入資源を取得しますに失敗しました", e);
@@ -95,13 +92,36 @@ public class KdockConfig {
      * 建造ドックの投入資源を削除します
      *
      * @param dock ドック
-     * @throws IOException IOException
      */
-    public static void remove(String dock) throws IOException {
-        if (mapBean != null) {
-            mapBean.getKdockMap().remove(dock);
+    public static synchronized void remove(String dock) {
+        getMapBean().getKdockMap().remove(dock);
+
+        ConfigStore.markDirty(AppConstants.KDOCK_CONFIG_FILE);
+    }
+
+    /**
+     * 建造ドックのBeanを取得します、読み込まれていない場合は設定ファイルから読み込みます
+     *
+     * @return 建造ドックのBean
+     */
+    private static KdockMapBean getMapBean() {
+        if (mapBean == null) {
+            mapBean = BeanUtils.readObject(AppConstants.KDOCK_CONFIG_FILE, KdockMapBean.class);
+            if (mapBean == null) {
+                mapBean = new KdockMapBean();
+            }
         }
+        return mapBean;
+    }
 
-        BeanUtils.writeObject(AppConstants.KDOCK_CONFIG_FILE, mapBean);
+    /**
+     * 設定ファイルに書き込む建造ドックのBeanのコピーを作成します
+     *
+     * @return 建造ドックのBean
+     */
+    private static synchronized KdockMapBean snapshot() {
+        KdockMapBean bean = new KdockMapBean();
+        bean.getKdockMap().putAll(getMapBean().getKdockMap());
+        return bean;
     }
 }
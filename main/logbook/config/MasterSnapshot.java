@@ -0,0 +1,254 @@
+package logbook.config;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import javax.annotation.CheckForNull;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.JsonWriter;
+
+import logbook.constants.AppConstants;
+import logbook.dto.ItemDto;
+import logbook.dto.ShipInfoDto;
+import logbook.internal.Item;
+import logbook.internal.Ship;
+import logbook.util.FileUtils;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 艦娘と装備のマスターデータをバイナリ形式のスナップショットとして保存します
+ * <p>
+ * スナップショットには最後に受け取ったapi_start2のマスターデータのハッシュと、艦娘・装備のマスターを書き込みます。
+ * 起動時はスナップショットを一度に読み込むため、XML形式の設定ファイルを読み込む必要はありません。<br>
+ * api_start2を受け取った時はマスターデータのハッシュを比較し、変わっている場合だけマスターを作り直して書き込みます。
+ * ハッシュはマスターを作り直した後に{@link #commit(byte[])}で記録します。
+ * スナップショットがない場合はXML形式の設定ファイル({@link ShipConfig}, {@link ItemMasterConfig})から読み込みます。
+ * </p>
+ */
+public final class MasterSnapshot {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(MasterSnapshot.class);
+    }
+
+    /** スナップショットの先頭 */
+    private static final int MAGIC = 0x4C425332;
+
+    /** スナップショットの形式のバージョン */
+    private static final int VERSION = 1;
+
+    /** ハッシュのアルゴリズム */
+    private static final String ALGORITHM = "SHA-1";
+
+    /** ハッシュを求めるマスターデータ */
+    private static final String[] MASTER_KEYS = { "api_mst_ship", "api_mst_slotitem" };
+
+    /** マスターを作り直した時のマスターデータのハッシュ */
+    private static byte[] hash;
+
+    /** api_start2を受け取ってマスターを作り直した(スナップショットを読み込む必要はない) */
+    private static boolean received;
+
+    static {
+        // 読み込みより前にapi_start2を受け取った場合も書き込めるように最初に登録する
+        ConfigStore.register(AppConstants.MASTER_SNAPSHOT_FILE, MasterSnapshot::getHash, MasterSnapshot::write);
+    }
+
+    /**
+     * スナップショットを読み込みます
+     * <p>
+     * スナップショットが読み込めない場合はXML形式の設定ファイルから読み込みます。
+     * </p>
+     */
+    public static void load() {
+        // 読み込む前にapi_start2を受け取っていた場合はそちらを優先する
+        synchronized (MasterSnapshot.class) {
+            if (!received && !read(AppConstants.MASTER_SNAPSHOT_FILE)) {
+                ShipConfig.load();
+                ItemMasterConfig.load();
+            }
+        }
+    }
+
+    /**
+     * api_start2のマスターデータが前回作り直した時から変わったかを調べます<br>
+     * 変わっている場合、呼び出し元はマスターを作り直して{@link #commit(byte[])}を呼び出してください
+     *
+     * @param digest {@link #digest(JsonObject)}で求めたマスターデータのハッシュ
+     * @return マスターデータが変わっている場合true
+     */
+    public static synchronized boolean isChanged(@CheckForNull byte[] digest) {
+        if ((digest != null) && Arrays.equals(digest, hash)) {
+            return false;
+        }
+        // 作り直すマスターをスナップショットで上書きしない
+        received = true;
+        return true;
+    }
+
+    /**
+     * マスターを作り直したことを記録し、スナップショットを書き込むように通知します
+     *
+     * @param digest 作り直したマスターデータのハッシュ
+     */
+    public static synchronized void commit(@CheckForNull byte[] digest) {
+        hash = digest;
+        ConfigStore.markDirty(AppConstants.MASTER_SNAPSHOT_FILE);
+    }
+
+    /**
+     * マスターデータのハッシュを求めます
+     *
+     * @param apiData api_start2のapi_data
+     * @return ハッシュ、求められない場合null
+     */
+    @CheckForNull
+    public static byte[] digest(JsonObject apiData) {
+        try {
+            MessageDigest md = MessageDigest.getInstance(ALGORITHM);
+            try (OutputStream out = new DigestOutputStream(new NullOutputStream(), md)) {
+                for (String key : MASTER_KEYS) {
+                    JsonValue value = apiData.get(key);
+                    if (value != null) {
+                        JsonWriter writer = Json.createWriter(out);
+                        writer.write(Json.createObjectBuilder().add(key, value).build());
+                    }
+                }
+            }
+            return md.digest();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            LoggerHolder.LOG.warn("マスターデータのハッシュを求められません", e);
+            return null;
+        }
+    }
+
+    /**
+     * スナップショットを読み込みます
+     *
+     * @param path スナップショット
+     * @return 読み込めた場合true
+     */
+    private static boolean read(Path path) {
+        if (!Files.isReadable(path)) {
+            return false;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            if ((buffer.getInt() != MAGIC) || (buffer.getInt() != VERSION)) {
+                return false;
+            }
+            byte[] digest = new byte[buffer.get() & 0xff];
+            buffer.get(digest);
+            int ships = buffer.getInt();
+            for (int i = 0; i < ships; i++) {
+                int id = buffer.getInt();
+                if (buffer.get() == 0) {
+                    Ship.set(id, ShipInfoDto.EMPTY);
+                } else {
+                    Ship.set(id, new ShipInfoDto(getString(buffer), getString(buffer), getString(buffer),
+                            buffer.getInt(), buffer.getInt(), buffer.getInt()));
+                }
+            }
+            int items = buffer.getInt();
+            for (int i = 0; i < items; i++) {
+                int[] v = new int[22];
+                for (int j = 0; j < v.length; j++) {
+                    v[j] = buffer.getInt();
+                }
+                String name = getString(buffer);
+                Item.set(v[0], new ItemDto(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9], v[10],
+                        name, v[11], v[12], v[13], v[14], v[15], v[16], v[17], v[18], v[19], v[20], v[21]));
+            }
+            hash = digest.length > 0 ? digest : null;
+            return true;
+        } catch (Exception e) {
+            LoggerHolder.LOG.warn("File '" + path + "' の読み込み時に例外", e);
+            return false;
+        }
+    }
+
+    /**
+     * @return マスターを作り直した時のマスターデータのハッシュ
+     */
+    private static synchronized byte[] getHash() {
+        return hash != null ? hash : new byte[0];
+    }
+
+    /**
+     * スナップショットを書き込みます
+     *
+     * @param path スナップショット
+     * @param digest マスターデータのハッシュ
+     * @throws IOException IOException
+     */
+    private static void write(Path path, byte[] digest) throws IOException {
+        FileUtils.writeAtomically(path, os -> {
+            DataOutputStream out = new DataOutputStream(os);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeByte(digest.length);
+            out.write(digest);
+
+            int[] shipIds = Ship.keySet().stream().mapToInt(Integer::parseInt).toArray();
+            out.writeInt(shipIds.length);
+            for (int id : shipIds) {
+                ShipInfoDto ship = Ship.get(id);
+                out.writeInt(id);
+                if ((ship == null) || (ship == ShipInfoDto.EMPTY)) {
+                    out.writeByte(0);
+                } else {
+                    out.writeByte(1);
+                    putString(out, ship.getName());
+                    putString(out, ship.getType());
+                    putString(out, ship.getFlagship());
+                    out.writeInt(ship.getAfterlv());
+                    out.writeInt(ship.getMaxBull());
+                    out.writeInt(ship.getMaxFuel());
+                }
+            }
+
+            int[] itemIds = Item.keySet().stream().mapToInt(Integer::intValue).toArray();
+            out.writeInt(itemIds.length);
+            for (int id : itemIds) {
+                ItemDto item = Item.get(id);
+                int[] v = { id, item.getType2(), item.getType3(), item.getAtap(), item.getBakk(), item.getBaku(),
+                        item.getHoug(), item.getHouk(), item.getHoum(), item.getLeng(), item.getLuck(),
+                        item.getRaig(), item.getRaik(), item.getRaim(), item.getRare(), item.getSakb(),
+                        item.getSaku(), item.getSoku(), item.getSouk(), item.getTaik(), item.getTais(),
+                        item.getTyku() };
+                for (int value : v) {
+                    out.writeInt(value);
+                }
+                putString(out, item.getName());
+            }
+            out.flush();
+        });
+    }
+
+    private static void putString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,10 +1,7 @@
 package logbook.config;
 
-import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 
 import logbook.constants.AppConstants;
 import logbook.dto.ShipInfoDto;
@@ -15,7 +12,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * 艦娘のIDと名前の紐付けを保存・復元します
+ * 艦娘のIDと名前の紐付けを復元します<br>
+ * 現在は{@link MasterSnapshot}に保存するため、設定ファイルは移行のために読み込むだけです
  *
  */
 public class ShipConfig {
@@ -25,19 +23,6 @@ public class ShipConfig {
         private static final Logger LOG = LogManager.getLogger(ShipConfig.class);
     }
 
-    /**
-     * 設定ファイルに書き込みます
-     */
-    public static void store() throws IOException {
-        Set<String> shipids = Ship.keySet();
-        Map<String, ShipInfoDto> map = new HashMap<String, ShipInfoDto>();
-        for (String key : shipids) {
-            ShipInfoDto ship = Ship.get(key);
-            map.put(key, ship);
-        }
-        BeanUtils.writeObject(AppConstants.SHIP_CONFIG_FILE, map);
-    }
-
     /**
      * 艦娘のIDと名前の紐付けを設定ファイルから読み込みます
      */
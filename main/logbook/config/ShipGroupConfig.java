@@ -1,7 +1,11 @@
 package logbook.config;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+import logbook.config.bean.ShipGroupBean;
 import logbook.config.bean.ShipGroupListBean;
 import logbook.constants.AppConstants;
 import logbook.util.BeanUtils;
@@ -44,11 +48,27 @@ public class ShipGroupConfig {
             } else {
                 group = new ShipGroupListBean();
             }
+            // グループが変更されたらバックグラウンドで書き込む
+            ConfigStore.watch(AppConstants.GROUP_CONFIG_FILE, ShipGroupConfig::state, ShipGroupConfig::get,
+                    BeanUtils::writeObject);
         } catch (Exception e) {
             LoggerHolder.LOG.warn("所有艦娘グループを読み込みますに失敗しました", e);
         }
     }
 
+    /**
+     * 変更を検出するための所有艦娘グループの状態
+     *
+     * @return グループ名と艦娘のリスト
+     */
+    private static List<List<Object>> state() {
+        List<List<Object>> state = new ArrayList<>();
+        for (ShipGroupBean bean : group.getGroup()) {
+            state.add(Arrays.asList(bean.getName(), new ArrayList<>(bean.getShips())));
+        }
+        return state;
+    }
+
     /**
      * 所有艦娘グループを取得します
      *
@@ -87,6 +87,12 @@ public final class AppConfigBean {
     /** 画面キャプチャ-画像ファイル名書式 */
     private String imageNameFormat = "yyyy-MM-dd/yyyy-MM-dd HH-mm-ss.SSS";
 
+    /** 画面キャプチャ-周期キャプチャで変化のない画像を保存しない */
+    private boolean skipDuplicateCapture = true;
+
+    /** 画面キャプチャ-変化がないとみなす明るさの差 */
+    private int duplicateCaptureTolerance = 2;
+
     /** ウインドウ位置X */
     private int locationX = -1;
 
@@ -565,6 +571,38 @@ public final class AppConfigBean {
         this.imageNameFormat = imageNameFormat;
     }
 
+    /**
+     * 画面キャプチャ-周期キャプチャで変化のない画像を保存しないを取得します。
+     * @return 画面キャプチャ-周期キャプチャで変化のない画像を保存しない
+     */
+    public boolean isSkipDuplicateCapture() {
+        return this.skipDuplicateCapture;
+    }
+
+    /**
+     * 画面キャプチャ-周期キャプチャで変化のない画像を保存しないを設定します。
+     * @param skipDuplicateCapture 画面キャプチャ-周期キャプチャで変化のない画像を保存しない
+     */
+    public void setSkipDuplicateCapture(boolean skipDuplicateCapture) {
+        this.skipDuplicateCapture = skipDuplicateCapture;
+    }
+
+    /**
+     * 画面キャプチャ-変化がないとみなす明るさの差を取得します。
+     * @return 画面キャプチャ-変化がないとみなす明るさの差
+     */
+    public int getDuplicateCaptureTolerance() {
+        return this.duplicateCaptureTolerance;
+    }
+
+    /**
+     * 画面キャプチャ-変化がないとみなす明るさの差を設定します。
+     * @param duplicateCaptureTolerance 画面キャプチャ-変化がないとみなす明るさの差
+     */
+    public void setDuplicateCaptureTolerance(int duplicateCaptureTolerance) {
+        this.duplicateCaptureTolerance = duplicateCaptureTolerance;
+    }
+
     /**
      * ウインドウ位置Xを取得します。
      * @return ウインドウ位置X
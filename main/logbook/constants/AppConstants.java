@@ -43,6 +43,9 @@ public class AppConstants {
     /** タイムゾーン(任務が更新される05:00JSTに0:00になるタイムゾーン) */
     public static final TimeZone TIME_ZONE_MISSION = TimeZone.getTimeZone("GMT+04:00");
 
+    /** 起動中にメモリに保持する報告(ドロップ・建造・開発・遠征)の最大件数 */
+    public static final int MAX_SESSION_HISTORY = 500;
+
     /** 疲労赤色 */
     public static final int COND_RED = 19;
 
@@ -133,12 +136,18 @@ public class AppConstants {
     /** 装備マスター設定ファイル  */
     public static final Path ITEM_MST_CONFIG_FILE = Paths.get("./config/itemmst.xml");
 
+    /** マスターデータのスナップショット  */
+    public static final Path MASTER_SNAPSHOT_FILE = Paths.get("./config/master.dat");
+
     /** 建造ドック設定ファイル  */
     public static final Path KDOCK_CONFIG_FILE = Paths.get("./config/kdock.xml");
 
     /** 所有艦娘グループ設定ファイル  */
     public static final Path GROUP_CONFIG_FILE = Paths.get("./config/group.xml");
 
+    /** 資材ログの日毎の集計ファイル  */
+    public static final Path MATERIAL_DAILY_FILE = Paths.get("./config/materialdaily.csv");
+
     /** 資材チャートcss */
     public static final Path CHART_STYLESHEET_FILE = Paths.get("./config/chart.css");
 
@@ -187,6 +196,12 @@ public class AppConstants {
     /** /resources/icon/star.png */
     public static final String R_ICON_STAR = "/resources/icon/star.png";
 
+    /** /resources/master/ship.tsv */
+    public static final String R_MASTER_SHIP = "/resources/master/ship.tsv";
+
+    /** /resources/master/item.tsv */
+    public static final String R_MASTER_ITEM = "/resources/master/item.tsv";
+
     /** 艦隊タブの艦娘ラベルに設定するツールチップテキスト */
     public static final String TOOLTIP_FLEETTAB_SHIP = "HP:{0}/{1} 燃料:{2}/{3} 弾:{4}/{5}\nNext:{6}exp";
 
@@ -255,4 +270,7 @@ public class AppConstants {
 
     /** 資材ログ_alternativefile.csv */
     public static final String LOG_RESOURCE_ALT = "資材ログ_alternativefile.csv";
+
+    /** 過去の報告書の保存先(報告書の保存先からの相対パス) */
+    public static final String LOG_ARCHIVE_DIR = "archive";
 }
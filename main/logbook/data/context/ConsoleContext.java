@@ -1,26 +1,58 @@
 package logbook.data.context;
 
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
 
 import logbook.constants.AppConstants;
 
+import org.apache.commons.lang3.time.FastDateFormat;
+
 /**
  * 母港画面のログ出力
+ * <p>
+ * ログは上限のあるリングバッファに溜め、表示される前に上限を超えた場合は古いものから捨てて件数を記録します。<br>
+ * 捨てたログの件数は次に取り出す時に1行のメッセージとして通知されます。
+ * </p>
  */
 public class ConsoleContext {
 
-    /** ログキュー */
-    private static Queue<String> consoleQueue = new ArrayBlockingQueue<String>(10);
+    /** ログを溜めておく数 */
+    private static final int CAPACITY = 200;
+
+    /** 時刻のフォーマット */
+    private static final FastDateFormat FORMAT = FastDateFormat.getInstance(AppConstants.DATE_SHORT_FORMAT);
+
+    /** ログのリングバッファ */
+    private static final String[] RING = new String[CAPACITY];
+
+    /** 最も古いログの位置 */
+    private static int head;
+
+    /** 溜まっているログの数 */
+    private static int size;
+
+    /** 上限を超えて捨てたログの数 */
+    private static int overflow;
 
     /**
-     * ログキューからログメッセージを取り出します
-     * @return ログメッセージ
+     * 溜まっているログメッセージを全て取り出します
+     *
+     * @return ログメッセージ(古い順)
      */
-    public static String getConsoleMessage() {
-        return consoleQueue.poll();
+    public static synchronized List<String> drainConsoleMessages() {
+        List<String> messages = new ArrayList<>(size + 1);
+        if (overflow > 0) {
+            messages.add(FORMAT.format(System.currentTimeMillis()) + "  (" + overflow + "件のログを省略しました)");
+            overflow = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % CAPACITY;
+            messages.add(RING[index]);
+            RING[index] = null;
+        }
+        head = 0;
+        size = 0;
+        return messages;
     }
 
     /**
@@ -29,8 +61,16 @@ public class ConsoleContext {
      * @param message ログメッセージ
      */
     public static void log(Object message) {
-        consoleQueue.offer(new SimpleDateFormat(AppConstants.DATE_SHORT_FORMAT)
-                .format(Calendar.getInstance().getTime())
-                + "  " + message.toString());
+        String line = FORMAT.format(System.currentTimeMillis()) + "  " + message.toString();
+        synchronized (ConsoleContext.class) {
+            if (size == CAPACITY) {
+                // 最も古いログを捨てる
+                head = (head + 1) % CAPACITY;
+                size--;
+                overflow++;
+            }
+            RING[(head + size) % CAPACITY] = line;
+            size++;
+        }
     }
 }
@@ -1,6 +1,5 @@
 package logbook.data.context;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -22,6 +21,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import logbook.config.KdockConfig;
+import logbook.config.MasterSnapshot;
+import logbook.constants.AppConstants;
 import logbook.data.Data;
 import logbook.data.DataQueue;
 import logbook.data.EventSender;
@@ -44,6 +45,10 @@ import logbook.dto.QuestDto;
 import logbook.dto.ResourceDto;
 import logbook.dto.ShipDto;
 import logbook.dto.ShipInfoDto;
+import logbook.gui.bean.CreateItemReportBean;
+import logbook.gui.bean.CreateShipReportBean;
+import logbook.gui.bean.DropReportBean;
+import logbook.gui.bean.MissionResultBean;
 import logbook.gui.logic.CreateReportLogic;
 import logbook.internal.Deck;
 import logbook.internal.Item;
@@ -80,19 +85,23 @@ public final class GlobalContext {
     }
 
     /** 建造 */
-    private static List<GetShipDto> getShipList = new ArrayList<GetShipDto>();
+    private static SessionHistory<CreateShipReportBean> getShipList = new SessionHistory<>(
+            AppConstants.MAX_SESSION_HISTORY);
 
     /** 建造(投入資源) */
     private static Map<String, ResourceDto> getShipResource = new HashMap<String, ResourceDto>();
 
     /** 開発 */
-    private static List<CreateItemDto> createItemList = new ArrayList<CreateItemDto>();
+    private static SessionHistory<CreateItemReportBean> createItemList = new SessionHistory<>(
+            AppConstants.MAX_SESSION_HISTORY);
 
     /** 海戦・ドロップ */
-    private static List<BattleResultDto> battleResultList = new ArrayList<BattleResultDto>();
+    private static SessionHistory<DropReportBean> battleResultList = new SessionHistory<>(
+            AppConstants.MAX_SESSION_HISTORY);
 
     /** 遠征結果 */
-    private static List<MissionResultDto> missionResultList = new ArrayList<MissionResultDto>();
+    private static SessionHistory<MissionResultBean> missionResultList = new SessionHistory<>(
+            AppConstants.MAX_SESSION_HISTORY);
 
     /** 司令部Lv */
     private static int hqLevel;
@@ -163,31 +172,31 @@ public final class GlobalContext {
     }
 
     /**
-     * @return 建造艦娘List
+     * @return 建造艦娘List(新しい{@value AppConstants#MAX_SESSION_HISTORY}件)
      */
-    public static List<GetShipDto> getGetshipList() {
-        return getShipList;
+    public static List<CreateShipReportBean> getGetshipList() {
+        return getShipList.toList();
     }
 
     /**
-     * @return 開発アイテムList
+     * @return 開発アイテムList(新しい{@value AppConstants#MAX_SESSION_HISTORY}件)
      */
-    public static List<CreateItemDto> getCreateItemList() {
-        return createItemList;
+    public static List<CreateItemReportBean> getCreateItemList() {
+        return createItemList.toList();
     }
 
     /**
-     * @return 海戦・ドロップList
+     * @return 海戦・ドロップList(新しい{@value AppConstants#MAX_SESSION_HISTORY}件)
      */
-    public static List<BattleResultDto> getBattleResultList() {
-        return battleResultList;
+    public static List<DropReportBean> getBattleResultList() {
+        return battleResultList.toList();
     }
 
     /**
-     * @return 遠征結果
+     * @return 遠征結果(新しい{@value AppConstants#MAX_SESSION_HISTORY}件)
      */
-    public static List<MissionResultDto> getMissionResultList() {
-        return missionResultList;
+    public static List<MissionResultBean> getMissionResultList() {
+        return missionResultList.toList();
     }
 
     /**
@@ -649,7 +658,7 @@ public final class GlobalContext {
             if (battle != null) {
                 JsonObject apidata = data.getJsonObject().getJsonObject("api_data");
                 BattleResultDto dto = new BattleResultDto(apidata, mapCellNo, mapBossCellNo, eventId, isStart, battle);
-                battleResultList.add(dto);
+                battleResultList.add(DropReportBean.toBean(dto));
                 CreateReportLogic.storeBattleResultReport(dto);
             }
             // 出撃を更新
@@ -750,7 +759,7 @@ public final class GlobalContext {
                 resource = KdockConfig.load(dock);
             }
             GetShipDto dto = new GetShipDto(ship, resource);
-            getShipList.add(dto);
+            getShipList.add(CreateShipReportBean.toBean(dto));
             CreateReportLogic.storeCreateShipReport(dto);
             // 投入資源を除去する
             getShipResource.remove(dock);
@@ -787,10 +796,10 @@ public final class GlobalContext {
 
                     createitem.setName(item.getName());
                     createitem.setType(item.getType());
-                    createItemList.add(createitem);
+                    createItemList.add(CreateItemReportBean.toBean(createitem));
                 }
             } else {
-                createItemList.add(createitem);
+                createItemList.add(CreateItemReportBean.toBean(createitem));
             }
             CreateReportLogic.storeCreateItemReport(createitem);
 
@@ -1113,7 +1122,7 @@ public final class GlobalContext {
             }
 
             CreateReportLogic.storeCreateMissionReport(result);
-            missionResultList.add(result);
+            missionResultList.add(MissionResultBean.toBean(result));
 
             addConsole("遠征(帰還)情報を更新しました");
         } catch (Exception e) {
@@ -1320,12 +1329,15 @@ public final class GlobalContext {
     private static void doStart2(Data data) {
         try {
             JsonObject obj = data.getJsonObject().getJsonObject("api_data");
-            if (obj != null) {
+            byte[] digest = obj != null ? MasterSnapshot.digest(obj) : null;
+            if ((obj != null) && !MasterSnapshot.isChanged(digest)) {
+                addConsole("マスターデータは前回から変わっていません");
+            } else if (obj != null) {
                 // 艦娘一覧
                 JsonArray apiMstShip = obj.getJsonArray("api_mst_ship");
                 for (int i = 0; i < apiMstShip.size(); i++) {
                     JsonObject object = (JsonObject) apiMstShip.get(i);
-                    String id = object.getJsonNumber("api_id").toString();
+                    int id = object.getJsonNumber("api_id").intValue();
                     Ship.set(id, toShipInfoDto(object));
                 }
                 addConsole("艦娘一覧を更新しました");
@@ -1339,6 +1351,9 @@ public final class GlobalContext {
                     Item.set(id, item);
                 }
                 addConsole("装備一覧を更新しました");
+
+                // 作り直せた場合だけハッシュを記録する
+                MasterSnapshot.commit(digest);
             }
 
             addConsole("設定を更新しました");
@@ -1,8 +1,10 @@
 package logbook.data.context;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import logbook.config.ConfigStore;
+import logbook.constants.AppConstants;
 import logbook.dto.ItemDto;
 
 /**
@@ -10,14 +12,29 @@ import logbook.dto.ItemDto;
  */
 public class ItemContext {
 
+    /** 装備・改修レベル・熟練度が変更された回数 */
+    private static final AtomicInteger version = new AtomicInteger();
+
+    /** 装備の種類毎の集計 */
+    private static final ItemInventory inventory = new ItemInventory();
+
     /** 装備Map */
-    private static Map<Long, ItemDto> itemMap = new ConcurrentSkipListMap<Long, ItemDto>();
+    private static Map<Long, ItemDto> itemMap = new VersionedMap<Long, ItemDto>(version,
+            (key, o, n) -> {
+                inventory.update(key, n, level().get(key));
+                ConfigStore.markDirty(AppConstants.ITEM_CONFIG_FILE);
+            });
 
     /** 改修レベルMap */
-    private static Map<Long, Integer> levelMap = new ConcurrentSkipListMap<Long, Integer>();
+    private static Map<Long, Integer> levelMap = new VersionedMap<Long, Integer>(version,
+            (key, o, n) -> {
+                inventory.update(key, get().get(key), n);
+                ConfigStore.markDirty(AppConstants.ITEM_LEVEL_CONFIG_FILE);
+            });
 
     /** 熟練度レベルMap */
-    private static Map<Long, Integer> alvMap = new ConcurrentSkipListMap<Long, Integer>();
+    private static Map<Long, Integer> alvMap = new VersionedMap<Long, Integer>(version,
+            (key, o, n) -> ConfigStore.markDirty(AppConstants.ITEM_ALV_CONFIG_FILE));
 
     /**
      * @return 装備Map
@@ -39,4 +56,20 @@ public class ItemContext {
     public static Map<Long, Integer> alv() {
         return alvMap;
     }
+
+    /**
+     * @return 装備の種類毎の集計
+     */
+    public static ItemInventory inventory() {
+        return inventory;
+    }
+
+    /**
+     * 装備・改修レベル・熟練度が変更される度に増加する番号を取得します
+     *
+     * @return 番号
+     */
+    public static int getVersion() {
+        return version.get();
+    }
 }
@@ -0,0 +1,125 @@
+package logbook.data.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javax.annotation.CheckForNull;
+
+import logbook.dto.ItemDto;
+
+/**
+ * 所有装備を装備の種類毎に集計します
+ * <p>
+ * 集計は{@link ItemContext}の装備と改修レベルが変更される度に、変更された装備の分だけ更新されます。<br>
+ * 装備の種類毎の集計は変更されない限り同じインスタンスのままです。
+ * </p>
+ */
+public final class ItemInventory {
+
+    /** 集計した装備(装備ID → 装備マスターIDと改修レベル) */
+    private final Map<Long, int[]> registered = new HashMap<>();
+
+    /** 装備の種類毎の集計(装備マスターID → 集計) */
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    ItemInventory() {
+    }
+
+    /**
+     * 装備の集計を更新します
+     *
+     * @param key 装備ID
+     * @param item 装備、削除された場合null
+     * @param level 改修レベル
+     */
+    synchronized void update(Long key, @CheckForNull ItemDto item, @CheckForNull Integer level) {
+        int[] old = this.registered.remove(key);
+        if (old != null) {
+            Entry entry = this.entries.get(old[0]);
+            if (entry.count == 1) {
+                this.entries.remove(old[0]);
+            } else {
+                this.entries.put(old[0], entry.add(old[1], -1));
+            }
+        }
+        if (item != null) {
+            int lv = level != null ? level : 0;
+            this.registered.put(key, new int[] { item.getId(), lv });
+            Entry entry = this.entries.get(item.getId());
+            if (entry == null) {
+                entry = new Entry(item, 0, Collections.<Integer, Integer> emptySortedMap());
+            }
+            this.entries.put(item.getId(), entry.add(lv, 1));
+        }
+    }
+
+    /**
+     * 装備の種類毎の集計を取得します
+     *
+     * @return 装備の種類毎の集計
+     */
+    public synchronized List<Entry> getEntries() {
+        return new ArrayList<>(this.entries.values());
+    }
+
+    /**
+     * 装備の種類毎の集計
+     */
+    public static final class Entry {
+
+        /** 装備 */
+        private final ItemDto item;
+
+        /** 個数 */
+        private final int count;
+
+        /** 改修レベル毎の個数 */
+        private final SortedMap<Integer, Integer> levels;
+
+        private Entry(ItemDto item, int count, SortedMap<Integer, Integer> levels) {
+            this.item = item;
+            this.count = count;
+            this.levels = levels;
+        }
+
+        private Entry add(int level, int delta) {
+            SortedMap<Integer, Integer> levels = new TreeMap<>(this.levels);
+            int count = levels.getOrDefault(level, 0) + delta;
+            if (count > 0) {
+                levels.put(level, count);
+            } else {
+                levels.remove(level);
+            }
+            return new Entry(this.item, this.count + delta, Collections.unmodifiableSortedMap(levels));
+        }
+
+        /**
+         * 装備を取得します。
+         * @return 装備
+         */
+        public ItemDto getItem() {
+            return this.item;
+        }
+
+        /**
+         * 個数を取得します。
+         * @return 個数
+         */
+        public int getCount() {
+            return this.count;
+        }
+
+        /**
+         * 改修レベル毎の個数を取得します。
+         * @return 改修レベル毎の個数
+         */
+        public SortedMap<Integer, Integer> getLevels() {
+            return this.levels;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package logbook.data.context;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 起動中の報告を新しいものから最大件数まで保持します
+ * <p>
+ * 報告は追加される時に報告書に書き込まれているため、最大件数を超えた古い報告はメモリから取り除き、報告書から参照します。
+ * </p>
+ *
+ * @param <T> 報告
+ */
+public final class SessionHistory<T> {
+
+    /** 最大件数 */
+    private final int capacity;
+
+    /** 報告(古い順) */
+    private final Deque<T> deque = new ArrayDeque<>();
+
+    /**
+     * SessionHistoryを構築します
+     *
+     * @param capacity 最大件数
+     */
+    public SessionHistory(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 報告を追加します、最大件数を超えた場合は最も古い報告を取り除きます
+     *
+     * @param e 報告
+     */
+    public synchronized void add(T e) {
+        if (this.deque.size() >= this.capacity) {
+            this.deque.pollFirst();
+        }
+        this.deque.addLast(e);
+    }
+
+    /**
+     * 保持している報告のコピーを古い順に返します
+     *
+     * @return 報告
+     */
+    public synchronized List<T> toList() {
+        return new ArrayList<>(this.deque);
+    }
+}
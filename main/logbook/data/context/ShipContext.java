@@ -3,7 +3,7 @@ package logbook.data.context;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.CheckForNull;
 
@@ -20,8 +20,25 @@ public class ShipContext {
     /** 秘書艦を変えた時刻 */
     private static Date modifySecretaryDate;
 
+    /** 艦娘Mapが変更された回数 */
+    private static final AtomicInteger version = new AtomicInteger();
+
+    /** 鍵付きの艦娘の数 */
+    private static final AtomicInteger lockedCount = new AtomicInteger();
+
     /** 艦娘Map */
-    private static Map<Long, ShipDto> shipMap = new ConcurrentSkipListMap<Long, ShipDto>();
+    private static Map<Long, ShipDto> shipMap = new VersionedMap<Long, ShipDto>(version, (key, o, n) -> {
+        int delta = 0;
+        if ((o != null) && o.getLocked()) {
+            delta--;
+        }
+        if ((n != null) && n.getLocked()) {
+            delta++;
+        }
+        if (delta != 0) {
+            lockedCount.addAndGet(delta);
+        }
+    });
 
     /**
      * @return 艦娘Map
@@ -30,6 +47,24 @@ public class ShipContext {
         return shipMap;
     }
 
+    /**
+     * 艦娘Mapが変更される度に増加する番号を取得します
+     *
+     * @return 番号
+     */
+    public static int getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 鍵付きの艦娘の数を取得します
+     *
+     * @return 鍵付きの艦娘の数
+     */
+    public static int getLockedCount() {
+        return lockedCount.get();
+    }
+
     /**
      * 秘書艦を取得します
      *
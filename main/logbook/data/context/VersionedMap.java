@@ -0,0 +1,102 @@
+package logbook.data.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.CheckForNull;
+
+/**
+ * put・remove・clearで変更される度に番号を増加するMap
+ *
+ * @param <K> キー
+ * @param <V> 値
+ */
+final class VersionedMap<K, V> extends ConcurrentSkipListMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 変更された回数 */
+    private final transient AtomicInteger version;
+
+    /** 変更を通知するリスナー */
+    @CheckForNull
+    private final transient Listener<K, V> listener;
+
+    /**
+     * 変更を通知するリスナー
+     *
+     * @param <K> キー
+     * @param <V> 値
+     */
+    @FunctionalInterface
+    interface Listener<K, V> {
+        /**
+         * 値が変更された時に呼び出されます
+         *
+         * @param key キー
+         * @param oldValue 変更前の値(追加された場合null)
+         * @param newValue 変更後の値(削除された場合null)
+         */
+        void changed(K key, @CheckForNull V oldValue, @CheckForNull V newValue);
+    }
+
+    /**
+     * VersionedMapを構築します
+     *
+     * @param version 変更された回数(複数のMapで共有できます)
+     */
+    VersionedMap(AtomicInteger version) {
+        this(version, null);
+    }
+
+    /**
+     * VersionedMapを構築します
+     *
+     * @param version 変更された回数(複数のMapで共有できます)
+     * @param listener 変更を通知するリスナー
+     */
+    VersionedMap(AtomicInteger version, @CheckForNull Listener<K, V> listener) {
+        this.version = version;
+        this.listener = listener;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V old = super.put(key, value);
+        if (this.listener != null) {
+            this.listener.changed(key, old, value);
+        }
+        this.version.incrementAndGet();
+        return old;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        V old = super.remove(key);
+        if (old != null) {
+            if (this.listener != null) {
+                this.listener.changed((K) key, old, null);
+            }
+            this.version.incrementAndGet();
+        }
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (this.listener != null) {
+            List<Entry<K, V>> entries = new ArrayList<>(this.entrySet());
+            super.clear();
+            for (Entry<K, V> entry : entries) {
+                this.listener.changed(entry.getKey(), entry.getValue(), null);
+            }
+        } else {
+            super.clear();
+        }
+        this.version.incrementAndGet();
+    }
+}
@@ -17,6 +17,7 @@ import logbook.data.EventListener;
 import logbook.data.context.ConsoleContext;
 import logbook.dto.MaterialDto;
 import logbook.gui.logic.CreateReportLogic;
+import logbook.gui.logic.MaterialDailyLogic;
 
 /**
  * 保有資源・資材
@@ -95,6 +96,7 @@ public class Material implements EventListener {
                 || (TimeUnit.MILLISECONDS.toSeconds(time.getTime() - this.materialLogLastUpdate.getTime()) >
                 AppConfig.get().getMaterialLogInterval())) {
             CreateReportLogic.storeMaterialReport(this.material);
+            MaterialDailyLogic.update(this.material);
 
             this.materialLogLastUpdate = time;
         }
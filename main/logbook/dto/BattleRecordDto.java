@@ -0,0 +1,329 @@
+package logbook.dto;
+
+import java.util.List;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 海戦の記録を表します
+ * <p>
+ * 戦闘詳細({@link BattleDto})から表示に必要な値だけを取り出して保持します。<br>
+ * 艦娘や装備の情報は参照せず、名前は共有された文字列、耐久は配列で保持します。
+ * </p>
+ */
+public final class BattleRecordDto extends AbstractDto {
+
+    /** 日付 */
+    private final long battleDate;
+
+    /** 海域名 */
+    private final String questName;
+
+    /** 敵艦隊名 */
+    private final String enemyName;
+
+    /** 艦隊行動 */
+    private final String intercept;
+
+    /** 味方陣形 */
+    private final String friendFormation;
+
+    /** 敵陣形 */
+    private final String enemyFormation;
+
+    /** 味方艦隊名 */
+    private final String[] dockNames;
+
+    /** 味方艦(艦隊毎の名前とLv) */
+    private final String[][] friendNames;
+
+    /** 味方艦の現在の耐久 */
+    private final int[][] friendNowHp;
+
+    /** 味方艦の最大耐久 */
+    private final int[][] friendMaxHp;
+
+    /** 味方艦の疲労 */
+    private final int[][] friendCond;
+
+    /** 味方艦の制空値 */
+    private final int[][] friendSeiku;
+
+    /** 味方艦の装備名 */
+    private final String[][][] friendSlots;
+
+    /** 敵艦(名前とflagship) */
+    private final String[] enemyNames;
+
+    /** 敵艦の現在の耐久 */
+    private final int[] enemyNowHp;
+
+    /** 敵艦の最大耐久 */
+    private final int[] enemyMaxHp;
+
+    /** 敵艦の装備名 */
+    private final String[][] enemySlots;
+
+    /**
+     * コンストラクター
+     *
+     * @param result 海戦とドロップした艦娘
+     */
+    public BattleRecordDto(BattleResultDto result) {
+        BattleDto battle = result.getBattleDto();
+
+        this.battleDate = result.getBattleDate().getTime();
+        this.questName = intern(result.getQuestName());
+        this.enemyName = intern(result.getEnemyName());
+        this.intercept = intern(battle.getIntercept());
+        this.friendFormation = intern(battle.getFriendFormation());
+        this.enemyFormation = intern(battle.getEnemyFormation());
+
+        List<DockDto> docks = battle.getFriends();
+        int dockCount = docks != null ? docks.size() : 0;
+        this.dockNames = new String[dockCount];
+        this.friendNames = new String[dockCount][];
+        this.friendNowHp = new int[dockCount][];
+        this.friendMaxHp = new int[dockCount][];
+        this.friendCond = new int[dockCount][];
+        this.friendSeiku = new int[dockCount][];
+        this.friendSlots = new String[dockCount][][];
+        for (int i = 0; i < dockCount; i++) {
+            DockDto dock = docks.get(i);
+            List<ShipDto> ships = dock.getShips();
+            this.dockNames[i] = intern(dock.getName());
+            this.friendNames[i] = new String[ships.size()];
+            this.friendNowHp[i] = new int[ships.size()];
+            this.friendMaxHp[i] = new int[ships.size()];
+            this.friendCond[i] = new int[ships.size()];
+            this.friendSeiku[i] = new int[ships.size()];
+            this.friendSlots[i] = new String[ships.size()][];
+            for (int j = 0; j < ships.size(); j++) {
+                ShipDto ship = ships.get(j);
+                this.friendNames[i][j] = intern(ship.getName() + "(Lv" + ship.getLv() + ")");
+                this.friendNowHp[i][j] = (int) ship.getNowhp();
+                this.friendMaxHp[i][j] = (int) ship.getMaxhp();
+                this.friendCond[i][j] = (int) ship.getCond();
+                this.friendSeiku[i][j] = ship.getSeiku();
+                List<String> slot = ship.getSlot();
+                this.friendSlots[i][j] = new String[slot.size()];
+                for (int k = 0; k < slot.size(); k++) {
+                    this.friendSlots[i][j][k] = intern(slot.get(k));
+                }
+            }
+        }
+
+        List<ShipInfoDto> enemyships = battle.getEnemy();
+        List<ItemDto[]> enemySlot = battle.getEnemySlot();
+        this.enemyNames = new String[enemyships.size()];
+        this.enemyNowHp = new int[enemyships.size()];
+        this.enemyMaxHp = new int[enemyships.size()];
+        this.enemySlots = new String[enemyships.size()][];
+        for (int i = 0; i < enemyships.size(); i++) {
+            ShipInfoDto ship = enemyships.get(i);
+            String name = ship.getName();
+            if (!StringUtils.isEmpty(ship.getFlagship())) {
+                name += "(" + ship.getFlagship() + ")";
+            }
+            this.enemyNames[i] = intern(name);
+            this.enemyNowHp[i] = battle.getNowEnemyHp()[i];
+            this.enemyMaxHp[i] = battle.getMaxEnemyHp()[i];
+            ItemDto[] slot = enemySlot.get(i);
+            this.enemySlots[i] = new String[slot.length];
+            for (int j = 0; j < slot.length; j++) {
+                this.enemySlots[i][j] = slot[j] != null ? intern(slot[j].getName()) : "";
+            }
+        }
+    }
+
+    /**
+     * 同じ内容の文字列を共有します
+     *
+     * @param str 文字列
+     * @return 共有された文字列
+     */
+    @CheckForNull
+    private static String intern(@CheckForNull String str) {
+        return str != null ? str.intern() : null;
+    }
+
+    /**
+     * 日付を取得します。
+     * @return 日付(ミリ秒)
+     */
+    public long getBattleDate() {
+        return this.battleDate;
+    }
+
+    /**
+     * 海域名を取得します。
+     * @return 海域名
+     */
+    public String getQuestName() {
+        return this.questName;
+    }
+
+    /**
+     * 敵艦隊名を取得します。
+     * @return 敵艦隊名
+     */
+    public String getEnemyName() {
+        return this.enemyName;
+    }
+
+    /**
+     * 艦隊行動を取得します。
+     * @return 艦隊行動
+     */
+    public String getIntercept() {
+        return this.intercept;
+    }
+
+    /**
+     * 味方陣形を取得します。
+     * @return 味方陣形
+     */
+    public String getFriendFormation() {
+        return this.friendFormation;
+    }
+
+    /**
+     * 敵陣形を取得します。
+     * @return 敵陣形
+     */
+    public String getEnemyFormation() {
+        return this.enemyFormation;
+    }
+
+    /**
+     * 味方艦隊の数を取得します。
+     * @return 味方艦隊の数
+     */
+    public int getDockCount() {
+        return this.dockNames.length;
+    }
+
+    /**
+     * 味方艦隊名を取得します。
+     * @param dock 艦隊のインデックス
+     * @return 味方艦隊名
+     */
+    public String getDockName(int dock) {
+        return this.dockNames[dock];
+    }
+
+    /**
+     * 味方艦の数を取得します。
+     * @param dock 艦隊のインデックス
+     * @return 味方艦の数
+     */
+    public int getFriendCount(int dock) {
+        return this.friendNames[dock].length;
+    }
+
+    /**
+     * 味方艦の名前とLvを取得します。
+     * @param dock 艦隊のインデックス
+     * @param ship 艦のインデックス
+     * @return 名前とLv
+     */
+    public String getFriendName(int dock, int ship) {
+        return this.friendNames[dock][ship];
+    }
+
+    /**
+     * 味方艦の現在の耐久を取得します。
+     * @param dock 艦隊のインデックス
+     * @param ship 艦のインデックス
+     * @return 現在の耐久
+     */
+    public int getFriendNowHp(int dock, int ship) {
+        return this.friendNowHp[dock][ship];
+    }
+
+    /**
+     * 味方艦の最大耐久を取得します。
+     * @param dock 艦隊のインデックス
+     * @param ship 艦のインデックス
+     * @return 最大耐久
+     */
+    public int getFriendMaxHp(int dock, int ship) {
+        return this.friendMaxHp[dock][ship];
+    }
+
+    /**
+     * 味方艦の疲労を取得します。
+     * @param dock 艦隊のインデックス
+     * @param ship 艦のインデックス
+     * @return 疲労
+     */
+    public int getFriendCond(int dock, int ship) {
+        return this.friendCond[dock][ship];
+    }
+
+    /**
+     * 味方艦の制空値を取得します。
+     * @param dock 艦隊のインデックス
+     * @param ship 艦のインデックス
+     * @return 制空値
+     */
+    public int getFriendSeiku(int dock, int ship) {
+        return this.friendSeiku[dock][ship];
+    }
+
+    /**
+     * 味方艦の装備名を取得します。
+     * @param dock 艦隊のインデックス
+     * @param ship 艦のインデックス
+     * @return 装備名
+     */
+    public String[] getFriendSlot(int dock, int ship) {
+        return this.friendSlots[dock][ship].clone();
+    }
+
+    /**
+     * 敵艦の数を取得します。
+     * @return 敵艦の数
+     */
+    public int getEnemyCount() {
+        return this.enemyNames.length;
+    }
+
+    /**
+     * 敵艦の名前を取得します。
+     * @param ship 艦のインデックス
+     * @return 名前
+     */
+    public String getEnemyShipName(int ship) {
+        return this.enemyNames[ship];
+    }
+
+    /**
+     * 敵艦の現在の耐久を取得します。
+     * @param ship 艦のインデックス
+     * @return 現在の耐久
+     */
+    public int getEnemyNowHp(int ship) {
+        return this.enemyNowHp[ship];
+    }
+
+    /**
+     * 敵艦の最大耐久を取得します。
+     * @param ship 艦のインデックス
+     * @return 最大耐久
+     */
+    public int getEnemyMaxHp(int ship) {
+        return this.enemyMaxHp[ship];
+    }
+
+    /**
+     * 敵艦の装備名を取得します。
+     * @param ship 艦のインデックス
+     * @return 装備名
+     */
+    public String[] getEnemySlot(int ship) {
+        return this.enemySlots[ship].clone();
+    }
+}
@@ -25,6 +25,9 @@ public final class DockDto extends AbstractDto {
     /** 更新フラグ */
     private boolean update;
 
+    /** 大破の確認フラグ(更新された時に立ち、大破の確認で下ろす) */
+    private boolean fatalCheck;
+
     /**
      * コンストラクター
      *
@@ -145,5 +148,24 @@ public final class DockDto extends AbstractDto {
      */
     public void setUpdate(boolean update) {
         this.update = update;
+        if (update) {
+            this.fatalCheck = true;
+        }
+    }
+
+    /**
+     * 大破の確認フラグを取得します。
+     * @return 大破の確認フラグ
+     */
+    public boolean isFatalCheck() {
+        return this.fatalCheck;
+    }
+
+    /**
+     * 大破の確認フラグを設定します。
+     * @param fatalCheck 大破の確認フラグ
+     */
+    public void setFatalCheck(boolean fatalCheck) {
+        this.fatalCheck = fatalCheck;
     }
 }
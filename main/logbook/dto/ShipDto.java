@@ -149,11 +149,8 @@ public final class ShipDto extends AbstractDto {
     /** 空母 */
     private final boolean isCarrier;
 
-    /** 装備リスト */
-    private List<String> itemNames;
-
-    /** 装備リスト */
-    private List<ItemDto> items;
+    /** 装備から計算した値 */
+    private transient volatile SlotStats slotStats;
 
     /**
      * コンストラクター
@@ -165,7 +162,7 @@ public final class ShipDto extends AbstractDto {
         this.id = object.getJsonNumber("api_id").longValue();
         this.locked = object.getJsonNumber("api_locked").longValue() == 1;
 
-        ShipInfoDto shipinfo = Ship.get(object.getJsonNumber("api_ship_id").toString());
+        ShipInfoDto shipinfo = Ship.get(object.getJsonNumber("api_ship_id").intValue());
         this.shipInfo = shipinfo;
         this.name = shipinfo.getName();
         this.type = shipinfo.getType();
@@ -399,73 +396,37 @@ public final class ShipDto extends AbstractDto {
         for (int i = 0; i < newSlot.size(); i++) {
             this.slot.set(i, newSlot.get(i));
         }
-        this.itemNames = null;
-        this.items = null;
+        this.slotStats = null;
+    }
+
+    /**
+     * 装備から計算した値を取得します<br>
+     * 装備が変更されるか、装備・改修レベル・熟練度が更新されるまでは前回計算した値を返します
+     *
+     * @return 装備から計算した値
+     */
+    private SlotStats getSlotStats() {
+        SlotStats stats = this.slotStats;
+        int version = ItemContext.getVersion();
+        if ((stats == null) || (stats.version != version)) {
+            stats = new SlotStats(version, this.slot, this.onslot);
+            this.slotStats = stats;
+        }
+        return stats;
     }
 
     /**
      * @return 装備
      */
     public List<String> getSlot() {
-        if (this.itemNames == null) {
-            this.itemNames = new ArrayList<String>();
-            Map<Long, ItemDto> itemMap = ItemContext.get();
-            Map<Long, Integer> levelMap = ItemContext.level();
-            Map<Long, Integer> alvMap = ItemContext.alv();
-            for (Long itemid : this.slot) {
-                if (itemid > 0) {
-                    ItemDto name = itemMap.get(itemid);
-                    Integer level = levelMap.get(itemid);
-                    Integer alv = alvMap.get(itemid);
-                    boolean viewLevel = (level != null) && (level.intValue() > 0);
-                    if (name != null) {
-                        if (viewLevel || (alv != null)) {
-                            StringBuilder sb = new StringBuilder();
-                            sb.append(name.getName());
-                            if (alv != null) {
-                                sb.append("☆+");
-                                sb.append(alv);
-                            }
-                            if (viewLevel) {
-                                sb.append("★+");
-                                sb.append(level);
-                            }
-                            this.itemNames.add(sb.toString());
-                        } else {
-                            this.itemNames.add(name.getName());
-                        }
-                    } else {
-                        this.itemNames.add("<UNKNOWN>");
-                    }
-                } else {
-                    this.itemNames.add("");
-                }
-            }
-        }
-        return this.itemNames;
+        return this.getSlotStats().names;
     }
 
     /**
      * @return 装備
      */
     public List<ItemDto> getItem() {
-        if (this.items == null) {
-            this.items = new ArrayList<ItemDto>();
-            Map<Long, ItemDto> itemMap = ItemContext.get();
-            for (Long itemid : this.slot) {
-                if (-1 != itemid) {
-                    ItemDto item = itemMap.get(itemid);
-                    if (item != null) {
-                        this.items.add(item);
-                    } else {
-                        this.items.add(null);
-                    }
-                } else {
-                    this.items.add(null);
-                }
-            }
-        }
-        return this.items;
+        return this.getSlotStats().items;
     }
 
     /**
@@ -486,21 +447,7 @@ public final class ShipDto extends AbstractDto {
      * @return 制空値
      */
     public int getSeiku() {
-        List<ItemDto> items = this.getItem();
-        int seiku = 0;
-        for (int i = 0; i < items.size(); i++) {
-            ItemDto item = items.get(i);
-            if (item != null) {
-                if ((item.getType3() == 6)
-                        || (item.getType3() == 7)
-                        || (item.getType3() == 8)
-                        || ((item.getType3() == 10) && (item.getType2() == 11))) {
-                    //6:艦上戦闘機,7:艦上爆撃機,8:艦上攻撃機,10:水上偵察機(ただし瑞雲のみ)の場合は制空値を計算する
-                    seiku += (int) Math.floor(item.getTyku() * Math.sqrt(this.onslot.get(i)));
-                }
-            }
-        }
-        return seiku;
+        return this.getSlotStats().seiku;
     }
 
     /**
@@ -598,36 +545,14 @@ public final class ShipDto extends AbstractDto {
      * @return 偵察機索敵値
      */
     public int getSakutekiSurvey() {
-        int survey = 0;
-        List<ItemDto> items = this.getItem();
-        for (int i = 0; i < items.size(); i++) {
-            ItemDto item = items.get(i);
-            if (item != null) {
-                if ((item.getType3() == 9) || (item.getType3() == 10)) {
-                    // 偵察機索敵値
-                    survey += item.getSaku();
-                }
-            }
-        }
-        return survey;
+        return this.getSlotStats().survey;
     }
 
     /**
      * @return 電探索敵値
      */
     public int getSakutekiRader() {
-        int rader = 0;
-        List<ItemDto> items = this.getItem();
-        for (int i = 0; i < items.size(); i++) {
-            ItemDto item = items.get(i);
-            if (item != null) {
-                if (item.getType3() == 11) {
-                    //  電探索敵値
-                    rader += item.getSaku();
-                }
-            }
-        }
-        return rader;
+        return this.getSlotStats().rader;
     }
 
     /**
@@ -663,8 +588,8 @@ public final class ShipDto extends AbstractDto {
      */
     public String getNext() {
         String next = "";
-        Long nextLvExp = ExpTable.get().get((int) this.lv + 1);
-        if (nextLvExp != null) {
+        long nextLvExp = ExpTable.getExp((int) this.lv + 1);
+        if (nextLvExp >= 0) {
             next = Long.toString(nextLvExp - this.exp);
         }
         return next;
@@ -737,17 +662,7 @@ public final class ShipDto extends AbstractDto {
      * @return 装備の命中
      */
     public long getAccuracy() {
-        long accuracy = 0;
-        for (Long itemid : this.slot) {
-            if (-1 != itemid) {
-                Map<Long, ItemDto> itemMap = ItemContext.get();
-                ItemDto item = itemMap.get(itemid);
-                if (item != null) {
-                    accuracy += item.getHoum();
-                }
-            }
-        }
-        return accuracy;
+        return this.getSlotStats().houm;
     }
 
     /**
@@ -758,18 +673,9 @@ public final class ShipDto extends AbstractDto {
     public long getHougekiPower() {
         if (this.isCarrier) {
             // (火力 + 雷装) × 1.5 + 爆装 × 2 + 55
-            long rai = 0;
-            long baku = 0;
-            Map<Long, ItemDto> itemMap = ItemContext.get();
-            for (Long itemid : this.slot) {
-                if (-1 != itemid) {
-                    ItemDto item = itemMap.get(itemid);
-                    if (item != null) {
-                        rai += item.getRaig();
-                        baku += item.getBaku();
-                    }
-                }
-            }
+            SlotStats stats = this.getSlotStats();
+            long rai = stats.raig;
+            long baku = stats.baku;
             return Math.round(((this.getKaryoku() + rai) * 1.5d) + (baku * 2) + 55);
         } else {
             return this.getKaryoku() + 5;
@@ -792,19 +698,8 @@ public final class ShipDto extends AbstractDto {
      */
     public long getTaisenPower() {
         // [ 艦船の対潜 ÷ 5 ] + 装備の対潜 × 2 + 25
-        long taisenShip = this.getTaisen();
-        long taisenItem = 0;
-        Map<Long, ItemDto> itemMap = ItemContext.get();
-        for (Long itemid : this.slot) {
-            if (-1 != itemid) {
-                ItemDto item = itemMap.get(itemid);
-                if (item != null) {
-                    int taisen = item.getTais();
-                    taisenShip -= taisen;
-                    taisenItem += taisen;
-                }
-            }
-        }
+        long taisenItem = this.getSlotStats().tais;
+        long taisenShip = this.getTaisen() - taisenItem;
         return Math.round(Math.floor(taisenShip / 5d) + (taisenItem * 2) + 25);
     }
 
@@ -816,4 +711,107 @@ public final class ShipDto extends AbstractDto {
     public long getYasenPower() {
         return this.getKaryoku() + this.getRaisou();
     }
+
+    /**
+     * 装備から計算した値
+     */
+    private static final class SlotStats {
+
+        /** 計算した時の{@link ItemContext#getVersion()} */
+        private final int version;
+
+        /** 装備名 */
+        private final List<String> names;
+
+        /** 装備 */
+        private final List<ItemDto> items;
+
+        /** 制空値 */
+        private int seiku;
+
+        /** 偵察機索敵値 */
+        private int survey;
+
+        /** 電探索敵値 */
+        private int rader;
+
+        /** 装備の命中 */
+        private long houm;
+
+        /** 装備の雷装 */
+        private long raig;
+
+        /** 装備の爆装 */
+        private long baku;
+
+        /** 装備の対潜 */
+        private long tais;
+
+        private SlotStats(int version, List<Long> slot, List<Integer> onslot) {
+            this.version = version;
+            List<String> names = new ArrayList<String>(slot.size());
+            List<ItemDto> items = new ArrayList<ItemDto>(slot.size());
+            Map<Long, ItemDto> itemMap = ItemContext.get();
+            Map<Long, Integer> levelMap = ItemContext.level();
+            Map<Long, Integer> alvMap = ItemContext.alv();
+            for (int i = 0; i < slot.size(); i++) {
+                Long itemid = slot.get(i);
+                ItemDto item = -1 != itemid ? itemMap.get(itemid) : null;
+                items.add(item);
+                if (itemid > 0) {
+                    names.add(getName(item, levelMap.get(itemid), alvMap.get(itemid)));
+                } else {
+                    names.add("");
+                }
+                if (item == null) {
+                    continue;
+                }
+                if ((item.getType3() == 6)
+                        || (item.getType3() == 7)
+                        || (item.getType3() == 8)
+                        || ((item.getType3() == 10) && (item.getType2() == 11))) {
+                    //6:艦上戦闘機,7:艦上爆撃機,8:艦上攻撃機,10:水上偵察機(ただし瑞雲のみ)の場合は制空値を計算する
+                    if (i < onslot.size()) {
+                        this.seiku += (int) Math.floor(item.getTyku() * Math.sqrt(onslot.get(i)));
+                    }
+                }
+                if ((item.getType3() == 9) || (item.getType3() == 10)) {
+                    // 偵察機索敵値
+                    this.survey += item.getSaku();
+                }
+                if (item.getType3() == 11) {
+                    //  電探索敵値
+                    this.rader += item.getSaku();
+                }
+                this.houm += item.getHoum();
+                this.raig += item.getRaig();
+                this.baku += item.getBaku();
+                this.tais += item.getTais();
+            }
+            this.names = Collections.unmodifiableList(names);
+            this.items = Collections.unmodifiableList(items);
+        }
+
+        private static String getName(@CheckForNull ItemDto item, @CheckForNull Integer level,
+                @CheckForNull Integer alv) {
+            if (item == null) {
+                return "<UNKNOWN>";
+            }
+            boolean viewLevel = (level != null) && (level.intValue() > 0);
+            if (viewLevel || (alv != null)) {
+                StringBuilder sb = new StringBuilder();
+                sb.append(item.getName());
+                if (alv != null) {
+                    sb.append("☆+");
+                    sb.append(alv);
+                }
+                if (viewLevel) {
+                    sb.append("★+");
+                    sb.append(level);
+                }
+                return sb.toString();
+            }
+            return item.getName();
+        }
+    }
 }
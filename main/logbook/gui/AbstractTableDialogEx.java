@@ -154,8 +154,19 @@ public abstract class AbstractTableDialogEx<T> extends Dialog {
      * @return TableWrapper
      */
     protected TableWrapper<T> addTable(Composite parent) {
+        return this.addTable(parent, SWT.NONE);
+    }
+
+    /**
+     * テーブルを追加します
+     *
+     * @param parent テーブルの親コンポジット
+     * @param style テーブルに追加するスタイル(SWT.VIRTUAL等)
+     * @return TableWrapper
+     */
+    protected TableWrapper<T> addTable(Composite parent, int style) {
         // テーブル
-        Table table = new Table(parent, SWT.FULL_SELECTION | SWT.MULTI);
+        Table table = new Table(parent, SWT.FULL_SELECTION | SWT.MULTI | style);
         table.setLinesVisible(true);
         table.setHeaderVisible(true);
         table.addKeyListener(new TableKeyShortcutAdapter(table));
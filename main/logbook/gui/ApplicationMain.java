@@ -5,9 +5,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import logbook.config.AppConfig;
+import logbook.config.ConfigStore;
 import logbook.config.ItemConfig;
-import logbook.config.ItemMasterConfig;
-import logbook.config.ShipConfig;
+import logbook.config.MasterSnapshot;
 import logbook.config.ShipGroupConfig;
 import logbook.constants.AppConstants;
 import logbook.gui.background.AsyncExecApplicationMain;
@@ -22,6 +22,7 @@ import logbook.gui.widgets.FleetComposite;
 import logbook.server.proxy.ProxyServer;
 import logbook.thread.PlayerThread;
 import logbook.thread.ThreadManager;
+import logbook.util.StartupTimeline;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -74,12 +75,12 @@ public final class ApplicationMain {
                 // リソースを開放する
                 SWTResourceManager.dispose();
 
-                // 設定を書き込みます
+                // アプリケーション設定は必ず書き込み、その他の変更された設定を書き込みます
                 AppConfig.store();
-                ShipConfig.store();
-                ShipGroupConfig.store();
-                ItemMasterConfig.store();
-                ItemConfig.store();
+                ConfigStore.flush();
+
+                // データを受け取らずに終了した場合も起動時間を出力する
+                StartupTimeline.report();
             } catch (Exception e) {
                 LoggerHolder.LOG.fatal("シャットダウンスレッドで異常終了しました", e);
             }
@@ -152,12 +153,19 @@ public final class ApplicationMain {
             // グループ化のためのアプリケーションID (Windows 7以降)
             Display.setAppName(AppConstants.NAME);
             // 設定読み込み
+            StartupTimeline.begin(StartupTimeline.CONFIG);
             AppConfig.load();
+            StartupTimeline.end(StartupTimeline.CONFIG);
+            // プロキシサーバーからのエラー表示がUIスレッドで行われるように先にDisplayを作成する
+            StartupTimeline.begin(StartupTimeline.SWT_INIT);
+            Display.getDefault();
+            StartupTimeline.end(StartupTimeline.SWT_INIT);
+            // プロキシサーバーを画面の作成と並行して開始する
+            ExecutorService service = ThreadManager.getExecutorService();
+            service.submit(new ProxyServer(AppConfig.get().getListenPort()));
             ShipGroupConfig.load();
             // lazy load
-            ExecutorService service = ThreadManager.getExecutorService();
-            service.submit(() -> ShipConfig.load());
-            service.submit(() -> ItemMasterConfig.load());
+            service.submit(() -> MasterSnapshot.load());
             service.submit(() -> ItemConfig.load());
             // シャットダウンフックを登録します
             Runtime.getRuntime().addShutdownHook(new Thread(new ShutdownHookThread()));
@@ -182,9 +190,11 @@ public final class ApplicationMain {
     public void open() {
         try {
             Display display = Display.getDefault();
+            StartupTimeline.begin(StartupTimeline.WIDGETS);
             this.createContents();
             this.shell.open();
             this.shell.layout();
+            StartupTimeline.end(StartupTimeline.WIDGETS);
             while (!this.shell.isDisposed()) {
                 if (!display.readAndDispatch()) {
                     display.sleep();
@@ -635,14 +645,12 @@ public final class ApplicationMain {
     private void startThread() {
         ScheduledExecutorService executor = ThreadManager.getExecutorService();
 
-        // プロキシサーバーを開始する
-        executor.submit(new ProxyServer(AppConfig.get().getListenPort(), this.shell));
         // 非同期で画面を更新するスレッド
         executor.scheduleAtFixedRate(new AsyncExecApplicationMain(this), 0, 1, TimeUnit.SECONDS);
         // 非同期でログを出すスレッド
         executor.scheduleWithFixedDelay(new AsyncExecConsole(this.console), 0, 500, TimeUnit.MILLISECONDS);
         // サウンドを出すスレッド
-        executor.scheduleWithFixedDelay(new PlayerThread(), 0, 500, TimeUnit.MILLISECONDS);
+        PlayerThread.startPlayer();
         // アップデートチェックする
         if (AppConfig.get().isCheckUpdate()) {
             executor.submit(new AsyncExecUpdateCheck(this.shell));
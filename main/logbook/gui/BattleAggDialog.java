@@ -1,8 +1,5 @@
 package logbook.gui;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -11,7 +8,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Stream;
 
-import logbook.config.AppConfig;
 import logbook.constants.AppConstants;
 import logbook.dto.BattleAggDetailsDto;
 import logbook.dto.BattleAggUnitDto;
@@ -22,6 +18,7 @@ import logbook.gui.listener.TreeToClipboardAdapter;
 import logbook.gui.logic.LayoutLogic;
 import logbook.internal.BattleAggDate;
 import logbook.internal.BattleAggUnit;
+import logbook.util.ReportArchive;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateUtils;
@@ -245,11 +242,8 @@ public class BattleAggDialog extends Dialog {
         Calendar min = lastMonth;
 
         // 海戦・ドロップ報告書読み込み
-        Path report = Paths.get(AppConfig.get().getReportPath(), AppConstants.LOG_BATTLE_RESULT);
-
-        try (Stream<String> stream = Files.lines(report, AppConstants.CHARSET)) {
-            stream.skip(1)
-                    .map(BattleResult::new)
+        try (Stream<String> stream = ReportArchive.lines(AppConstants.LOG_BATTLE_RESULT, min.getTime())) {
+            stream.map(BattleResult::new)
                     .filter(e -> e.date != null)
                     .filter(e -> min.compareTo(e.date) <= 0)
                     .forEach(e -> {
@@ -3,18 +3,13 @@ package logbook.gui;
 import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
-import java.util.List;
+import java.util.Date;
 
 import logbook.constants.AppConstants;
-import logbook.dto.BattleDto;
-import logbook.dto.BattleResultDto;
-import logbook.dto.DockDto;
-import logbook.dto.ItemDto;
-import logbook.dto.ShipDto;
-import logbook.dto.ShipInfoDto;
+import logbook.dto.BattleRecordDto;
+import logbook.thread.ThreadManager;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
@@ -39,14 +34,14 @@ public final class BattleDialog extends Dialog {
 
     private Shell shell;
 
-    private final BattleResultDto result;
+    private final BattleRecordDto result;
 
     /**
      * Create the dialog.
      * @param parent
      * @param result
      */
-    public BattleDialog(Shell parent, BattleResultDto result) {
+    public BattleDialog(Shell parent, BattleRecordDto result) {
         super(parent, SWT.CLOSE | SWT.TITLE | SWT.MIN | SWT.RESIZE);
         this.result = result;
     }
@@ -79,7 +74,7 @@ public final class BattleDialog extends Dialog {
         String fontName = fontData.getName();
         int size = fontData.getHeight();
 
-        BattleDto battle = this.result.getBattleDto();
+        BattleRecordDto battle = this.result;
 
         // タイトル
         Label lblTitle = new Label(this.shell, SWT.NONE);
@@ -95,18 +90,14 @@ public final class BattleDialog extends Dialog {
         fComposite.setLayout(new GridLayout(10, false));
 
         // 味方艦隊
-        List<DockDto> docks = battle.getFriends();
-        for (int i = 0; i < docks.size(); i++) {
-            DockDto dock = docks.get(i);
-            List<ShipDto> ships = dock.getShips();
-
+        for (int i = 0; i < battle.getDockCount(); i++) {
             Label lblfName = new Label(fComposite, SWT.NONE);
             lblfName.setLayoutData(new GridData(SWT.LEFT, SWT.CENTER, false, false, 10, 1));
             lblfName.setFont(SWTResourceManager.getFont(fontName, size, SWT.BOLD));
             if (i == 0) {
-                lblfName.setText(dock.getName() + "(" + battle.getFriendFormation() + ")");
+                lblfName.setText(battle.getDockName(i) + "(" + battle.getFriendFormation() + ")");
             } else {
-                lblfName.setText(dock.getName());
+                lblfName.setText(battle.getDockName(i));
             }
 
             new Label(fComposite, SWT.NONE);
@@ -165,24 +156,22 @@ public final class BattleDialog extends Dialog {
             gdfItem6.widthHint = 100;
             lblfItem6.setLayoutData(gdfItem6);
 
-            for (int j = 0; j < ships.size(); j++) {
-                ShipDto ship = ships.get(j);
-
+            for (int j = 0; j < battle.getFriendCount(i); j++) {
                 Label lblLv = new Label(fComposite, SWT.NONE);
-                lblLv.setText(ship.getName() + "(Lv" + ship.getLv() + ")");
+                lblLv.setText(battle.getFriendName(i, j));
 
                 Label lblHp = new Label(fComposite, SWT.NONE);
-                lblHp.setText(ship.getNowhp() + "/" + ship.getMaxhp());
+                lblHp.setText(battle.getFriendNowHp(i, j) + "/" + battle.getFriendMaxHp(i, j));
 
                 Label lblCond = new Label(fComposite, SWT.NONE);
                 lblCond.setLayoutData(new GridData(SWT.RIGHT, SWT.CENTER, false, false, 1, 1));
-                lblCond.setText(Long.toString(ship.getCond()));
+                lblCond.setText(Integer.toString(battle.getFriendCond(i, j)));
 
                 Label lblSeiku = new Label(fComposite, SWT.NONE);
                 lblSeiku.setLayoutData(new GridData(SWT.RIGHT, SWT.CENTER, false, false, 1, 1));
-                lblSeiku.setText(Long.toString(ship.getSeiku()));
+                lblSeiku.setText(Integer.toString(battle.getFriendSeiku(i, j)));
 
-                List<String> slots = ship.getSlot();
+                String[] slots = battle.getFriendSlot(i, j);
 
                 for (String name : slots) {
                     Label lblSlot = new Label(fComposite, SWT.NONE);
@@ -244,31 +233,16 @@ public final class BattleDialog extends Dialog {
         gdeItem5.widthHint = 100;
         lbleItem5.setLayoutData(gdeItem5);
 
-        List<ShipInfoDto> enemyships = battle.getEnemy();
-        List<ItemDto[]> enemySlots = battle.getEnemySlot();
-
-        for (int i = 0; i < enemyships.size(); i++) {
-            ShipInfoDto ship = enemyships.get(i);
-            ItemDto[] slot = enemySlots.get(i);
-
-            String name = ship.getName();
-            if (!StringUtils.isEmpty(ship.getFlagship())) {
-                name += "(" + ship.getFlagship() + ")";
-            }
-
+        for (int i = 0; i < battle.getEnemyCount(); i++) {
             Label lblName = new Label(eComposite, SWT.NONE);
-            lblName.setText(name);
+            lblName.setText(battle.getEnemyShipName(i));
 
             Label lblHp = new Label(eComposite, SWT.NONE);
-            lblHp.setText(battle.getNowEnemyHp()[i] + "/" + battle.getMaxEnemyHp()[i]);
+            lblHp.setText(battle.getEnemyNowHp(i) + "/" + battle.getEnemyMaxHp(i));
 
-            for (int j = 0; j < slot.length; j++) {
+            for (String name : battle.getEnemySlot(i)) {
                 Label lblSlot = new Label(eComposite, SWT.NONE);
-                if (slot[j] != null) {
-                    lblSlot.setText(slot[j].getName());
-                } else {
-                    lblSlot.setText("");
-                }
+                lblSlot.setText(name);
             }
         }
 
@@ -284,9 +258,9 @@ public final class BattleDialog extends Dialog {
         // 文書を用意する
         // freemarker使いたい
 
-        BattleDto battle = this.result.getBattleDto();
+        BattleRecordDto battle = this.result;
 
-        String time = new SimpleDateFormat(AppConstants.DATE_FORMAT).format(this.result.getBattleDate());
+        String time = new SimpleDateFormat(AppConstants.DATE_FORMAT).format(new Date(this.result.getBattleDate()));
         StringBuilder sb = new StringBuilder();
         sb.append("<!DOCTYPE html>").append("\r\n");
         sb.append("<html>").append("\r\n");
@@ -306,17 +280,15 @@ public final class BattleDialog extends Dialog {
                 + battle.getIntercept() + ")(" + time + ")</strong>").append("\r\n");
         sb.append(" <hr>").append("\r\n");
 
-        List<DockDto> docks = battle.getFriends();
-        for (int i = 0; i < docks.size(); i++) {
-            DockDto dock = docks.get(i);
-            List<ShipDto> ships = dock.getShips();
+        for (int i = 0; i < battle.getDockCount(); i++) {
             sb.append(" <table>").append("\r\n");
             if (i == 0) {
                 sb.append(
-                        "     <caption>" + dock.getName() + "(" + battle.getFriendFormation() + ")" + "</caption>")
+                        "     <caption>" + battle.getDockName(i) + "(" + battle.getFriendFormation() + ")"
+                                + "</caption>")
                         .append("\r\n");
             } else {
-                sb.append("     <caption>" + dock.getName() + "</caption>").append("\r\n");
+                sb.append("     <caption>" + battle.getDockName(i) + "</caption>").append("\r\n");
             }
             sb.append("     <thead>").append("\r\n");
             sb.append("         <tr>").append("\r\n");
@@ -334,17 +306,16 @@ public final class BattleDialog extends Dialog {
             sb.append("     </thead>").append("\r\n");
             sb.append("     <tbody>").append("\r\n");
 
-            for (int j = 0; j < ships.size(); j++) {
-                ShipDto ship = ships.get(j);
-
+            for (int j = 0; j < battle.getFriendCount(i); j++) {
                 sb.append("         <tr>").append("\r\n");
-                sb.append("             <td>" + ship.getName() + "(Lv" + ship.getLv() + ")" + "</td>").append(
-                        "\r\n");
-                sb.append("             <td>" + ship.getNowhp() + "/" + ship.getMaxhp() + "</td>").append("\r\n");
-                sb.append("             <td>" + Long.toString(ship.getCond()) + "</td>").append("\r\n");
-                sb.append("             <td>" + Long.toString(ship.getSeiku()) + "</td>").append("\r\n");
+                sb.append("             <td>" + battle.getFriendName(i, j) + "</td>").append("\r\n");
+                sb.append("             <td>" + battle.getFriendNowHp(i, j) + "/" + battle.getFriendMaxHp(i, j)
+                        + "</td>").append("\r\n");
+                sb.append("             <td>" + Integer.toString(battle.getFriendCond(i, j)) + "</td>").append("\r\n");
+                sb.append("             <td>" + Integer.toString(battle.getFriendSeiku(i, j)) + "</td>")
+                        .append("\r\n");
 
-                List<String> slots = ship.getSlot();
+                String[] slots = battle.getFriendSlot(i, j);
                 for (String name : slots) {
                     sb.append("             <td>" + name + "</td>").append("\r\n");
                 }
@@ -371,27 +342,13 @@ public final class BattleDialog extends Dialog {
         sb.append("     </thead>").append("\r\n");
         sb.append("     <tbody>").append("\r\n");
 
-        List<ShipInfoDto> enemyships = battle.getEnemy();
-        List<ItemDto[]> enemySlots = battle.getEnemySlot();
-        for (int i = 0; i < enemyships.size(); i++) {
-            ShipInfoDto ship = enemyships.get(i);
-            ItemDto[] slot = enemySlots.get(i);
-
-            String name = ship.getName();
-            if (!StringUtils.isEmpty(ship.getFlagship())) {
-                name += "(" + ship.getFlagship() + ")";
-            }
-
+        for (int i = 0; i < battle.getEnemyCount(); i++) {
             sb.append("         <tr>").append("\r\n");
-            sb.append("             <td>" + name + "</td>").append("\r\n");
-            sb.append("             <td>" + battle.getNowEnemyHp()[i] + "/" + battle.getMaxEnemyHp()[i] + "</td>")
+            sb.append("             <td>" + battle.getEnemyShipName(i) + "</td>").append("\r\n");
+            sb.append("             <td>" + battle.getEnemyNowHp(i) + "/" + battle.getEnemyMaxHp(i) + "</td>")
                     .append("\r\n");
-            for (int j = 0; j < slot.length; j++) {
-                if (slot[j] != null) {
-                    sb.append("             <td>" + slot[j].getName() + "</td>").append("\r\n");
-                } else {
-                    sb.append("             <td></td>").append("\r\n");
-                }
+            for (String name : battle.getEnemySlot(i)) {
+                sb.append("             <td>" + name + "</td>").append("\r\n");
             }
             sb.append("         </tr>").append("\r\n");
         }
@@ -427,14 +384,24 @@ public final class BattleDialog extends Dialog {
                         return;
                     }
                 }
-                try {
-                    FileUtils.writeStringToFile(file, BattleDialog.this.getHtml(), "UTF-8");
-                } catch (IOException ex) {
-                    MessageBox messageBox = new MessageBox(BattleDialog.this.shell, SWT.ICON_ERROR);
-                    messageBox.setText("書き込めませんでした");
-                    messageBox.setMessage(ex.toString());
-                    messageBox.open();
-                }
+                // 文書の作成だけUIスレッドで行い、書き込みはバックグラウンドで行う
+                String html = BattleDialog.this.getHtml();
+                Shell shell = BattleDialog.this.shell;
+                ThreadManager.getExecutorService().execute(() -> {
+                    try {
+                        FileUtils.writeStringToFile(file, html, "UTF-8");
+                    } catch (IOException ex) {
+                        Display.getDefault().asyncExec(() -> {
+                            if (shell.isDisposed()) {
+                                return;
+                            }
+                            MessageBox messageBox = new MessageBox(shell, SWT.ICON_ERROR);
+                            messageBox.setText("書き込めませんでした");
+                            messageBox.setMessage(ex.toString());
+                            messageBox.open();
+                        });
+                    }
+                });
             }
         }
 
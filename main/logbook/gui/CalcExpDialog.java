@@ -8,7 +8,6 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.swt.SWT;
@@ -147,14 +146,14 @@ public final class CalcExpDialog extends Dialog {
         Label label7 = new Label(plan2, SWT.NONE);
         label7.setText("海域");
         this.seacombo = new Combo(plan2, SWT.READ_ONLY);
-        for (Entry<String, Integer> entry : SeaExp.get().entrySet()) {
-            this.seacombo.add(entry.getKey());
+        for (String sea : SeaExp.getNames()) {
+            this.seacombo.add(sea);
         }
         Label label8 = new Label(plan2, SWT.NONE);
         label8.setText("評価");
         this.evalcombo = new Combo(plan2, SWT.READ_ONLY);
-        for (Entry<String, Double> entry : EvaluateExp.get().entrySet()) {
-            this.evalcombo.add(entry.getKey());
+        for (String eval : EvaluateExp.getNames()) {
+            this.evalcombo.add(eval);
         }
 
         Composite plan3 = new Composite(this.shell, SWT.NONE);
@@ -249,7 +248,7 @@ public final class CalcExpDialog extends Dialog {
                 after = Math.min(after, 155);
 
                 String beforeexpstr = Long.toString(ship.getExp());
-                String afterexpstr = Long.toString(ExpTable.get().get(after));
+                String afterexpstr = Long.toString(ExpTable.getExp(after));
 
                 this.beforelv.setSelection(before);
                 this.afterlv.setSelection(after);
@@ -270,9 +269,9 @@ public final class CalcExpDialog extends Dialog {
         // 必要経験値
         int needexpint = Integer.parseInt(this.afterexp.getText()) - Integer.parseInt(this.beforexp.getText());
         // 基礎経験値
-        int baseexp = SeaExp.get().get(this.seacombo.getItem(this.seacombo.getSelectionIndex()));
+        int baseexp = SeaExp.getExp(this.seacombo.getItem(this.seacombo.getSelectionIndex()));
         // 評価
-        double eval = EvaluateExp.get().get(this.evalcombo.getItem(this.evalcombo.getSelectionIndex()));
+        double eval = EvaluateExp.getRate(this.evalcombo.getItem(this.evalcombo.getSelectionIndex()));
         // 得られる経験値
         long getexp = CalcExpUtils.getExp(baseexp, eval, this.flagbtn.getSelection(), this.mvpbtn.getSelection());
         // 戦闘回数
@@ -405,7 +404,7 @@ public final class CalcExpDialog extends Dialog {
 
         @Override
         public void widgetSelected(SelectionEvent e) {
-            String beforeexpstr = Long.toString(ExpTable.get().get(this.beforelv.getSelection()));
+            String beforeexpstr = Long.toString(ExpTable.getExp(this.beforelv.getSelection()));
             this.beforexp.setText(beforeexpstr);
             CalcExpDialog.this.calc();
         }
@@ -430,7 +429,7 @@ public final class CalcExpDialog extends Dialog {
 
         @Override
         public void widgetSelected(SelectionEvent e) {
-            String afterexpstr = Long.toString(ExpTable.get().get(this.afterlv.getSelection()));
+            String afterexpstr = Long.toString(ExpTable.getExp(this.afterlv.getSelection()));
             this.afterexp.setText(afterexpstr);
             CalcExpDialog.this.calc();
         }
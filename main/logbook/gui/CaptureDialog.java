@@ -1,30 +1,11 @@
 package logbook.gui;
 
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.Timer;
-import java.util.TimerTask;
-
-import javax.imageio.IIOImage;
-import javax.imageio.ImageIO;
-import javax.imageio.ImageWriteParam;
-import javax.imageio.ImageWriter;
-import javax.imageio.stream.ImageOutputStream;
-
-import logbook.config.AppConfig;
-import logbook.constants.AppConstants;
+import java.text.MessageFormat;
+
 import logbook.gui.listener.SelectedListener;
+import logbook.gui.logic.CapturePipeline;
 import logbook.gui.logic.LayoutLogic;
-import logbook.util.AwtUtils;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
@@ -50,10 +31,8 @@ import org.eclipse.swt.widgets.Text;
  */
 public final class CaptureDialog extends Dialog {
 
-    private static class LoggerHolder {
-        /** ロガー */
-        private static final Logger LOG = LogManager.getLogger(CaptureDialog.class);
-    }
+    /** 周期キャプチャの状況を更新する間隔(ミリ秒) */
+    private static final int STATUS_INTERVAL = 1000;
 
     private Shell shell;
 
@@ -61,10 +40,11 @@ public final class CaptureDialog extends Dialog {
     private Text text;
     private Button capture;
     private Button interval;
+    private Button record;
     private Spinner intervalms;
 
     private Rectangle rectangle;
-    private Timer timer;
+    private CapturePipeline pipeline;
     private boolean isAlive;
 
     private Font font;
@@ -93,9 +73,9 @@ public final class CaptureDialog extends Dialog {
                 }
             }
         } finally {
-            // タイマーを停止させる
-            if (this.timer != null) {
-                this.timer.cancel();
+            // キャプチャを停止させる
+            if (this.pipeline != null) {
+                this.pipeline.stop();
             }
             // フォントを開放
             if (this.font != null) {
@@ -161,6 +141,13 @@ public final class CaptureDialog extends Dialog {
         Label label = new Label(this.composite, SWT.NONE);
         label.setText("ミリ秒");
 
+        // 周期キャプチャを1つの動画ファイルに記録する
+        this.record = new Button(this.composite, SWT.CHECK);
+        this.record.setText("動画(AVI)で保存");
+        GridData gdRecord = new GridData();
+        gdRecord.horizontalSpan = 3;
+        this.record.setLayoutData(gdRecord);
+
         this.capture = new Button(this.shell, SWT.NONE);
         this.capture.setFont(this.font);
         GridData gdCapture = new GridData(GridData.FILL_HORIZONTAL | GridData.FILL_VERTICAL);
@@ -174,6 +161,25 @@ public final class CaptureDialog extends Dialog {
         this.shell.pack();
     }
 
+    /**
+     * 周期キャプチャの状況をタイトルに表示します
+     *
+     * @param pipeline 周期キャプチャ
+     */
+    private void showStatus(CapturePipeline pipeline) {
+        if (this.shell.isDisposed()) {
+            return;
+        }
+        if (this.pipeline != pipeline) {
+            // 停止した
+            this.shell.setText(this.getText());
+            return;
+        }
+        this.shell.setText(MessageFormat.format("{0} (保存:{1} 待ち:{2} 破棄:{3} 省略:{4})", this.getText(),
+                pipeline.getWritten(), pipeline.getQueued(), pipeline.getDropped(), pipeline.getSkipped()));
+        Display.getDefault().timerExec(STATUS_INTERVAL, () -> this.showStatus(pipeline));
+    }
+
     /**
      * キャプチャボタンの文字を取得します
      *
@@ -244,16 +250,17 @@ public final class CaptureDialog extends Dialog {
 
         @Override
         public void widgetSelected(SelectionEvent e) {
-            Timer timer = CaptureDialog.this.timer;
+            CapturePipeline pipeline = CaptureDialog.this.pipeline;
 
             Rectangle rectangle = CaptureDialog.this.rectangle;
             boolean interval = CaptureDialog.this.interval.getSelection();
             int intervalms = CaptureDialog.this.intervalms.getSelection();
+            boolean record = CaptureDialog.this.record.getSelection();
 
-            if (timer != null) {
-                // タイマーを停止させる
-                timer.cancel();
-                timer = null;
+            if (pipeline != null) {
+                // キャプチャを停止させる
+                pipeline.stop();
+                pipeline = null;
             }
 
             if (CaptureDialog.this.isAlive) {
@@ -262,14 +269,15 @@ public final class CaptureDialog extends Dialog {
                 LayoutLogic.enable(CaptureDialog.this.composite, true);
                 CaptureDialog.this.isAlive = false;
             } else {
-                timer = new Timer(true);
+                pipeline = new CapturePipeline(rectangle, interval && record);
                 if (interval) {
                     // 固定レートで周期キャプチャ
-                    timer.scheduleAtFixedRate(new CaptureTask(rectangle), 0, intervalms);
+                    pipeline.start(intervalms);
                     CaptureDialog.this.isAlive = true;
+                    CaptureDialog.this.showStatus(pipeline);
                 } else {
                     // 一回だけキャプチャ
-                    timer.schedule(new CaptureTask(rectangle), 0);
+                    pipeline.captureOnce();
                 }
 
                 CaptureDialog.this.capture.setText(getCaptureButtonText(true, interval));
@@ -278,88 +286,7 @@ public final class CaptureDialog extends Dialog {
                     LayoutLogic.enable(CaptureDialog.this.composite, false);
                 }
             }
-            CaptureDialog.this.timer = timer;
-        }
-    }
-
-    /**
-     * 画面キャプチャスレッド
-     *
-     */
-    public static final class CaptureTask extends TimerTask {
-        /** Jpeg品質 */
-        private static final float QUALITY = 0.9f;
-        /** 日付フォーマット(ファイル名) */
-        private SimpleDateFormat fileNameFormat;
-        /** キャプチャ範囲 */
-        private final Rectangle rectangle;
-        /** トリム範囲 */
-        private java.awt.Rectangle trimRect;
-
-        public CaptureTask(Rectangle rectangle) {
-            this.rectangle = rectangle;
-            try {
-                this.fileNameFormat = new SimpleDateFormat(AppConfig.get().getImageNameFormat());
-            } catch (IllegalArgumentException e) {
-                this.fileNameFormat = new SimpleDateFormat(AppConstants.DATE_LONG_FORMAT);
-            }
-        }
-
-        @Override
-        public void run() {
-            try {
-                // 時刻からファイル名を作成
-                Date now = Calendar.getInstance().getTime();
-
-                // 範囲をキャプチャする
-                BufferedImage image = AwtUtils.getCapture(this.rectangle);
-
-                String dir = AppConfig.get().getCapturePath();
-                String name = this.fileNameFormat.format(now) + "." + AppConfig.get().getImageFormat();
-                Path path = Paths.get(dir, name);
-
-                File file = path.toFile();
-
-                if (file.exists()) {
-                    if (file.isDirectory()) {
-                        throw new IOException("File '" + file + "' exists but is a directory");
-                    }
-                    if (!(file.canWrite()))
-                        throw new IOException("File '" + file + "' cannot be written to");
-                } else {
-                    File parent = file.getParentFile();
-                    if ((parent != null) &&
-                            (!(parent.mkdirs())) && (!(parent.isDirectory()))) {
-                        throw new IOException("Directory '" + parent + "' could not be created");
-                    }
-                }
-
-                if (image != null) {
-
-                    try (ImageOutputStream ios = ImageIO.createImageOutputStream(file)) {
-                        ImageWriter writer = ImageIO.getImageWritersByFormatName(AppConfig.get().getImageFormat())
-                                .next();
-                        try {
-                            ImageWriteParam iwp = writer.getDefaultWriteParam();
-                            if (iwp.canWriteCompressed()) {
-                                iwp.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-                                iwp.setCompressionQuality(QUALITY);
-                            }
-                            writer.setOutput(ios);
-
-                            if (this.trimRect == null) {
-                                this.trimRect = AwtUtils.getTrimSize(image);
-                            }
-
-                            writer.write(null, new IIOImage(AwtUtils.trim(image, this.trimRect), null, null), iwp);
-                        } finally {
-                            writer.dispose();
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                LoggerHolder.LOG.warn("キャプチャ中に例外が発生しました", e);
-            }
+            CaptureDialog.this.pipeline = pipeline;
         }
     }
 }
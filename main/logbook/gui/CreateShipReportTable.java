@@ -3,6 +3,7 @@ package logbook.gui;
 import logbook.gui.bean.CreateShipReportBean;
 import logbook.gui.logic.CreateReportLogic;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Shell;
 
 /**
@@ -20,8 +21,8 @@ public final class CreateShipReportTable extends AbstractTableDialogEx<CreateShi
 
     @Override
     protected void createContents() {
-        this.addTable(this.shell)
-                .setContentSupplier(CreateReportLogic::getCreateShipContent)
+        this.addTable(this.shell, SWT.VIRTUAL)
+                .setPager(CreateReportLogic.getCreateShipHistory())
                 .reload()
                 .update();
     }
@@ -1,9 +1,15 @@
 package logbook.gui;
 
+import javax.annotation.CheckForNull;
+
+import logbook.data.context.GlobalContext;
+import logbook.dto.BattleRecordDto;
 import logbook.gui.bean.DropReportBean;
 import logbook.gui.logic.CreateReportLogic;
 import logbook.gui.logic.TableWrapper;
 
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.widgets.Shell;
@@ -23,8 +29,8 @@ public final class DropReportTable extends AbstractTableDialogEx<DropReportBean>
 
     @Override
     protected void createContents() {
-        TableWrapper<DropReportBean> table = this.addTable(this.shell)
-                .setContentSupplier(CreateReportLogic::getBattleResultContent)
+        TableWrapper<DropReportBean> table = this.addTable(this.shell, SWT.VIRTUAL)
+                .setPager(CreateReportLogic.getBattleResultHistory())
                 .reload()
                 .update();
 
@@ -33,12 +39,32 @@ public final class DropReportTable extends AbstractTableDialogEx<DropReportBean>
             public void mouseDoubleClick(MouseEvent e) {
                 DropReportBean[] selection = table.getSelection(DropReportBean[]::new);
                 for (DropReportBean item : selection) {
-                    new BattleDialog(DropReportTable.this.shell, item.getResult()).open();
+                    BattleRecordDto result = item.getRecord() != null ? item.getRecord() : findRecord(item);
+                    if (result != null) {
+                        new BattleDialog(DropReportTable.this.shell, result).open();
+                    }
                 }
             }
         });
     }
 
+    /**
+     * 報告書の行に対応する海戦の記録を起動中にメモリに保持している海戦から探します
+     *
+     * @param item 報告書の行
+     * @return 海戦の記録、見つからない場合null
+     */
+    @CheckForNull
+    private static BattleRecordDto findRecord(DropReportBean item) {
+        for (DropReportBean bean : GlobalContext.getBattleResultList()) {
+            if (StringUtils.equals(bean.getDate(), item.getDate())
+                    && StringUtils.equals(bean.getQuestName(), item.getQuestName())) {
+                return bean.getRecord();
+            }
+        }
+        return null;
+    }
+
     @Override
     protected String getTitle() {
         return "ドロップ報告書";
@@ -5,6 +5,7 @@ import logbook.gui.bean.ItemBean;
 import logbook.gui.logic.CreateReportLogic;
 import logbook.gui.logic.TableWrapper;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.widgets.Shell;
@@ -24,7 +25,7 @@ public final class ItemTable extends AbstractTableDialogEx<ItemBean> {
 
     @Override
     protected void createContents() {
-        TableWrapper<ItemBean> table = this.addTable(this.shell)
+        TableWrapper<ItemBean> table = this.addTable(this.shell, SWT.VIRTUAL)
                 .setContentSupplier(CreateReportLogic::getItemTablecontent)
                 .reload()
                 .update();
@@ -1,25 +1,17 @@
 package logbook.gui;
 
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.MessageFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javafx.application.Platform;
@@ -31,13 +23,14 @@ import javafx.scene.chart.XYChart;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.util.StringConverter;
-import logbook.config.AppConfig;
 import logbook.constants.AppConstants;
 import logbook.gui.listener.SaveWindowLocationAdapter;
 import logbook.gui.listener.SelectedListener;
 import logbook.gui.logic.CreateReportLogic;
 import logbook.gui.logic.LayoutLogic;
+import logbook.gui.logic.MaterialDailyLogic;
 import logbook.util.ImageWriter;
+import logbook.util.ReportArchive;
 
 import org.apache.commons.lang3.time.DateUtils;
 import org.apache.logging.log4j.LogManager;
@@ -79,9 +72,6 @@ public final class ResourceChartDialogEx extends Dialog {
         private static final Logger LOG = LogManager.getLogger(ResourceChartDialogEx.class);
     }
 
-    /** 資材テーブルに表示する資材のフォーマット */
-    private static final String COMPARE_FORMAT = "{0,number,0}({1,number,+0;-0})";
-
     private Shell shell;
     private NumberAxis xaxis;
     private NumberAxis yaxis;
@@ -243,28 +233,30 @@ public final class ResourceChartDialogEx extends Dialog {
             this.fxCanvas.setMenu(menu);
             MenuItem saveimage = new MenuItem(menu, SWT.NONE);
             saveimage.addSelectionListener((SelectedListener) e -> {
-                try {
-                    FileDialog dialog = new FileDialog(this.shell, SWT.SAVE);
-                    dialog.setFileName("資材チャート.png");
-                    dialog.setFilterExtensions(new String[] { "*.png" });
-                    String filename = dialog.open();
-                    if (filename != null) {
-                        Path path = Paths.get(filename);
-                        if (Files.exists(path)) {
-                            MessageBox messageBox = new MessageBox(this.shell, SWT.YES
-                                    | SWT.NO);
-                            messageBox.setText("確認");
-                            messageBox.setMessage("指定されたファイルは存在します。\n上書きしますか？");
-                            if (messageBox.open() == SWT.NO) {
-                                return;
-                            }
+                FileDialog dialog = new FileDialog(this.shell, SWT.SAVE);
+                dialog.setFileName("資材チャート.png");
+                dialog.setFilterExtensions(new String[] { "*.png" });
+                String filename = dialog.open();
+                if (filename != null) {
+                    Path path = Paths.get(filename);
+                    if (Files.exists(path)) {
+                        MessageBox messageBox = new MessageBox(this.shell, SWT.YES
+                                | SWT.NO);
+                        messageBox.setText("確認");
+                        messageBox.setMessage("指定されたファイルは存在します。\n上書きしますか？");
+                        if (messageBox.open() == SWT.NO) {
+                            return;
                         }
-                        new ImageWriter(path)
-                                .format(SWT.IMAGE_PNG)
-                                .write(this.fxCanvas);
                     }
-                } catch (IOException ex) {
-                    LoggerHolder.LOG.warn("資材チャートのイメージを作成中に例外が発生しました", ex);
+                    // 圧縮と書き込みはバックグラウンドで行う
+                    new ImageWriter(path)
+                            .format(SWT.IMAGE_PNG)
+                            .fast()
+                            .writeAsync(this.fxCanvas, ex -> {
+                                if (ex != null) {
+                                    LoggerHolder.LOG.warn("資材チャートのイメージを作成中に例外が発生しました", ex);
+                                }
+                            });
                 }
             });
             saveimage.setText("画像ファイルとして保存");
@@ -284,8 +276,7 @@ public final class ResourceChartDialogEx extends Dialog {
         // 資材ログのテーブル
         this.setTableHeader();
         try {
-            createTableBody(Paths.get(AppConfig.get().getReportPath(),
-                    AppConstants.LOG_RESOURCE), this.body);
+            this.body.addAll(MaterialDailyLogic.getTableBody());
             this.setTableBody();
             this.packTableHeader();
         } catch (Exception e) {
@@ -353,10 +344,8 @@ public final class ResourceChartDialogEx extends Dialog {
         List<XYChart.Data<Number, Number>> burnerList = new ArrayList<>();
         List<XYChart.Data<Number, Number>> researchList = new ArrayList<>();
         try {
-            try (Stream<String> stream = Files.lines(
-                    Paths.get(AppConfig.get().getReportPath(), AppConstants.LOG_RESOURCE), AppConstants.CHARSET)) {
-                stream.skip(1)
-                        .map(Log::new)
+            try (Stream<String> stream = ReportArchive.lines(AppConstants.LOG_RESOURCE, from)) {
+                stream.map(Log::new)
                         .filter(e -> e.date != null)
                         .filter(e -> e.date.compareTo(from) >= 0)
                         .filter(e -> e.date.compareTo(to) < 0)
@@ -457,67 +446,6 @@ public final class ResourceChartDialogEx extends Dialog {
         }
     }
 
-    /**
-     * 資材テーブルのボディを作成する
-     *
-     * @param log 資材ログ
-     * @param body テーブルボディ
-     * @throws IOException
-     */
-    private static void createTableBody(Path path, List<String[]> body) throws IOException {
-
-        SimpleDateFormat format = new SimpleDateFormat(AppConstants.DATE_DAYS_FORMAT);
-        format.setTimeZone(AppConstants.TIME_ZONE_MISSION);
-
-        try (Stream<String> stream = Files.lines(path, AppConstants.CHARSET)) {
-            BiConsumer<Map<String, Log>, Log> accumulator = (t, u) -> {
-                String key = format.format(u.date);
-                Log get = t.get(key);
-                if ((get == null) || (get.date.compareTo(u.date) < 0))
-                    t.put(key, u);
-            };
-            BiConsumer<Map<String, Log>, Map<String, Log>> combiner = (t, u) -> {
-                for (Entry<String, Log> entry : u.entrySet()) {
-                    String key = format.format(entry.getValue().date);
-                    Log get = t.get(key);
-                    if ((get == null) || (get.date.compareTo(entry.getValue().date) < 0))
-                        t.put(key, entry.getValue());
-                }
-            };
-            List<Entry<String, Log>> list = stream.skip(1)
-                    .map(Log::new)
-                    .filter(e -> e.date != null)
-                    .collect(HashMap<String, Log>::new, accumulator, combiner)
-                    .entrySet()
-                    .stream()
-                    .sorted((a, b) -> a.getKey().compareTo(b.getKey()))
-                    .collect(Collectors.toList());
-
-            MessageFormat compare = new MessageFormat(COMPARE_FORMAT);
-            Log before = null;
-            for (Entry<String, Log> entry : list) {
-                Log val = entry.getValue();
-                int[] material = { val.fuel, val.ammo, val.metal, val.bauxite, val.bucket, val.burner, val.research };
-                int[] materialCompare = new int[material.length];
-                if (before != null) {
-                    int[] materialBefore = { before.fuel, before.ammo, before.metal, before.bauxite, before.bucket,
-                            before.burner, before.research };
-                    for (int i = 0; i < material.length; i++) {
-                        materialCompare[i] = material[i] - materialBefore[i];
-                    }
-                }
-                before = val;
-                String[] line = new String[material.length + 1];
-                line[0] = entry.getKey();
-                for (int i = 0; i < material.length; i++) {
-                    line[i + 1] = compare.format(new Object[] { material[i], materialCompare[i] });
-                }
-                body.add(line);
-            }
-        }
-        Collections.reverse(body);
-    }
-
     /**
      * DateTimeで選択されている日付からCalendarインスタンスを作成します
      *
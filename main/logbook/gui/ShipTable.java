@@ -46,7 +46,7 @@ import logbook.gui.logic.ShipFilterLogic;
 import logbook.gui.logic.TableItemDecorator;
 import logbook.gui.logic.TableWrapper;
 import logbook.internal.ExpTable;
-import logbook.util.SwtUtils;
+import logbook.util.GaugeCache;
 
 /**
  * 所有艦娘一覧テーブル
@@ -66,8 +66,8 @@ public final class ShipTable extends AbstractTableDialogEx<ShipBean> {
     /** グループ */
     private final List<ShipGroupBean> groups = ShipGroupConfig.get().getGroup();
 
-    /** HPゲージのキャッシュ */
-    private final Map<Integer, Image> cache = new HashMap<>();
+    /** このダイアログで使用しているゲージイメージ */
+    private final Set<Image> gauges = new HashSet<>();
 
     /** 表示する内容 */
     private DisplayType displayType = DisplayType.NORMAL;
@@ -98,8 +98,8 @@ public final class ShipTable extends AbstractTableDialogEx<ShipBean> {
         // メニューバーのセット
         this.setMenuBar();
 
-        // イメージ破棄のリスナー
-        this.shell.addDisposeListener(e -> this.cache.forEach((k, v) -> v.dispose()));
+        // ゲージイメージ返却のリスナー
+        this.shell.addDisposeListener(e -> this.gauges.forEach(GaugeCache::release));
 
         // タブ
         this.tabFolder = new CTabFolder(this.shell, SWT.BORDER);
@@ -116,10 +116,10 @@ public final class ShipTable extends AbstractTableDialogEx<ShipBean> {
         tabItem.setControl(composite);
         composite.setLayout(new FillLayout(SWT.HORIZONTAL));
 
-        TableWrapper<ShipBean> table = this.addTable(composite);
+        TableWrapper<ShipBean> table = this.addTable(composite, SWT.VIRTUAL);
         table.setContentSupplier(this::getShipContent)
                 .setFilter(new ShipFilterLogic(this.filters.get(0)))
-                .setDecorator(new ShipTableItemCreator(table, this.cache))
+                .setDecorator(new ShipTableItemCreator(table))
                 .reload()
                 .update();
         // 右クリックメニューのセット
@@ -140,10 +140,10 @@ public final class ShipTable extends AbstractTableDialogEx<ShipBean> {
             tabItemSub.setControl(compositeSub);
             compositeSub.setLayout(new FillLayout(SWT.HORIZONTAL));
 
-            table = this.addTable(compositeSub);
+            table = this.addTable(compositeSub, SWT.VIRTUAL);
             table.setContentSupplier(this::getShipContent)
                     .setFilter(new ShipFilterLogic(filter))
-                    .setDecorator(new ShipTableItemCreator(table, this.cache))
+                    .setDecorator(new ShipTableItemCreator(table))
                     .reload()
                     .update();
             // 右クリックメニューのセット
@@ -363,62 +363,52 @@ public final class ShipTable extends AbstractTableDialogEx<ShipBean> {
     }
 
     /**
-     * HPのゲージイメージを作成します
+     * HPのゲージイメージを取得します
      *
      * @param ship 艦娘
      * @return ゲージイメージ
      */
-    private static Image hpGauge(ShipDto ship, Map<Integer, Image> cache) {
+    private Image hpGauge(ShipDto ship) {
         // 割合
         float ratio = (float) ship.getNowhp() / (float) ship.getMaxhp();
-        // キャッシュのキー (実線の幅)
-        Integer key = cacheKey(0, (int) (ratio * GAUGE_WIDTH));
-        Image gauge = cache.get(key);
-        if (gauge == null) {
-            RGB background = new RGB(255, 255, 255);
-            gauge = SwtUtils.gaugeImage(ratio, GAUGE_WIDTH, GAUGE_HEIGHT,
-                    background,
-                    AppConstants.HP_EMPTY_COLOR, AppConstants.HP_HALF_COLOR, AppConstants.HP_FULL_COLOR);
-            cache.put(key, gauge);
-        }
-        return gauge;
+        RGB background = new RGB(255, 255, 255);
+        return this.hold(GaugeCache.gauge(ratio, GAUGE_WIDTH, GAUGE_HEIGHT,
+                background,
+                AppConstants.HP_EMPTY_COLOR, AppConstants.HP_HALF_COLOR, AppConstants.HP_FULL_COLOR));
     }
 
     /**
-     * 経験値のゲージイメージを作成します
+     * 経験値のゲージイメージを取得します
      *
      * @param ship 艦娘
      * @return ゲージイメージ
      */
-    private static Image totalExpGauge(ShipDto ship, Map<Integer, Image> cache) {
+    private Image totalExpGauge(ShipDto ship) {
         // Max経験値の基準Lv
         int targetLv = ship.getLv() > 100 ? 155 : 100;
-        long maxExp = ExpTable.get().get(targetLv);
+        long maxExp = ExpTable.getExp(targetLv);
         // 割合
         float ratio = (float) ship.getExp() / (float) maxExp;
-        // キャッシュのキー
-        Integer key = cacheKey(2, (int) (ratio * GAUGE_WIDTH), targetLv);
-        Image gauge = cache.get(key);
-        if (gauge == null) {
-            // ゲージの色を100以上なら緑、99以下なら青にする
-            RGB color = ship.getLv() > 100 ? AppConstants.HP_FULL_COLOR : AppConstants.EXP_COLOR;
-            RGB background = new RGB(255, 255, 255);
-            gauge = SwtUtils.gaugeImage(ratio, GAUGE_WIDTH, GAUGE_HEIGHT,
-                    background,
-                    color);
-            cache.put(key, gauge);
-        }
-        return gauge;
+        // ゲージの色を100以上なら緑、99以下なら青にする
+        RGB color = ship.getLv() > 100 ? AppConstants.HP_FULL_COLOR : AppConstants.EXP_COLOR;
+        RGB background = new RGB(255, 255, 255);
+        return this.hold(GaugeCache.gauge(ratio, GAUGE_WIDTH, GAUGE_HEIGHT,
+                background,
+                color));
     }
 
     /**
-     * キャッシュのキー
+     * ゲージイメージをダイアログが閉じられるまで保持します
      *
-     * @param keys
-     * @return
+     * @param gauge {@link GaugeCache}から取得したゲージイメージ
+     * @return ゲージイメージ
      */
-    private static int cacheKey(int... keys) {
-        return Arrays.hashCode(keys);
+    private Image hold(Image gauge) {
+        if (!this.gauges.add(gauge)) {
+            // 既に保持している場合は参照を1つにする
+            GaugeCache.release(gauge);
+        }
+        return gauge;
     }
 
     /**
@@ -430,12 +420,10 @@ public final class ShipTable extends AbstractTableDialogEx<ShipBean> {
 
         private final Set<Long> ndocks;
 
-        private final Map<Integer, Image> cache;
-
         private final int indexHp;
         private final int indexExp;
 
-        public ShipTableItemCreator(TableWrapper<ShipBean> table, Map<Integer, Image> cache) {
+        public ShipTableItemCreator(TableWrapper<ShipBean> table) {
             // 遠征中の艦娘たち
             this.deckmissions = Stream.of(GlobalContext.getDeckMissions())
                     .filter(e -> (e.getMission() != null) && (e.getShips() != null))
@@ -446,7 +434,6 @@ public final class ShipTable extends AbstractTableDialogEx<ShipBean> {
                     .filter(e -> e.getNdockid() != 0)
                     .map(NdockDto::getNdockid)
                     .collect(Collectors.toSet());
-            this.cache = cache;
             this.indexHp = table.getColumnIndex("HP") + 1;
             this.indexExp = table.getColumnIndex("経験値") + 1;
         }
@@ -487,9 +474,17 @@ public final class ShipTable extends AbstractTableDialogEx<ShipBean> {
                 item.setForeground(null);
             }
             // HPのゲージイメージ
-            item.setImage(this.indexHp, ShipTable.hpGauge(ship, this.cache));
+            item.setImage(this.indexHp, ShipTable.this.hpGauge(ship));
             // 経験値のゲージイメージ
-            item.setImage(this.indexExp, ShipTable.totalExpGauge(ship, this.cache));
+            item.setImage(this.indexExp, ShipTable.this.totalExpGauge(ship));
+        }
+
+        @Override
+        public Object getState(ShipBean bean, int index) {
+            ShipDto ship = bean.getShip();
+            return Arrays.asList((index % 2) != 0, ship.getLocked(), this.ndocks.contains(ship.getId()),
+                    this.deckmissions.contains(ship.getId()), ship.getCond(), ship.getNowhp(), ship.getMaxhp(),
+                    ship.getLv(), ship.getExp());
         }
     }
 
@@ -2,10 +2,11 @@ package logbook.gui;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import logbook.gui.listener.SelectedListener;
-import logbook.thread.ThreadManager;
+import logbook.thread.DeadlineScheduler;
+import logbook.thread.DeadlineScheduler.Deadline;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.layout.GridData;
@@ -14,21 +15,34 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Dialog;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.MessageBox;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Text;
 
 /**
  * タイマー設定ダイアログ
- *
+ * <p>
+ * 予約済みのタイマーの一覧を表示し、選択したタイマーを取り消すこともできます。
+ * </p>
  */
 public final class TimerSettingDialog extends Dialog {
 
+    /** {@link DeadlineScheduler}に登録するタイマーのキー */
+    public static final String TIMER_KEY = "timer.";
+
+    /** タイマーの番号 */
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
     private Shell shell;
     private Date time;
     private String message;
     private Text messageText;
+    private Table timerTable;
 
     /**
      * Create the dialog.
@@ -86,6 +100,31 @@ public final class TimerSettingDialog extends Dialog {
         this.messageText.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 1, 1));
         this.messageText.setText(this.message);
 
+        // 予約済みのタイマー
+        Group timerGroup = new Group(this.shell, SWT.NONE);
+        timerGroup.setText("予約済みのタイマー");
+        timerGroup.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true, 1, 1));
+        timerGroup.setLayout(new GridLayout(1, false));
+
+        this.timerTable = new Table(timerGroup, SWT.BORDER | SWT.FULL_SELECTION | SWT.MULTI);
+        GridData gdTimerTable = new GridData(SWT.FILL, SWT.FILL, true, true, 1, 1);
+        gdTimerTable.heightHint = 80;
+        this.timerTable.setLayoutData(gdTimerTable);
+        this.timerTable.setHeaderVisible(true);
+        new TableColumn(this.timerTable, SWT.LEFT).setText("時刻");
+        new TableColumn(this.timerTable, SWT.LEFT).setText("メッセージ");
+
+        Button cancelTimerButton = new Button(timerGroup, SWT.NONE);
+        cancelTimerButton.setLayoutData(new GridData(SWT.RIGHT, SWT.CENTER, false, false, 1, 1));
+        cancelTimerButton.setText("選択したタイマーを取り消す(&D)");
+        cancelTimerButton.addSelectionListener((SelectedListener) e -> {
+            for (TableItem item : this.timerTable.getSelection()) {
+                DeadlineScheduler.cancel((String) item.getData());
+            }
+            this.updateTimers();
+        });
+        this.updateTimers();
+
         Composite compositeButton = new Composite(this.shell, SWT.NONE);
         compositeButton.setLayoutData(new GridData(SWT.RIGHT, SWT.CENTER, true, false, 1, 1));
         compositeButton.setLayout(new GridLayout(2, false));
@@ -94,10 +133,9 @@ public final class TimerSettingDialog extends Dialog {
         okButton.setText("OK(&O)");
         okButton.addSelectionListener((SelectedListener) e -> {
             // Task
-            Runnable task = new AlertTask(this.getParent(), this.messageText.getText());
-            // Delay
-            long delay = this.time.getTime() - System.currentTimeMillis();
-            ThreadManager.getExecutorService().schedule(task, delay, TimeUnit.MILLISECONDS);
+            String text = this.messageText.getText();
+            Runnable task = new AlertTask(this.getParent(), text);
+            DeadlineScheduler.schedule(TIMER_KEY + SEQUENCE.incrementAndGet(), this.time, text, task);
 
             MessageBox box = new MessageBox(this.shell, SWT.YES | SWT.ICON_QUESTION);
             box.setText("成功");
@@ -113,6 +151,24 @@ public final class TimerSettingDialog extends Dialog {
         this.shell.pack();
     }
 
+    /**
+     * 予約済みのタイマーの一覧を更新します
+     */
+    private void updateTimers() {
+        this.timerTable.removeAll();
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        for (Deadline deadline : DeadlineScheduler.getDeadlines()) {
+            if (deadline.getKey().startsWith(TIMER_KEY)) {
+                TableItem item = new TableItem(this.timerTable, SWT.NONE);
+                item.setData(deadline.getKey());
+                item.setText(new String[] { format.format(deadline.getTime()), deadline.getDescription() });
+            }
+        }
+        for (TableColumn column : this.timerTable.getColumns()) {
+            column.pack();
+        }
+    }
+
     /**
      * timeを設定します。
      *
@@ -1,13 +1,12 @@
 package logbook.gui.background;
 
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import logbook.config.AppConfig;
 import logbook.constants.AppConstants;
@@ -21,10 +20,8 @@ import logbook.dto.ShipDto;
 import logbook.gui.ApplicationMain;
 import logbook.gui.logic.TimeLogic;
 import logbook.gui.widgets.FleetComposite;
-import logbook.thread.PlayerThread;
 import logbook.util.SwtUtils;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.swt.SWT;
@@ -32,13 +29,18 @@ import org.eclipse.swt.custom.CTabItem;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.TaskItem;
 import org.eclipse.swt.widgets.Text;
-import org.eclipse.swt.widgets.ToolTip;
 import org.eclipse.wb.swt.SWTResourceManager;
 
 /**
  * 非同期にメイン画面を更新します
+ * <p>
+ * 定期的に更新が必要な部分を記録し、UIスレッドでは1回の処理でまとめて更新します。<br>
+ * ウインドウが最小化・非表示の間は画面を更新せず、表示された時に更新します。大破の警告は表示されていない間も行います。
+ * 遠征と入渠、疲労回復のお知らせは{@link DeadlineNotice}によって表示とは別に指定の時刻に行われます。
+ * </p>
  */
 public final class AsyncExecApplicationMain extends Thread {
 
@@ -49,8 +51,34 @@ public final class AsyncExecApplicationMain extends Thread {
 
     private static final int ONE_MINUTES = 60;
 
+    /** 保有アイテム数 */
+    private static final int ITEM_COUNT = 1;
+    /** 保有艦娘数 */
+    private static final int SHIP_COUNT = 1 << 1;
+    /** 艦隊タブ */
+    private static final int FLEET_TAB = 1 << 2;
+    /** 遠征と入渠 */
+    private static final int DECK_NDOCK = 1 << 3;
+
     private final ApplicationMain main;
 
+    /** 更新が必要な部分 */
+    private final AtomicInteger dirty = new AtomicInteger();
+
+    /** UIスレッドでの更新を登録済み */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final Runnable updateItemCount;
+
+    private final Runnable updateShipCount;
+
+    private final Runnable updateFleetTab;
+
+    private final Runnable updateDeckNdock;
+
+    /** 遠征と入渠、疲労回復のお知らせ */
+    private final DeadlineNotice notice;
+
     /**
      * 非同期にメイン画面を更新するスレッドのコンストラクター
      *
@@ -58,6 +86,11 @@ public final class AsyncExecApplicationMain extends Thread {
      */
     public AsyncExecApplicationMain(ApplicationMain main) {
         this.main = main;
+        this.updateItemCount = new UpdateItemCountTask(main);
+        this.updateShipCount = new UpdateShipCountTask(main);
+        this.updateFleetTab = new UpdateFleetTabTask(main);
+        this.updateDeckNdock = new UpdateDeckNdockTask(main);
+        this.notice = new DeadlineNotice(main);
         this.setName("logbook_async_exec_application_main");
     }
 
@@ -67,23 +100,60 @@ public final class AsyncExecApplicationMain extends Thread {
     @Override
     public void run() {
         try {
+            // 遠征と入渠は毎回更新する
+            int flags = DECK_NDOCK;
             boolean update = GlobalContext.updateContext();
             if (update) {
-                // 保有アイテム数を更新する
-                Display.getDefault().asyncExec(new UpdateItemCountTask(this.main));
-                // 保有艦娘数を更新する
-                Display.getDefault().asyncExec(new UpdateShipCountTask(this.main));
-                // 艦隊タブを更新する
-                Display.getDefault().asyncExec(new UpdateFleetTabTask(this.main));
+                flags |= ITEM_COUNT | SHIP_COUNT | FLEET_TAB;
+                // お知らせの予定を更新する
+                this.notice.sync();
+            }
+            this.dirty.accumulateAndGet(flags, (a, b) -> a | b);
+            if (this.scheduled.compareAndSet(false, true)) {
+                Display.getDefault().asyncExec(this::update);
             }
-            // 遠征と入渠を更新する
-            Display.getDefault().asyncExec(new UpdateDeckNdockTask(this.main));
         } catch (Exception e) {
             LoggerHolder.LOG.fatal("スレッドが異常終了しました", e);
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * 記録された部分をまとめて更新します(UIスレッド)
+     */
+    private void update() {
+        this.scheduled.set(false);
+        Shell shell = this.main.getShell();
+        if (shell.isDisposed()) {
+            return;
+        }
+        if ((this.dirty.get() & FLEET_TAB) != 0) {
+            // 大破の警告は表示されていない間も行う
+            UpdateFleetTabTask.checkFatal(this.main);
+        }
+        if (!shell.isVisible() || shell.getMinimized()) {
+            // 表示されていない間は更新しない
+            return;
+        }
+        int flags = this.dirty.getAndSet(0);
+        if ((flags & ITEM_COUNT) != 0) {
+            // 保有アイテム数を更新する
+            this.updateItemCount.run();
+        }
+        if ((flags & SHIP_COUNT) != 0) {
+            // 保有艦娘数を更新する
+            this.updateShipCount.run();
+        }
+        if ((flags & FLEET_TAB) != 0) {
+            // 艦隊タブを更新する
+            this.updateFleetTab.run();
+        }
+        if ((flags & DECK_NDOCK) != 0) {
+            // 遠征と入渠を更新する
+            this.updateDeckNdock.run();
+        }
+    }
+
     /**
      * 2つの日付から残り時間を計算する
      *
@@ -152,12 +222,7 @@ public final class AsyncExecApplicationMain extends Thread {
                 if (item != null) {
                     int max = GlobalContext.maxChara();
                     int size = ShipContext.get().size();
-                    int locked = 0;
-                    for (Entry<Long, ShipDto> entry : ShipContext.get().entrySet()) {
-                        if (entry.getValue().getLocked()) {
-                            locked++;
-                        }
-                    }
+                    int locked = ShipContext.getLockedCount();
                     int r = Math.round(((float) (size - locked) / (float) (max - locked)) * 100);
 
                     item.setProgress(r);
@@ -177,9 +242,6 @@ public final class AsyncExecApplicationMain extends Thread {
      */
     private static final class UpdateDeckNdockTask implements Runnable {
 
-        private static final boolean[] FLAG_NOTICE_DECK = { false, false, false };
-        private static final boolean[] FLAG_NOTICE_NDOCK = { false, false, false, false };
-
         private final ApplicationMain main;
 
         /** 日付フォーマット */
@@ -196,49 +258,18 @@ public final class AsyncExecApplicationMain extends Thread {
         public void run() {
             // 現在時刻
             Date now = Calendar.getInstance().getTime();
-            List<String> notice = new ArrayList<String>();
-            boolean visibleHome = false;
             // 遠征を更新する
-            if (this.updateDeck(now, notice)) {
-                PlayerThread.randomExpeditionSoundPlay();
-                visibleHome |= AppConfig.get().isVisibleOnReturnMission();
-            }
+            this.updateDeck(now);
             // 入渠を更新する
-            if (this.updateNdock(now, notice)) {
-                PlayerThread.randomDockSoundPlay();
-                visibleHome |= AppConfig.get().isVisibleOnReturnBathwater();
-            }
-            if (visibleHome) {
-                this.main.getTabFolder().setSelection(0);
-            }
-            if (AppConfig.get().isUseBalloon()) {
-                // バルーンツールチップを表示する
-                try {
-                    // 遠征・入渠のお知らせ
-                    if (notice.size() > 0) {
-                        ToolTip tip = new ToolTip(this.main.getShell(), SWT.BALLOON
-                                | SWT.ICON_INFORMATION);
-                        tip.setText("遠征・入渠");
-                        tip.setMessage(StringUtils.join(notice, "\r\n"));
-                        this.main.getTrayItem().setToolTip(tip);
-                        tip.setVisible(true);
-                    }
-                } catch (Exception e) {
-                    LoggerHolder.LOG.warn("お知らせの表示に失敗しました", e);
-                }
-            }
+            this.updateNdock(now);
         }
 
         /**
          * 遠征を更新する
          *
          * @param now
-         * @param notice
-         * @return
          */
-        private boolean updateDeck(Date now, List<String> notice) {
-            boolean noticeflg = false;
-
+        private void updateDeck(Date now) {
             Label[] deckNameLabels = { this.main.getDeck1name(), this.main.getDeck2name(), this.main.getDeck3name() };
             Text[] deckTimeTexts = { this.main.getDeck1time(), this.main.getDeck2time(), this.main.getDeck3time() };
 
@@ -269,22 +300,6 @@ public final class AsyncExecApplicationMain extends Thread {
                         } else {
                             deckTimeTexts[i].setBackground(SWTResourceManager.getColor(SWT.COLOR_WHITE));
                         }
-                        if (this.main.getDeckNotice().getSelection()) {
-                            if ((rest <= ONE_MINUTES) && !FLAG_NOTICE_DECK[i]) {
-                                notice.add(dispname + " がまもなく帰投します");
-                                noticeflg = true;
-                                FLAG_NOTICE_DECK[i] = true;
-                            } else if (AppConfig.get().isMissionRemind() && (rest < -1)
-                                    && ((rest % AppConfig.get().getRemindInterbal()) == 0)) {
-                                // 定期的にリマインドする
-                                notice.add(dispname + " がまもなく帰投します");
-                                noticeflg = true;
-                            } else if (rest > ONE_MINUTES) {
-                                FLAG_NOTICE_DECK[i] = false;
-                            }
-                        } else {
-                            FLAG_NOTICE_DECK[i] = false;
-                        }
                         time = TimeLogic.toDateRestString(rest);
                         if (time == null) {
                             time = "まもなく帰投します";
@@ -297,19 +312,14 @@ public final class AsyncExecApplicationMain extends Thread {
                 deckNameLabels[i].setText(dispname);
                 deckTimeTexts[i].setText(time);
             }
-            return noticeflg;
         }
 
         /**
          * 入渠を更新する
          *
          * @param now
-         * @param notice
-         * @return
          */
-        private boolean updateNdock(Date now, List<String> notice) {
-            boolean noticeflg = false;
-
+        private void updateNdock(Date now) {
             Map<Long, ShipDto> shipMap = ShipContext.get();
 
             Label[] ndockNameLabels = { this.main.getNdock1name(), this.main.getNdock2name(),
@@ -346,18 +356,6 @@ public final class AsyncExecApplicationMain extends Thread {
                             ndockTimeTexts[i].setBackground(SWTResourceManager
                                     .getColor(SWT.COLOR_WHITE));
                         }
-                        if (this.main.getNdockNotice().getSelection()) {
-
-                            if ((rest <= ONE_MINUTES) && !FLAG_NOTICE_NDOCK[i]) {
-                                notice.add(name + " がまもなくお風呂からあがります");
-                                noticeflg = true;
-                                FLAG_NOTICE_NDOCK[i] = true;
-                            } else if (rest > ONE_MINUTES) {
-                                FLAG_NOTICE_NDOCK[i] = false;
-                            }
-                        } else {
-                            FLAG_NOTICE_NDOCK[i] = false;
-                        }
                         time = TimeLogic.toDateRestString(rest);
                         if (time == null) {
                             time = "まもなくお風呂からあがります";
@@ -370,7 +368,6 @@ public final class AsyncExecApplicationMain extends Thread {
                 ndockNameLabels[i].setText(name);
                 ndockTimeTexts[i].setText(time);
             }
-            return noticeflg;
         }
     }
 
@@ -392,6 +389,20 @@ public final class AsyncExecApplicationMain extends Thread {
             this.main = main;
         }
 
+        /**
+         * 更新された艦隊が出撃中で大破した場合に警告を行います
+         *
+         * @param main メイン画面
+         */
+        private static void checkFatal(ApplicationMain main) {
+            for (int i = 0; i < 4; i++) {
+                DockDto dock = GlobalContext.getDock(Integer.toString(i + 1));
+                if (dock != null) {
+                    FleetComposite.checkFatal(main, dock);
+                }
+            }
+        }
+
         @Override
         public void run() {
             // タブを更新する
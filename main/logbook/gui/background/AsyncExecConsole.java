@@ -9,7 +9,9 @@ import org.eclipse.swt.widgets.List;
 
 /**
  * 非同期にコンソールを更新します
- *
+ * <p>
+ * 溜まっているログメッセージをまとめて取り出し、UIスレッドでは1回の処理で追加します。
+ * </p>
  */
 public final class AsyncExecConsole extends Thread {
 
@@ -39,9 +41,9 @@ public final class AsyncExecConsole extends Thread {
     public void run() {
         try {
             // ログメッセージを取り出す
-            String message;
-            while ((message = ConsoleContext.getConsoleMessage()) != null) {
-                Display.getDefault().syncExec(new UpdateConsoleTask(this.console, message));
+            java.util.List<String> messages = ConsoleContext.drainConsoleMessages();
+            if (!messages.isEmpty()) {
+                Display.getDefault().asyncExec(new UpdateConsoleTask(this.console, messages));
             }
         } catch (Exception e) {
             LoggerHolder.LOG.fatal("スレッドが異常終了しました", e);
@@ -55,24 +57,40 @@ public final class AsyncExecConsole extends Thread {
     private static final class UpdateConsoleTask implements Runnable {
 
         private final List console;
-        private final String message;
+        private final java.util.List<String> messages;
 
         /**
          * 非同期にコンソールを更新します
          */
-        public UpdateConsoleTask(List console, String message) {
+        public UpdateConsoleTask(List console, java.util.List<String> messages) {
             this.console = console;
-            this.message = message;
+            this.messages = messages;
         }
 
         @Override
         public void run() {
-            int size = this.console.getItemCount();
-            if (size >= MAX_LOG_LINES) {
-                this.console.remove(0);
+            if (this.console.isDisposed()) {
+                return;
+            }
+            // 追加するログ(表示できる行数を超える分は追加しない)
+            java.util.List<String> lines = this.messages;
+            if (lines.size() > MAX_LOG_LINES) {
+                lines = lines.subList(lines.size() - MAX_LOG_LINES, lines.size());
+            }
+            this.console.setRedraw(false);
+            try {
+                int over = (this.console.getItemCount() + lines.size()) - MAX_LOG_LINES;
+                if (over > 0) {
+                    // 古いログをまとめて削除
+                    this.console.remove(0, over - 1);
+                }
+                for (String line : lines) {
+                    this.console.add(line);
+                }
+                this.console.setSelection(this.console.getItemCount() - 1);
+            } finally {
+                this.console.setRedraw(true);
             }
-            this.console.add(this.message);
-            this.console.setSelection(this.console.getItemCount() - 1);
         }
     }
 }
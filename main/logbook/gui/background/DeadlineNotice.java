@@ -0,0 +1,259 @@
+package logbook.gui.background;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.CheckForNull;
+
+import logbook.config.AppConfig;
+import logbook.data.context.GlobalContext;
+import logbook.data.context.ShipContext;
+import logbook.dto.DeckMissionDto;
+import logbook.dto.DockDto;
+import logbook.dto.NdockDto;
+import logbook.dto.ShipDto;
+import logbook.gui.ApplicationMain;
+import logbook.thread.DeadlineScheduler;
+import logbook.thread.PlayerThread;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.ToolTip;
+
+/**
+ * 遠征と入渠、艦隊の疲労回復のお知らせを{@link DeadlineScheduler}に登録します
+ * <p>
+ * 遠征の帰投・入渠の終了の1分前にお知らせを表示し、遠征は帰投後にリマインドします。<br>
+ * 艦隊の疲労回復は{@link ShipDto#getCondClearDate()}の時刻にお知らせを表示します。<br>
+ * 予定は遠征・入渠・疲労回復の時刻が変わった時だけ登録し直します。
+ * </p>
+ */
+final class DeadlineNotice {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(DeadlineNotice.class);
+    }
+
+    /** お知らせを表示する時間(終了の何ミリ秒前) */
+    private static final long NOTICE_BEFORE = TimeUnit.MINUTES.toMillis(1);
+
+    private final ApplicationMain main;
+
+    /** 登録したキーと終了時刻 */
+    private final Map<String, Date> registered = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクター
+     *
+     * @param main メイン画面
+     */
+    DeadlineNotice(ApplicationMain main) {
+        this.main = main;
+    }
+
+    /**
+     * 現在の遠征と入渠をお知らせの予定に反映します
+     */
+    void sync() {
+        DeckMissionDto[] deckMissions = GlobalContext.getDeckMissions();
+        for (int i = 0; i < deckMissions.length; i++) {
+            DeckMissionDto deck = deckMissions[i];
+            String key = "mission." + (i + 1);
+            if ((deck.getMission() != null) && (deck.getTime() != null)) {
+                String dispname = deck.getName() + " (" + deck.getMission() + ")";
+                this.register(key, deck.getTime(), dispname + " がまもなく帰投します", true);
+            } else {
+                this.unregister(key);
+            }
+        }
+        Map<Long, ShipDto> shipMap = ShipContext.get();
+        NdockDto[] ndocks = GlobalContext.getNdocks();
+        for (int i = 0; i < ndocks.length; i++) {
+            NdockDto ndock = ndocks[i];
+            String key = "ndock." + (i + 1);
+            ShipDto ship = ndock.getNdockid() != 0 ? shipMap.get(Long.valueOf(ndock.getNdockid())) : null;
+            if ((ship != null) && (ndock.getNdocktime() != null)) {
+                String name = ship.getName() + " (Lv" + ship.getLv() + ")";
+                this.register(key, ndock.getNdocktime(), name + " がまもなくお風呂からあがります", false);
+            } else {
+                this.unregister(key);
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            DockDto dock = GlobalContext.getDock(Integer.toString(i + 1));
+            String key = "cond." + (i + 1);
+            Date clearDate = dock != null ? getCondClearDate(dock) : null;
+            if ((clearDate != null) && (clearDate.getTime() > System.currentTimeMillis())) {
+                this.registerCond(key, clearDate, "「" + dock.getName() + "」の疲労が回復しました");
+            } else {
+                this.unregister(key);
+            }
+        }
+    }
+
+    /**
+     * 艦隊の疲労が回復する時刻を取得します
+     *
+     * @param dock 艦隊
+     * @return 疲労が回復する時刻、疲労している艦娘がいない場合null
+     */
+    @CheckForNull
+    private static Date getCondClearDate(DockDto dock) {
+        Date clearDate = null;
+        for (ShipDto ship : dock.getShips()) {
+            Date date = ship.getCondClearDate();
+            if ((date != null) && ((clearDate == null) || date.after(clearDate))) {
+                clearDate = date;
+            }
+        }
+        return clearDate;
+    }
+
+    /**
+     * 疲労回復のお知らせを登録します
+     *
+     * @param key キー
+     * @param time 疲労が回復する時刻
+     * @param message メッセージ
+     */
+    private void registerCond(String key, Date time, String message) {
+        if (time.equals(this.registered.put(key, time))) {
+            return;
+        }
+        DeadlineScheduler.schedule(key, time, message, () -> this.noticeCond(message));
+    }
+
+    /**
+     * お知らせを登録します
+     *
+     * @param key キー
+     * @param time 終了時刻
+     * @param message メッセージ
+     * @param mission 遠征の場合true
+     */
+    private void register(String key, Date time, String message, boolean mission) {
+        if (time.equals(this.registered.put(key, time))) {
+            return;
+        }
+        DeadlineScheduler.schedule(key, new Date(time.getTime() - NOTICE_BEFORE), message,
+                () -> this.notice(message, mission));
+        if (mission) {
+            this.remind(key, time, message, time.getTime());
+        } else {
+            DeadlineScheduler.cancel(key + ".remind");
+        }
+    }
+
+    /**
+     * お知らせを取り消します
+     *
+     * @param key キー
+     */
+    private void unregister(String key) {
+        if (this.registered.remove(key) != null) {
+            DeadlineScheduler.cancel(key);
+            DeadlineScheduler.cancel(key + ".remind");
+        }
+    }
+
+    /**
+     * 帰投した遠征のリマインドを登録します
+     *
+     * @param key キー
+     * @param time 帰投時刻
+     * @param message メッセージ
+     * @param last 前回のリマインドの時刻
+     */
+    private void remind(String key, Date time, String message, long last) {
+        long interval = TimeUnit.SECONDS.toMillis(Math.max(1, AppConfig.get().getRemindInterbal()));
+        long next = last + interval;
+        long now = System.currentTimeMillis();
+        if (next < now) {
+            // 過ぎてしまったリマインドはまとめて飛ばす
+            next += (((now - next) / interval) + 1) * interval;
+        }
+        long at = next;
+        DeadlineScheduler.schedule(key + ".remind", new Date(at), message, () -> {
+            if (!time.equals(this.registered.get(key))) {
+                return;
+            }
+            if (AppConfig.get().isMissionRemind()) {
+                this.notice(message, true);
+            }
+            this.remind(key, time, message, at);
+        });
+    }
+
+    /**
+     * 疲労回復のお知らせを表示します
+     *
+     * @param message メッセージ
+     */
+    private void noticeCond(String message) {
+        Display.getDefault().asyncExec(() -> {
+            Shell shell = this.main.getShell();
+            if (shell.isDisposed() || !AppConfig.get().isWarnByCondState() || !AppConfig.get().isUseBalloon()) {
+                return;
+            }
+            try {
+                ToolTip tip = new ToolTip(shell, SWT.BALLOON | SWT.ICON_INFORMATION);
+                tip.setText("疲労回復");
+                tip.setMessage(message);
+                this.main.getTrayItem().setToolTip(tip);
+                tip.setVisible(true);
+            } catch (Exception e) {
+                LoggerHolder.LOG.warn("お知らせの表示に失敗しました", e);
+            }
+        });
+    }
+
+    /**
+     * お知らせを表示します
+     *
+     * @param message メッセージ
+     * @param mission 遠征の場合true
+     */
+    private void notice(String message, boolean mission) {
+        Display.getDefault().asyncExec(() -> {
+            Shell shell = this.main.getShell();
+            if (shell.isDisposed()) {
+                return;
+            }
+            if (mission) {
+                if (!this.main.getDeckNotice().getSelection()) {
+                    return;
+                }
+                PlayerThread.randomExpeditionSoundPlay();
+                if (AppConfig.get().isVisibleOnReturnMission()) {
+                    this.main.getTabFolder().setSelection(0);
+                }
+            } else {
+                if (!this.main.getNdockNotice().getSelection()) {
+                    return;
+                }
+                PlayerThread.randomDockSoundPlay();
+                if (AppConfig.get().isVisibleOnReturnBathwater()) {
+                    this.main.getTabFolder().setSelection(0);
+                }
+            }
+            if (AppConfig.get().isUseBalloon()) {
+                // バルーンツールチップを表示する
+                try {
+                    ToolTip tip = new ToolTip(shell, SWT.BALLOON | SWT.ICON_INFORMATION);
+                    tip.setText("遠征・入渠");
+                    tip.setMessage(message);
+                    this.main.getTrayItem().setToolTip(tip);
+                    tip.setVisible(true);
+                } catch (Exception e) {
+                    LoggerHolder.LOG.warn("お知らせの表示に失敗しました", e);
+                }
+            }
+        });
+    }
+}
@@ -6,6 +6,8 @@ import logbook.annotation.Name;
 import logbook.constants.AppConstants;
 import logbook.dto.CreateItemDto;
 
+import org.apache.commons.lang3.StringUtils;
+
 /**
  * 開発報告書のBean
  *
@@ -213,8 +215,28 @@ public class CreateItemReportBean {
         b.setAmmo(e.getAmmo());
         b.setMetal(e.getMetal());
         b.setBauxite(e.getBauxite());
-        b.setSecretary(e.getSecretary());
+        b.setSecretary(e.getSecretary().intern());
         b.setHqLevel(e.getHqLevel());
         return b;
     }
+
+    /**
+     * 報告書の行 -&gt; CreateItemReportBean 変換
+     *
+     * @param cols 報告書の行
+     * @return CreateItemReportBean
+     */
+    public static CreateItemReportBean toBean(String[] cols) {
+        CreateItemReportBean b = new CreateItemReportBean();
+        b.setDate(cols[0]);
+        b.setName(cols[1]);
+        b.setType(cols[2]);
+        b.setFuel(cols[3]);
+        b.setAmmo(cols[4]);
+        b.setMetal(cols[5]);
+        b.setBauxite(cols[6]);
+        b.setSecretary(cols[7]);
+        b.setHqLevel(StringUtils.isNumeric(cols[8]) ? Integer.valueOf(cols[8]) : null);
+        return b;
+    }
 }
@@ -6,6 +6,8 @@ import logbook.annotation.Name;
 import logbook.constants.AppConstants;
 import logbook.dto.GetShipDto;
 
+import org.apache.commons.lang3.StringUtils;
+
 /**
  * 建造報告書のBean
  *
@@ -270,8 +272,31 @@ public class CreateShipReportBean {
         b.setBauxite(e.getBauxite());
         b.setResearchMaterials(e.getResearchMaterials());
         b.setFreeDock(e.getFreeDock());
-        b.setSecretary(e.getSecretary());
+        b.setSecretary(e.getSecretary().intern());
         b.setHqLevel(e.getHqLevel());
         return b;
     }
+
+    /**
+     * 報告書の行 -&gt; CreateShipReportBean 変換
+     *
+     * @param cols 報告書の行
+     * @return CreateShipReportBean
+     */
+    public static CreateShipReportBean toBean(String[] cols) {
+        CreateShipReportBean b = new CreateShipReportBean();
+        b.setDate(cols[0]);
+        b.setBuildType(cols[1]);
+        b.setName(cols[2]);
+        b.setType(cols[3]);
+        b.setFuel(cols[4]);
+        b.setAmmo(cols[5]);
+        b.setMetal(cols[6]);
+        b.setBauxite(cols[7]);
+        b.setResearchMaterials(cols[8]);
+        b.setFreeDock(cols[9]);
+        b.setSecretary(cols[10]);
+        b.setHqLevel(StringUtils.isNumeric(cols[11]) ? Integer.valueOf(cols[11]) : null);
+        return b;
+    }
 }
@@ -4,8 +4,11 @@ import java.text.SimpleDateFormat;
 
 import logbook.annotation.Name;
 import logbook.constants.AppConstants;
+import logbook.dto.BattleRecordDto;
 import logbook.dto.BattleResultDto;
 
+import org.apache.commons.lang3.StringUtils;
+
 /**
  * ドロップ報告書のBean
  *
@@ -56,8 +59,8 @@ public class DropReportBean {
     @Name("ドロップ艦娘")
     private String dropName;
 
-    /** 海戦とドロップした艦娘 */
-    private BattleResultDto result;
+    /** 海戦の記録 */
+    private BattleRecordDto record;
 
     /**
      * 日付を取得します。
@@ -236,19 +239,19 @@ public class DropReportBean {
     }
 
     /**
-     * 海戦とドロップした艦娘を取得します。
-     * @return 海戦とドロップした艦娘
+     * 海戦の記録を取得します。
+     * @return 海戦の記録、報告書から読み込んだ場合null
      */
-    public BattleResultDto getResult() {
-        return this.result;
+    public BattleRecordDto getRecord() {
+        return this.record;
     }
 
     /**
-     * 海戦とドロップした艦娘を設定します。
-     * @param result 海戦とドロップした艦娘
+     * 海戦の記録を設定します。
+     * @param record 海戦の記録
      */
-    public void setResult(BattleResultDto result) {
-        this.result = result;
+    public void setRecord(BattleRecordDto record) {
+        this.record = record;
     }
 
     /**
@@ -260,17 +263,39 @@ public class DropReportBean {
     public static DropReportBean toBean(BattleResultDto e) {
         DropReportBean b = new DropReportBean();
         b.setDate(new SimpleDateFormat(AppConstants.DATE_FORMAT).format(e.getBattleDate()));
-        b.setQuestName(e.getQuestName());
+        b.setQuestName(e.getQuestName().intern());
         b.setMapCellNo(e.getMapCellNo());
-        b.setBossText(e.getBossText());
-        b.setRank(e.getRank());
+        b.setBossText(e.getBossText().intern());
+        b.setRank(e.getRank().intern());
         b.setIntercept(e.getBattleDto().getIntercept());
         b.setFriendFormation(e.getBattleDto().getFriendFormation());
         b.setEnemyFormation(e.getBattleDto().getEnemyFormation());
-        b.setEnemyName(e.getEnemyName());
-        b.setDropType(e.getDropType());
-        b.setDropName(e.getDropName());
-        b.setResult(e);
+        b.setEnemyName(e.getEnemyName().intern());
+        b.setDropType(e.getDropType().intern());
+        b.setDropName(e.getDropName().intern());
+        b.setRecord(new BattleRecordDto(e));
+        return b;
+    }
+
+    /**
+     * 報告書の行 -&gt; DropReportBean 変換
+     *
+     * @param cols 報告書の行
+     * @return DropReportBean
+     */
+    public static DropReportBean toBean(String[] cols) {
+        DropReportBean b = new DropReportBean();
+        b.setDate(cols[0]);
+        b.setQuestName(cols[1]);
+        b.setMapCellNo(StringUtils.isNumeric(cols[2]) ? Integer.valueOf(cols[2]) : null);
+        b.setBossText(cols[3]);
+        b.setRank(cols[4]);
+        b.setIntercept(cols[5]);
+        b.setFriendFormation(cols[6]);
+        b.setEnemyFormation(cols[7]);
+        b.setEnemyName(cols[8]);
+        b.setDropType(cols[9]);
+        b.setDropName(cols[10]);
         return b;
     }
 }
@@ -162,11 +162,29 @@ public class MissionResultBean {
         MissionResultBean b = new MissionResultBean();
         b.setDate(new SimpleDateFormat(AppConstants.DATE_FORMAT).format(e.getDate()));
         b.setResult(e.getClearResult());
-        b.setName(e.getQuestName());
+        b.setName(e.getQuestName().intern());
         b.setFuel(e.getFuel());
         b.setAmmo(e.getAmmo());
         b.setMetal(e.getMetal());
         b.setBauxite(e.getBauxite());
         return b;
     }
+
+    /**
+     * 報告書の行 -&gt; MissionResultBean 変換
+     *
+     * @param cols 報告書の行
+     * @return MissionResultBean
+     */
+    public static MissionResultBean toBean(String[] cols) {
+        MissionResultBean b = new MissionResultBean();
+        b.setDate(cols[0]);
+        b.setResult(cols[1]);
+        b.setName(cols[2]);
+        b.setFuel(cols[3]);
+        b.setAmmo(cols[4]);
+        b.setMetal(cols[5]);
+        b.setBauxite(cols[6]);
+        return b;
+    }
 }
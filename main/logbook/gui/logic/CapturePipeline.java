@@ -0,0 +1,560 @@
+package logbook.gui.logic;
+
+import java.awt.AWTException;
+import java.awt.Robot;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import logbook.config.AppConfig;
+import logbook.constants.AppConstants;
+import logbook.thread.ThreadManager;
+import logbook.util.AwtUtils;
+import logbook.util.MjpegAviWriter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 画面キャプチャを行い、画像ファイルに書き込みます
+ * <p>
+ * キャプチャは専用のスレッドで使い回すRobotによって行い、画像の圧縮と書き込みは複数のスレッドで並行して行います。<br>
+ * キャプチャと書き込みの間には上限のあるキューがあり、書き込みが追いつかない場合はキャプチャした画像を破棄して件数を記録します。<br>
+ * 周期キャプチャでは画像をブロック毎の明るさで比較し、最後に書き込んだ画像から変化がない場合は書き込みを省略します。<br>
+ * 動画として記録する場合は画像毎のファイルではなく1つのAVI(Motion-JPEG)ファイルにキャプチャした順に追記します。
+ * AVIファイルのサイズの上限に達した場合は連番を付けた別のファイルに続きを書き込みます。
+ * 異常終了して書き込み途中のまま残ったAVIファイルは次に記録を開始した時に修復します。
+ * </p>
+ */
+public final class CapturePipeline {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(CapturePipeline.class);
+    }
+
+    /** Jpeg品質 */
+    private static final float QUALITY = 0.9f;
+
+    /** 書き込み待ちの上限 */
+    private static final int QUEUE_SIZE = 8;
+
+    /** 画像を比較する時の縦横の分割数 */
+    private static final int BLOCKS = 16;
+
+    /** 書き込みを行うスレッドの数 */
+    private static final int ENCODER_THREADS = Math.max(1,
+            Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    /** キャプチャ範囲 */
+    private final java.awt.Rectangle rectangle;
+
+    /** 動画として記録する */
+    private final boolean record;
+
+    /** 日付フォーマット(ファイル名) */
+    private final SimpleDateFormat fileNameFormat;
+
+    /** 画像フォーマット */
+    private final String imageFormat;
+
+    /** キャプチャを行うスレッド */
+    private final ScheduledExecutorService capturer;
+
+    /** 書き込みを行うスレッド */
+    private final ThreadPoolExecutor encoder;
+
+    /** キャプチャした数 */
+    private final AtomicInteger captured = new AtomicInteger();
+
+    /** 書き込んだ数 */
+    private final AtomicInteger written = new AtomicInteger();
+
+    /** 破棄した数 */
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    /** 変化がないため省略した数 */
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    /** 変化がないとみなす明るさの差、比較しない場合は負の値 */
+    private final int tolerance;
+
+    /** キャプチャに使うRobot(キャプチャスレッド) */
+    private Robot robot;
+
+    /** トリム範囲(キャプチャスレッド) */
+    private java.awt.Rectangle trimRect;
+
+    /** 最後に書き込んだ画像のブロック毎の明るさ(キャプチャスレッド) */
+    private int[] lastFingerprint;
+
+    /** キャプチャの間隔(ミリ秒) */
+    private long intervalms;
+
+    /** 動画の書き込み */
+    private volatile Recorder recorder;
+
+    /** 動画のフレームの番号(キャプチャスレッド) */
+    private long sequence;
+
+    /**
+     * キャプチャ範囲を指定してパイプラインを作成します
+     *
+     * @param rectangle キャプチャ範囲
+     */
+    public CapturePipeline(org.eclipse.swt.graphics.Rectangle rectangle) {
+        this(rectangle, false);
+    }
+
+    /**
+     * キャプチャ範囲を指定してパイプラインを作成します
+     *
+     * @param rectangle キャプチャ範囲
+     * @param record 周期キャプチャを動画として記録する場合true
+     */
+    public CapturePipeline(org.eclipse.swt.graphics.Rectangle rectangle, boolean record) {
+        this.rectangle = new java.awt.Rectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+        this.record = record;
+        SimpleDateFormat format;
+        try {
+            format = new SimpleDateFormat(AppConfig.get().getImageNameFormat());
+        } catch (IllegalArgumentException e) {
+            format = new SimpleDateFormat(AppConstants.DATE_LONG_FORMAT);
+        }
+        this.fileNameFormat = format;
+        this.imageFormat = AppConfig.get().getImageFormat();
+        this.tolerance = AppConfig.get().isSkipDuplicateCapture()
+                ? AppConfig.get().getDuplicateCaptureTolerance()
+                : -1;
+        this.capturer = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "logbook_capture"));
+        AtomicInteger number = new AtomicInteger();
+        this.encoder = new ThreadPoolExecutor(ENCODER_THREADS, ENCODER_THREADS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(QUEUE_SIZE),
+                r -> daemon(r, "logbook_capture_encoder_" + number.incrementAndGet()));
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread thread = new Thread(r, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * 1回だけキャプチャします
+     */
+    public void captureOnce() {
+        this.capturer.execute(() -> {
+            this.capture(false, false);
+            this.encoder.shutdown();
+        });
+        this.capturer.shutdown();
+    }
+
+    /**
+     * 一定の間隔でキャプチャを開始します
+     *
+     * @param intervalms 間隔(ミリ秒)
+     */
+    public void start(long intervalms) {
+        this.intervalms = intervalms;
+        if (this.record) {
+            // 前回書き込み途中で終了した動画を修復する
+            this.capturer.execute(this::recoverRecordings);
+        }
+        this.capturer.scheduleAtFixedRate(() -> this.capture(this.tolerance >= 0, this.record), 0, intervalms,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * キャプチャを停止します<br>
+     * 書き込み待ちの画像は書き込まれ、動画は索引を書き込んで閉じられます
+     */
+    public void stop() {
+        this.capturer.shutdownNow();
+        this.encoder.shutdown();
+        if (this.record) {
+            ThreadManager.getExecutorService().execute(this::finishRecording);
+        }
+    }
+
+    /**
+     * @return キャプチャした数
+     */
+    public int getCaptured() {
+        return this.captured.get();
+    }
+
+    /**
+     * @return 書き込んだ数
+     */
+    public int getWritten() {
+        return this.written.get();
+    }
+
+    /**
+     * @return 書き込み待ちの数
+     */
+    public int getQueued() {
+        return this.encoder.getQueue().size() + this.encoder.getActiveCount();
+    }
+
+    /**
+     * @return 書き込みが追いつかずに破棄した数
+     */
+    public int getDropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * @return 変化がないため書き込みを省略した数
+     */
+    public int getSkipped() {
+        return this.skipped.get();
+    }
+
+    /**
+     * 範囲をキャプチャして書き込み待ちのキューに入れます(キャプチャスレッド)
+     *
+     * @param skipDuplicate 最後に書き込んだ画像から変化がない場合は書き込まない
+     * @param record 動画として記録する
+     */
+    private void capture(boolean skipDuplicate, boolean record) {
+        try {
+            // 時刻からファイル名を作成
+            Date now = new Date();
+            if (this.robot == null) {
+                this.robot = new Robot();
+            }
+            // 範囲をキャプチャする
+            BufferedImage image = this.robot.createScreenCapture(this.rectangle);
+            this.captured.incrementAndGet();
+            if (this.trimRect == null) {
+                this.trimRect = AwtUtils.getTrimSize(image);
+            }
+            BufferedImage trimmed = AwtUtils.trim(image, this.trimRect);
+            if (skipDuplicate) {
+                int[] fingerprint = AwtUtils.getBlockLuminance(trimmed, BLOCKS);
+                if (this.isDuplicate(fingerprint)) {
+                    this.skipped.incrementAndGet();
+                    if (this.recorder != null) {
+                        // 動画では直前のフレームを繰り返す
+                        this.recorder.complete(this.sequence++, null);
+                    }
+                    return;
+                }
+                this.lastFingerprint = fingerprint;
+            }
+            Recorder recorder = null;
+            long sequence = 0;
+            Runnable task;
+            if (record) {
+                if (this.recorder == null) {
+                    try {
+                        Path path = this.getPath(now, "avi");
+                        this.recorder = new Recorder(path, trimmed.getWidth(), trimmed.getHeight(),
+                                (int) (this.intervalms * 1000));
+                    } catch (IOException e) {
+                        LoggerHolder.LOG.warn("動画を作成できません", e);
+                        this.capturer.shutdown();
+                        return;
+                    }
+                }
+                recorder = this.recorder;
+                sequence = this.sequence++;
+                Recorder frames = recorder;
+                long frame = sequence;
+                task = () -> frames.complete(frame, this.encode(trimmed));
+            } else {
+                Path path = this.getPath(now, this.imageFormat);
+                task = () -> this.write(trimmed, path);
+            }
+            try {
+                this.encoder.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 書き込みが追いつかない
+                this.dropped.incrementAndGet();
+                // 書き込まれなかった画像とは比較しない
+                this.lastFingerprint = null;
+                if (recorder != null) {
+                    recorder.complete(sequence, null);
+                }
+            }
+        } catch (AWTException e) {
+            LoggerHolder.LOG.warn("キャプチャを開始できません", e);
+            this.capturer.shutdown();
+        } catch (Exception e) {
+            LoggerHolder.LOG.warn("キャプチャ中に例外が発生しました", e);
+        }
+    }
+
+    /**
+     * 最後に書き込んだ画像から変化がないかを調べます
+     *
+     * @param fingerprint 画像のブロック毎の明るさ
+     * @return 全てのブロックの明るさの差が許容範囲内の場合true
+     */
+    private boolean isDuplicate(int[] fingerprint) {
+        int[] last = this.lastFingerprint;
+        if ((last == null) || (last.length != fingerprint.length)) {
+            return false;
+        }
+        for (int i = 0; i < fingerprint.length; i++) {
+            if (Math.abs(fingerprint[i] - last[i]) > this.tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 時刻から書き込むファイルを作成します
+     *
+     * @param now 時刻
+     * @param extension 拡張子
+     * @return ファイル
+     */
+    private Path getPath(Date now, String extension) throws IOException {
+        Path path = Paths.get(AppConfig.get().getCapturePath(), this.fileNameFormat.format(now) + "." + extension);
+        File file = path.toFile();
+        if (file.exists()) {
+            if (file.isDirectory()) {
+                throw new IOException("File '" + file + "' exists but is a directory");
+            }
+            if (!(file.canWrite()))
+                throw new IOException("File '" + file + "' cannot be written to");
+        } else {
+            File parent = file.getParentFile();
+            if ((parent != null) &&
+                    (!(parent.mkdirs())) && (!(parent.isDirectory()))) {
+                throw new IOException("Directory '" + parent + "' could not be created");
+            }
+        }
+        return path;
+    }
+
+    /**
+     * 画像を動画のフレームとしてJPEGに圧縮します(書き込みスレッド)
+     *
+     * @param image 画像
+     * @return JPEG画像、圧縮できなかった場合null
+     */
+    private byte[] encode(BufferedImage image) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+                write(image, "jpg", ios);
+            }
+            return out.toByteArray();
+        } catch (Exception e) {
+            LoggerHolder.LOG.warn("キャプチャ中に例外が発生しました", e);
+            return null;
+        }
+    }
+
+    /**
+     * 画像を圧縮して書き込みます
+     *
+     * @param image 画像
+     * @param format 画像フォーマット
+     * @param ios 出力先
+     * @throws IOException IOException
+     */
+    private static void write(BufferedImage image, String format, ImageOutputStream ios) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try {
+            ImageWriteParam iwp = writer.getDefaultWriteParam();
+            if (iwp.canWriteCompressed()) {
+                iwp.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                iwp.setCompressionQuality(QUALITY);
+            }
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), iwp);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 画像を圧縮して書き込みます(書き込みスレッド)
+     *
+     * @param image 画像
+     * @param path ファイル
+     */
+    private void write(BufferedImage image, Path path) {
+        try {
+            try (ImageOutputStream ios = ImageIO.createImageOutputStream(path.toFile())) {
+                write(image, this.imageFormat, ios);
+            }
+            this.written.incrementAndGet();
+        } catch (Exception e) {
+            LoggerHolder.LOG.warn("キャプチャ中に例外が発生しました", e);
+        }
+    }
+
+    /**
+     * 前回書き込み途中で終了した動画を修復します(キャプチャスレッド)
+     */
+    private void recoverRecordings() {
+        Path dir = Paths.get(AppConfig.get().getCapturePath());
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        // ファイル名の書式にディレクトリが含まれる場合はその深さまで探す
+        String pattern = this.fileNameFormat.toPattern();
+        int depth = 1 + StringUtils.countMatches(pattern, "/") + StringUtils.countMatches(pattern, "\\");
+        String suffix = ".avi" + MjpegAviWriter.PART_SUFFIX;
+        try (Stream<Path> files = Files.walk(dir, depth)) {
+            for (Path part : (Iterable<Path>) files.filter(p -> p.toString().endsWith(suffix))::iterator) {
+                try {
+                    Path path = MjpegAviWriter.recover(part);
+                    LoggerHolder.LOG.info("書き込み途中の動画を修復しました: " + path);
+                } catch (IOException e) {
+                    LoggerHolder.LOG.warn("書き込み途中の動画を修復できません: " + part, e);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LoggerHolder.LOG.warn("書き込み途中の動画を探せません", e);
+        }
+    }
+
+    /**
+     * キャプチャと書き込みの終了を待って動画を閉じます
+     */
+    private void finishRecording() {
+        try {
+            this.capturer.awaitTermination(1, TimeUnit.MINUTES);
+            this.encoder.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            // 待たずに閉じる
+        }
+        Recorder recorder = this.recorder;
+        if (recorder != null) {
+            recorder.close();
+        }
+    }
+
+    /**
+     * 並行して圧縮されたフレームをキャプチャした順に動画に書き込みます
+     */
+    private final class Recorder {
+
+        /** 最初の動画 */
+        private final Path path;
+
+        private final int width;
+
+        private final int height;
+
+        /** 1フレームの時間(マイクロ秒) */
+        private final int microSecPerFrame;
+
+        private MjpegAviWriter writer;
+
+        /** 書き込んでいる動画の番号(1から) */
+        private int part = 1;
+
+        /** 最後に書き込んだJPEG画像(次の動画の最初のフレームが繰り返しの場合に使う) */
+        private byte[] last;
+
+        /** 順番を待っているフレーム */
+        private final Map<Long, byte[]> pending = new HashMap<>();
+
+        /** 次に書き込むフレームの番号 */
+        private long next;
+
+        /** 書き込みに失敗した */
+        private boolean failed;
+
+        private Recorder(Path path, int width, int height, int microSecPerFrame) throws IOException {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+            this.microSecPerFrame = microSecPerFrame;
+            this.writer = MjpegAviWriter.create(path, width, height, microSecPerFrame);
+        }
+
+        /**
+         * フレームの圧縮が終わったことを知らせます
+         *
+         * @param sequence フレームの番号
+         * @param jpeg JPEG画像、書き込まないフレームの場合null
+         */
+        private synchronized void complete(long sequence, byte[] jpeg) {
+            this.pending.put(sequence, jpeg != null ? jpeg : new byte[0]);
+            byte[] frame;
+            while ((frame = this.pending.remove(this.next)) != null) {
+                this.next++;
+                if (this.failed) {
+                    continue;
+                }
+                try {
+                    if (!this.writer.canWrite(frame.length)) {
+                        this.rollover();
+                    }
+                    if ((frame.length == 0) && (this.writer.getFrames() == 0) && (this.last != null)) {
+                        // 新しい動画には繰り返す直前のフレームがない
+                        frame = this.last;
+                    }
+                    // 長さ0のフレームは直前のフレームの繰り返しとなり、時間の流れが保たれる
+                    this.writer.writeFrame(frame);
+                    if (frame.length > 0) {
+                        this.last = frame;
+                        CapturePipeline.this.written.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    this.failed = true;
+                    LoggerHolder.LOG.warn("動画の書き込みに失敗しました", e);
+                }
+            }
+        }
+
+        /**
+         * ファイルサイズの上限に達した動画を閉じ、続きを連番を付けた別の動画に書き込みます
+         *
+         * @throws IOException IOException
+         */
+        private void rollover() throws IOException {
+            this.writer.close();
+            this.part++;
+            String name = this.path.getFileName().toString();
+            int dot = name.lastIndexOf('.');
+            Path next = this.path.resolveSibling(name.substring(0, dot) + "_" + this.part + name.substring(dot));
+            this.writer = MjpegAviWriter.create(next, this.width, this.height, this.microSecPerFrame);
+        }
+
+        /**
+         * 索引を書き込んで動画を閉じます
+         */
+        private synchronized void close() {
+            try {
+                this.writer.close();
+            } catch (IOException e) {
+                LoggerHolder.LOG.warn("動画を閉じられません", e);
+            }
+        }
+    }
+}
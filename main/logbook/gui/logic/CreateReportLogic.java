@@ -7,17 +7,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import logbook.constants.AppConstants;
 import logbook.data.context.GlobalContext;
 import logbook.data.context.ItemContext;
+import logbook.data.context.ItemInventory;
 import logbook.dto.BattleDto;
 import logbook.dto.BattleResultDto;
 import logbook.dto.CreateItemDto;
@@ -53,15 +53,8 @@ public final class CreateReportLogic {
         private static final Logger LOG = LogManager.getLogger(CreateReportLogic.class);
     }
 
-    /**
-     * ドロップ報告書の内容
-     * @return 内容
-     */
-    public static Stream<DropReportBean> getBattleResultContent() {
-        return GlobalContext.getBattleResultList()
-                .stream()
-                .map(DropReportBean::toBean);
-    }
+    /** 所有装備一覧の行(装備の種類毎の集計 → 行) */
+    private static final Map<ItemInventory.Entry, ItemBean> ITEM_BEANS = new IdentityHashMap<>();
 
     /**
      * ドロップ報告書のヘッダー(保存用)
@@ -169,25 +162,32 @@ public final class CreateReportLogic {
     }
 
     /**
-     * 建造報告書の内容
+     * ドロップ報告書の履歴(過去の報告書を含む)
      *
-     * @return 内容
+     * @return 履歴
      */
-    public static Stream<CreateShipReportBean> getCreateShipContent() {
-        return GlobalContext.getGetshipList()
-                .stream()
-                .map(CreateShipReportBean::toBean);
+    public static ReportPager<DropReportBean> getBattleResultHistory() {
+        return new ReportPager<>(AppConstants.LOG_BATTLE_RESULT, DropReportBean::toBean, DropReportBean.class);
     }
 
     /**
-     * 開発報告書の内容
+     * 建造報告書の履歴(過去の報告書を含む)
      *
-     * @return 内容
+     * @return 履歴
      */
-    public static Stream<CreateItemReportBean> getCreateItemContent() {
-        return GlobalContext.getCreateItemList()
-                .stream()
-                .map(CreateItemReportBean::toBean);
+    public static ReportPager<CreateShipReportBean> getCreateShipHistory() {
+        return new ReportPager<>(AppConstants.LOG_CREATE_SHIP, CreateShipReportBean::toBean,
+                CreateShipReportBean.class);
+    }
+
+    /**
+     * 開発報告書の履歴(過去の報告書を含む)
+     *
+     * @return 履歴
+     */
+    public static ReportPager<CreateItemReportBean> getCreateItemHistory() {
+        return new ReportPager<>(AppConstants.LOG_CREATE_ITEM, CreateItemReportBean::toBean,
+                CreateItemReportBean.class);
     }
 
     /**
@@ -196,18 +196,12 @@ public final class CreateReportLogic {
      * @return 内容
      */
     public static Stream<ItemBean> getItemTablecontent() {
-        // 集計関数
-        BiConsumer<HashMap<ItemDto, Integer>, ItemDto> accumulator = (m, b) ->
-                m.put(b, m.getOrDefault(b, 0) + 1);
-        // マージ関数
-        BiConsumer<HashMap<ItemDto, Integer>, HashMap<ItemDto, Integer>> combiner = (t, u) ->
-                u.forEach((b, i) -> t.put(b, t.getOrDefault(b, 0) + i));
-        // ItemDto -> ItemBean 変換
-        Function<Entry<ItemDto, Integer>, ItemBean> mapper = (e) -> {
-            ItemDto d = e.getKey();
+        // 集計 -> ItemBean 変換
+        Function<ItemInventory.Entry, ItemBean> mapper = (e) -> {
+            ItemDto d = e.getItem();
             ItemBean b = new ItemBean();
             b.setBaku(d.getBaku());
-            b.setCount(e.getValue());
+            b.setCount(e.getCount());
             b.setHoug(d.getHoug());
             b.setHouk(d.getHouk());
             b.setHoum(d.getHoum());
@@ -223,27 +217,32 @@ public final class CreateReportLogic {
             return b;
         };
 
-        Map<ItemDto, Integer> map = ItemContext.get()
-                .values()
-                .stream()
-                .parallel()
-                .collect(HashMap<ItemDto, Integer>::new, accumulator, combiner);
-        return map.entrySet()
-                .stream()
-                .map(mapper)
+        List<ItemBean> beans = new ArrayList<>();
+        synchronized (ITEM_BEANS) {
+            // 変更されていない装備の種類は前回の行を使う
+            Map<ItemInventory.Entry, ItemBean> last = new IdentityHashMap<>(ITEM_BEANS);
+            ITEM_BEANS.clear();
+            for (ItemInventory.Entry entry : ItemContext.inventory().getEntries()) {
+                ItemBean bean = last.get(entry);
+                if (bean == null) {
+                    bean = mapper.apply(entry);
+                }
+                ITEM_BEANS.put(entry, bean);
+                beans.add(bean);
+            }
+        }
+        return beans.stream()
                 .sorted(Comparator.comparing(ItemBean::getName))
                 .sorted(Comparator.comparing(ItemBean::getType));
     }
 
     /**
-     * 遠征結果一覧の内容
+     * 遠征結果一覧の履歴(過去の報告書を含む)
      *
-     * @return 遠征結果
+     * @return 履歴
      */
-    public static Stream<MissionResultBean> getMissionResultContent() {
-        return GlobalContext.getMissionResultList()
-                .stream()
-                .map(MissionResultBean::toBean);
+    public static ReportPager<MissionResultBean> getMissionResultHistory() {
+        return new ReportPager<>(AppConstants.LOG_MISSION, MissionResultBean::toBean, MissionResultBean.class);
     }
 
     /**
@@ -0,0 +1,278 @@
+package logbook.gui.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import logbook.constants.AppConstants;
+import logbook.dto.MaterialDto;
+import logbook.util.FileUtils;
+import logbook.util.ReportArchive;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 資材ログの日毎の集計を保持します
+ * <p>
+ * 資材ログを書き込む度に集計を更新し、集計ファイルに追記します。<br>
+ * 集計ファイルが存在しない場合は資材ログから一度だけ集計ファイルを作成します。
+ * </p>
+ *
+ */
+public final class MaterialDailyLogic {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(MaterialDailyLogic.class);
+    }
+
+    /** 資材テーブルに表示する資材のフォーマット */
+    private static final String COMPARE_FORMAT = "{0,number,0}({1,number,+0;-0})";
+
+    /** 資材の種類の数 */
+    private static final int MATERIAL_COUNT = 7;
+
+    /** 日毎の集計(日付順) */
+    private static Map<String, Daily> dailyMap;
+
+    /** 日付書式(集計の単位) */
+    private static final SimpleDateFormat DAYS_FORMAT = new SimpleDateFormat(AppConstants.DATE_DAYS_FORMAT);
+
+    static {
+        DAYS_FORMAT.setTimeZone(AppConstants.TIME_ZONE_MISSION);
+    }
+
+    /**
+     * 資材ログに書き込んだ資材で集計を更新します
+     *
+     * @param material 資材
+     */
+    public static synchronized void update(MaterialDto material) {
+        load();
+
+        int[] values = { material.getFuel(), material.getAmmo(), material.getMetal(), material.getBauxite(),
+                material.getBucket(), material.getBurner(), material.getResearch() };
+        Daily daily = add(material.getTime(), values);
+        try {
+            FileUtils.writeCsv(AppConstants.MATERIAL_DAILY_FILE, getHeader(),
+                    Collections.singletonList(daily.toStrings()), true);
+        } catch (IOException e) {
+            LoggerHolder.LOG.warn("資材ログの集計の保存に失敗しました", e);
+        }
+    }
+
+    /**
+     * 資材テーブルのボディを作成します(新しい日付順)
+     *
+     * @return 資材テーブルのボディ
+     */
+    public static synchronized List<String[]> getTableBody() {
+        load();
+
+        List<String[]> body = new ArrayList<>();
+        MessageFormat compare = new MessageFormat(COMPARE_FORMAT);
+        Daily before = null;
+        for (Daily daily : dailyMap.values()) {
+            String[] line = new String[MATERIAL_COUNT + 1];
+            line[0] = daily.day;
+            for (int i = 0; i < MATERIAL_COUNT; i++) {
+                int delta = before != null ? daily.last[i] - before.last[i] : 0;
+                line[i + 1] = compare.format(new Object[] { daily.last[i], delta });
+            }
+            before = daily;
+            body.add(line);
+        }
+        Collections.reverse(body);
+        return body;
+    }
+
+    /**
+     * 集計を読み込みます、集計ファイルが存在しない場合は資材ログから集計を作成します
+     */
+    private static void load() {
+        if (dailyMap != null) {
+            return;
+        }
+        dailyMap = new TreeMap<>();
+
+        Path path = AppConstants.MATERIAL_DAILY_FILE;
+        if (Files.isReadable(path)) {
+            int lines = 0;
+            try (Stream<String> stream = Files.lines(path, AppConstants.CHARSET)) {
+                for (String line : (Iterable<String>) stream.skip(1)::iterator) {
+                    Daily daily = Daily.parse(line);
+                    if (daily != null) {
+                        // 同じ日付は後から追記された行で上書きする
+                        dailyMap.put(daily.day, daily);
+                    }
+                    lines++;
+                }
+            } catch (Exception e) {
+                LoggerHolder.LOG.warn("資材ログの集計の読み込みに失敗しました", e);
+            }
+            if (lines > dailyMap.size()) {
+                store();
+            }
+        } else {
+            backfill();
+            store();
+        }
+    }
+
+    /**
+     * 資材ログから集計を作成します
+     */
+    private static void backfill() {
+        SimpleDateFormat format = new SimpleDateFormat(AppConstants.DATE_FORMAT);
+        try (Stream<String> stream = ReportArchive.lines(AppConstants.LOG_RESOURCE)) {
+            for (String line : (Iterable<String>) stream::iterator) {
+                try {
+                    String[] cols = line.split(",", -1);
+                    Date date = format.parse(cols[0]);
+                    int[] values = new int[MATERIAL_COUNT];
+                    for (int i = 0; i < MATERIAL_COUNT; i++) {
+                        values[i] = Integer.parseInt(cols[i + 1]);
+                    }
+                    add(date, values);
+                } catch (ParseException | NumberFormatException | IndexOutOfBoundsException e) {
+                    LoggerHolder.LOG.warn("資材ログを読み込み中に例外が発生しました", e);
+                    LoggerHolder.LOG.warn(line);
+                }
+            }
+        } catch (Exception e) {
+            LoggerHolder.LOG.warn("資材ログの集計の作成に失敗しました", e);
+        }
+    }
+
+    /**
+     * 集計ファイルを1日1行に書き直します
+     */
+    private static void store() {
+        try {
+            List<String[]> body = new ArrayList<>();
+            for (Daily daily : dailyMap.values()) {
+                body.add(daily.toStrings());
+            }
+            Path path = AppConstants.MATERIAL_DAILY_FILE;
+            Path parent = path.getParent();
+            if ((parent != null) && !Files.exists(parent)) {
+                Files.createDirectories(parent);
+            }
+            FileUtils.writeCsv(path, getHeader(), body, false);
+        } catch (IOException e) {
+            LoggerHolder.LOG.warn("資材ログの集計の保存に失敗しました", e);
+        }
+    }
+
+    /**
+     * 集計に資材を加えます
+     *
+     * @param date 日時
+     * @param values 資材
+     * @return 更新された日の集計
+     */
+    private static Daily add(Date date, int[] values) {
+        String day = DAYS_FORMAT.format(date);
+        Daily daily = dailyMap.get(day);
+        if (daily == null) {
+            daily = new Daily(day);
+            dailyMap.put(day, daily);
+        }
+        daily.add(date.getTime(), values);
+        return daily;
+    }
+
+    /**
+     * 集計ファイルのヘッダー
+     *
+     * @return ヘッダー
+     */
+    private static String[] getHeader() {
+        String[] names = Arrays.copyOfRange(CreateReportLogic.getMaterialHeader(), 2, 2 + MATERIAL_COUNT);
+        String[] header = new String[3 + (MATERIAL_COUNT * 2)];
+        header[0] = "日付";
+        header[1] = "最初の時刻";
+        header[2 + MATERIAL_COUNT] = "最後の時刻";
+        for (int i = 0; i < MATERIAL_COUNT; i++) {
+            header[2 + i] = names[i] + "(最初)";
+            header[3 + MATERIAL_COUNT + i] = names[i] + "(最後)";
+        }
+        return header;
+    }
+
+    /**
+     * 1日分の集計
+     *
+     */
+    private static final class Daily {
+        /** 日付 */
+        private final String day;
+        /** その日最初の時刻 */
+        private long firstTime;
+        /** その日最初の資材 */
+        private int[] first;
+        /** その日最後の時刻 */
+        private long lastTime;
+        /** その日最後の資材 */
+        private int[] last;
+
+        private Daily(String day) {
+            this.day = day;
+        }
+
+        private void add(long time, int[] values) {
+            if ((this.first == null) || (time < this.firstTime)) {
+                this.firstTime = time;
+                this.first = values;
+            }
+            if ((this.last == null) || (time >= this.lastTime)) {
+                this.lastTime = time;
+                this.last = values;
+            }
+        }
+
+        private String[] toStrings() {
+            String[] line = new String[3 + (MATERIAL_COUNT * 2)];
+            line[0] = this.day;
+            line[1] = Long.toString(this.firstTime);
+            line[2 + MATERIAL_COUNT] = Long.toString(this.lastTime);
+            for (int i = 0; i < MATERIAL_COUNT; i++) {
+                line[2 + i] = Integer.toString(this.first[i]);
+                line[3 + MATERIAL_COUNT + i] = Integer.toString(this.last[i]);
+            }
+            return line;
+        }
+
+        private static Daily parse(String line) {
+            try {
+                String[] cols = line.split(",", -1);
+                Daily daily = new Daily(cols[0]);
+                daily.firstTime = Long.parseLong(cols[1]);
+                daily.lastTime = Long.parseLong(cols[2 + MATERIAL_COUNT]);
+                daily.first = new int[MATERIAL_COUNT];
+                daily.last = new int[MATERIAL_COUNT];
+                for (int i = 0; i < MATERIAL_COUNT; i++) {
+                    daily.first[i] = Integer.parseInt(cols[2 + i]);
+                    daily.last[i] = Integer.parseInt(cols[3 + MATERIAL_COUNT + i]);
+                }
+                return daily;
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                LoggerHolder.LOG.warn("資材ログの集計を読み込み中に例外が発生しました", e);
+                LoggerHolder.LOG.warn(line);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,705 @@
+package logbook.gui.logic;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.CheckForNull;
+
+import logbook.constants.AppConstants;
+import logbook.thread.ThreadManager;
+import logbook.util.BeanProperty;
+import logbook.util.ReportArchive;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * 報告書を表示する行だけページ単位で読み込みます
+ * <p>
+ * 読み込みはバックグラウンドで行い、フィルターを適用して表示する行の位置とソートする列の値、
+ * 報告書の{@value #PAGE_SIZE}行毎の位置を索引として保持します。<br>
+ * 行の内容は表示する時にページ単位で索引の位置から報告書を読み込み、最近使ったページだけをキャッシュします。
+ * </p>
+ *
+ * @param <T> Bean
+ */
+public final class ReportPager<T> {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(ReportPager.class);
+    }
+
+    /** 1ページの行数 */
+    static final int PAGE_SIZE = 200;
+
+    /** キャッシュするページ数 */
+    private static final int MAX_PAGES = 10;
+
+    /** 報告書のファイル名 */
+    private final String name;
+    /** 報告書の行からBeanへの変換 */
+    private final Function<String[], T> mapper;
+    /** Beanの情報 */
+    private final BeanProperty<T> property;
+
+    /** フィルター */
+    private Predicate<T> filter;
+    /** ソート */
+    private List<TableWrapper.SortParameter> parameters = Collections.emptyList();
+    /** テーブルソート */
+    private Comparator<String> comparator;
+    /** フィルターまたはソートする列が変わったため全て読み直す必要がある */
+    private boolean dirty = true;
+    /** ソートが変わったため並べ替える必要がある */
+    private boolean sortChanged;
+    /** 表示する内容が変わる度に増える番号 */
+    private int version;
+    /** 読み込みが終わって表示する内容が変わった時に呼び出す処理 */
+    private Runnable listener;
+    /** バックグラウンドで読み込み中 */
+    private boolean loading;
+    /** 読み込み中に読み込みが要求された */
+    private boolean pending;
+
+    /** 表示している報告書の索引 */
+    private Index index = new Index(Collections.emptyList(), Collections.emptyList());
+
+    /** ページのキャッシュ */
+    private final Map<Integer, List<T>> pages = new LinkedHashMap<Integer, List<T>>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Entry<Integer, List<T>> eldest) {
+            return this.size() > MAX_PAGES;
+        }
+    };
+
+    /**
+     * ReportPagerを構築します
+     *
+     * @param name 報告書のファイル名
+     * @param mapper 報告書の行からBeanへの変換
+     * @param clazz Beanクラス
+     */
+    public ReportPager(String name, Function<String[], T> mapper, Class<T> clazz) {
+        this.name = name;
+        this.mapper = mapper;
+        this.property = BeanProperty.getInstance(clazz);
+    }
+
+    /**
+     * 読み込みが終わって表示する内容が変わった時に呼び出す処理をセットします(UIスレッドで呼び出されます)
+     *
+     * @param listener 処理
+     */
+    void setListener(Runnable listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * フィルターをセットします
+     *
+     * @param filter フィルター関数、フィルターを解除する場合はnull
+     */
+    void setFilter(Predicate<T> filter) {
+        if (!Objects.equals(this.filter, filter)) {
+            this.filter = filter;
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * ソートをセットします
+     *
+     * @param parameters ソートのパラメーター
+     * @param comparator テーブルソート
+     */
+    void setSort(List<TableWrapper.SortParameter> parameters, Comparator<String> comparator) {
+        if (!this.isSameSort(parameters) || (this.comparator != comparator)) {
+            this.sortChanged = true;
+        }
+        this.parameters = new ArrayList<>(parameters);
+        this.comparator = comparator;
+        for (TableWrapper.SortParameter p : this.parameters) {
+            if (!this.index.keys.containsKey(p.index)) {
+                // ソートする列の値を持っていないので読み直す
+                this.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 報告書をバックグラウンドで読み込みます、前回から報告書に追記された行だけを読み込みます
+     * <p>
+     * 読み込みが終わると表示する内容を入れ替えて{@link #setListener(Runnable)}でセットした処理を呼び出します。
+     * </p>
+     */
+    void reload() {
+        if (this.loading) {
+            this.pending = true;
+            return;
+        }
+        Display display = Display.getDefault();
+        Index base = this.dirty ? null : this.index;
+        boolean resort = this.sortChanged;
+        Predicate<T> filter = this.filter;
+        List<TableWrapper.SortParameter> parameters = this.parameters;
+        Comparator<String> comparator = this.comparator;
+        this.dirty = false;
+        this.sortChanged = false;
+        this.loading = true;
+        ThreadManager.getExecutorService().submit(() -> {
+            Index loaded = null;
+            try {
+                loaded = this.load(base, filter, parameters, comparator, resort);
+            } catch (Exception e) {
+                LoggerHolder.LOG.warn("報告書の読み込みに失敗しました", e);
+            }
+            Index result = loaded;
+            if (!display.isDisposed()) {
+                display.asyncExec(() -> this.install(result, base == null, resort));
+            }
+        });
+    }
+
+    /**
+     * 報告書を読み込んで索引を作成します
+     *
+     * @param base 前回の索引、全て読み直す場合null
+     * @param filter フィルター
+     * @param parameters ソートのパラメーター
+     * @param comparator テーブルソート
+     * @param resort 並べ替える必要がある
+     * @return 索引、前回から変わっていない場合base
+     * @throws IOException
+     */
+    private Index load(@CheckForNull Index base, Predicate<T> filter, List<TableWrapper.SortParameter> parameters,
+            Comparator<String> comparator, boolean resort) throws IOException {
+        List<Path> current = ReportArchive.files(this.name);
+        Index index;
+        if ((base == null) || !current.equals(base.files)) {
+            // 全て読み直す
+            index = new Index(current, parameters);
+            for (int i = 0; i < current.size(); i++) {
+                index.scan(i, filter);
+            }
+        } else {
+            // 現在の報告書に追記された行だけを読み込む
+            int last = current.size() - 1;
+            if (!resort && ((last < 0) || this.isUnchanged(current.get(last), base.ends[last]))) {
+                return base;
+            }
+            index = base.copy();
+            if (last >= 0) {
+                index.scan(last, filter);
+            }
+            if (!resort && (index.size == base.size)) {
+                return base;
+            }
+        }
+        index.sort(parameters, comparator);
+        return index;
+    }
+
+    /**
+     * 報告書が前回読み込んだ位置から変わっていないかを返します
+     *
+     * @param path 報告書
+     * @param end 前回読み込んだ位置
+     * @return 変わっていない場合true
+     * @throws IOException
+     */
+    private boolean isUnchanged(Path path, long end) throws IOException {
+        // 圧縮された過去の報告書は追記されない
+        return path.toString().endsWith(".gz") || (Files.size(path) == end);
+    }
+
+    /**
+     * 読み込んだ索引を表示する内容にします
+     *
+     * @param result 索引、読み込みに失敗した場合null
+     * @param full 全て読み直した
+     * @param resort 並べ替えた
+     */
+    private void install(@CheckForNull Index result, boolean full, boolean resort) {
+        this.loading = false;
+        if (result == null) {
+            // 次回読み直す
+            this.dirty |= full;
+            this.sortChanged |= resort;
+        } else if (result != this.index) {
+            this.index = result;
+            this.pages.clear();
+            this.version++;
+            if (this.listener != null) {
+                this.listener.run();
+            }
+        }
+        if (this.pending) {
+            this.pending = false;
+            this.reload();
+        }
+    }
+
+    /**
+     * 表示する内容が変わる度に増える番号を返します
+     *
+     * @return 番号
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * ソートのパラメーターが現在と同じかを返します
+     *
+     * @param parameters ソートのパラメーター
+     * @return 同じ場合true
+     */
+    private boolean isSameSort(List<TableWrapper.SortParameter> parameters) {
+        if (parameters.size() != this.parameters.size()) {
+            return false;
+        }
+        for (int i = 0; i < parameters.size(); i++) {
+            TableWrapper.SortParameter a = parameters.get(i);
+            TableWrapper.SortParameter b = this.parameters.get(i);
+            if ((a.index != b.index) || (a.order != b.order)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 表示する行の数を返します
+     *
+     * @return 表示する行の数
+     */
+    public int size() {
+        return this.index.size;
+    }
+
+    /**
+     * 表示する行を取得します
+     *
+     * @param index 行番号
+     * @return Bean、報告書が変更されていて読み込めなかった場合null
+     */
+    @CheckForNull
+    public T get(int index) {
+        int page = index / PAGE_SIZE;
+        List<T> rows = this.pages.get(page);
+        if (rows == null) {
+            rows = this.loadPage(page);
+            this.pages.put(page, rows);
+        }
+        return rows.get(index % PAGE_SIZE);
+    }
+
+    /**
+     * ページを報告書から読み込みます
+     * <p>
+     * 報告書の索引から読み込む行を含む{@value #PAGE_SIZE}行毎の位置に移動して読み込みます。
+     * </p>
+     *
+     * @param page ページ
+     * @return ページの行
+     */
+    private List<T> loadPage(int page) {
+        Index index = this.index;
+        int from = page * PAGE_SIZE;
+        int to = Math.min(index.size, from + PAGE_SIZE);
+        List<T> rows = new ArrayList<>(Collections.nCopies(to - from, (T) null));
+        // 報告書のインデックス -> 行番号 -> ページ内の位置
+        Map<Integer, TreeMap<Integer, Integer>> targets = new TreeMap<>();
+        for (int i = from; i < to; i++) {
+            long position = index.positions[index.order != null ? index.order[i] : i];
+            targets.computeIfAbsent((int) (position >>> 32), k -> new TreeMap<>())
+                    .put((int) position, i - from);
+        }
+        for (Entry<Integer, TreeMap<Integer, Integer>> target : targets.entrySet()) {
+            Path path = index.files.get(target.getKey());
+            long[] chunks = index.chunks[target.getKey()];
+            int lineNo = (target.getValue().firstKey() / PAGE_SIZE) * PAGE_SIZE;
+            try (LineReader reader = new LineReader(path, chunks[lineNo / PAGE_SIZE])) {
+                for (Entry<Integer, Integer> entry : target.getValue().entrySet()) {
+                    int chunk = entry.getKey() / PAGE_SIZE;
+                    if (chunk > (lineNo / PAGE_SIZE)) {
+                        // 離れた行は索引の位置まで読み飛ばす
+                        reader.seek(chunks[chunk]);
+                        lineNo = chunk * PAGE_SIZE;
+                    }
+                    String line = null;
+                    while ((lineNo <= entry.getKey()) && ((line = reader.readLine()) != null)) {
+                        lineNo++;
+                    }
+                    if (line == null) {
+                        break;
+                    }
+                    rows.set(entry.getValue(), this.toBean(line));
+                }
+            } catch (Exception e) {
+                LoggerHolder.LOG.warn("報告書の読み込みに失敗しました", e);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 報告書の行をBeanに変換します、列が足りない場合は空文字で補います
+     *
+     * @param line 報告書の行
+     * @return Bean
+     */
+    private T toBean(String line) {
+        String[] cols = line.split(",", -1);
+        int columns = this.property.getNames().size();
+        if (cols.length < columns) {
+            int length = cols.length;
+            cols = Arrays.copyOf(cols, columns);
+            Arrays.fill(cols, length, columns, "");
+        }
+        return this.mapper.apply(cols);
+    }
+
+    /**
+     * 表示する行の位置とソートする列の値、報告書の{@value #PAGE_SIZE}行毎の位置を保持する索引<br>
+     * バックグラウンドで作成し、作成後は変更しません
+     */
+    private final class Index {
+        /** 読み込んだ報告書 */
+        private final List<Path> files;
+        /** 報告書毎の読み込んだ行数 */
+        private final int[] lineCounts;
+        /** 報告書毎の読み込んだ位置(バイト数、圧縮された報告書は展開した内容の位置) */
+        private final long[] ends;
+        /** 報告書毎の{@value ReportPager#PAGE_SIZE}行毎の行の先頭の位置 */
+        private final long[][] chunks;
+        /** 表示する行の位置(報告書のインデックス << 32 | 行番号)、報告書の順 */
+        private long[] positions;
+        /** 表示する行の数 */
+        private int size;
+        /** 表示順(positionsのインデックス)、ソートしない場合null */
+        private int[] order;
+        /** ソートする列の値 */
+        private final Map<Integer, ColumnKeys> keys;
+
+        private Index(List<Path> files, List<TableWrapper.SortParameter> parameters) {
+            this.files = files;
+            this.lineCounts = new int[files.size()];
+            this.ends = new long[files.size()];
+            this.chunks = new long[files.size()][0];
+            this.positions = new long[256];
+            this.keys = new HashMap<>();
+            for (TableWrapper.SortParameter p : parameters) {
+                this.keys.put(p.index, new ColumnKeys());
+            }
+        }
+
+        private Index(Index base) {
+            this.files = base.files;
+            this.lineCounts = base.lineCounts.clone();
+            this.ends = base.ends.clone();
+            this.chunks = new long[base.chunks.length][];
+            Arrays.setAll(this.chunks, i -> base.chunks[i].clone());
+            this.positions = base.positions.clone();
+            this.size = base.size;
+            this.keys = new HashMap<>();
+            for (Entry<Integer, ColumnKeys> entry : base.keys.entrySet()) {
+                this.keys.put(entry.getKey(), new ColumnKeys(entry.getValue()));
+            }
+        }
+
+        /**
+         * 追記された行を読み込むための複製を作成します
+         *
+         * @return 複製
+         */
+        private Index copy() {
+            return new Index(this);
+        }
+
+        /**
+         * 報告書を1つ前回読み込んだ位置から読み込みます
+         *
+         * @param fileIndex 報告書のインデックス
+         * @param filter フィルター
+         */
+        private void scan(int fileIndex, Predicate<T> filter) {
+            int lineNo = this.lineCounts[fileIndex];
+            long[] chunk = this.chunks[fileIndex];
+            try (LineReader reader = new LineReader(this.files.get(fileIndex), this.ends[fileIndex])) {
+                if ((this.ends[fileIndex] == 0) && (reader.readLine() == null)) {
+                    // ヘッダーもない
+                    return;
+                }
+                this.ends[fileIndex] = reader.getOffset();
+                while (true) {
+                    long offset = reader.getOffset();
+                    String line = reader.readLine();
+                    if (line == null) {
+                        break;
+                    }
+                    if ((lineNo % PAGE_SIZE) == 0) {
+                        int n = lineNo / PAGE_SIZE;
+                        if (n >= chunk.length) {
+                            chunk = Arrays.copyOf(chunk, Math.max(16, chunk.length * 2));
+                            this.chunks[fileIndex] = chunk;
+                        }
+                        chunk[n] = offset;
+                    }
+                    int current = lineNo++;
+                    this.lineCounts[fileIndex] = lineNo;
+                    this.ends[fileIndex] = reader.getOffset();
+                    T bean = ReportPager.this.toBean(line);
+                    if ((filter != null) && !filter.test(bean)) {
+                        continue;
+                    }
+                    if (this.size == this.positions.length) {
+                        this.positions = Arrays.copyOf(this.positions, this.size * 2);
+                    }
+                    int row = this.size++;
+                    this.positions[row] = ((long) fileIndex << 32) | current;
+                    for (Entry<Integer, ColumnKeys> entry : this.keys.entrySet()) {
+                        entry.getValue().add(row, ReportPager.this.property.getString(bean, entry.getKey()));
+                    }
+                }
+            } catch (Exception e) {
+                LoggerHolder.LOG.warn("報告書の読み込みに失敗しました", e);
+            }
+        }
+
+        /**
+         * 読み込まれている行をソートします
+         *
+         * @param parameters ソートのパラメーター
+         * @param comparator テーブルソート
+         */
+        private void sort(List<TableWrapper.SortParameter> parameters, Comparator<String> comparator) {
+            if (parameters.isEmpty()) {
+                this.order = null;
+                return;
+            }
+            Comparator<Integer> c = null;
+            // 後から追加されたソート条件を優先する
+            for (int i = parameters.size() - 1; i >= 0; i--) {
+                TableWrapper.SortParameter p = parameters.get(i);
+                ColumnKeys column = this.keys.get(p.index);
+                int[] ranks = column.ranks(p.order == SWT.UP ? comparator : comparator.reversed());
+                int[] ids = column.ids;
+                Comparator<Integer> k = Comparator.comparingInt(e -> ranks[ids[e]]);
+                c = c == null ? k : c.thenComparing(k);
+            }
+            Integer[] indexes = new Integer[this.size];
+            Arrays.setAll(indexes, i -> i);
+            Arrays.sort(indexes, c);
+            this.order = new int[this.size];
+            Arrays.setAll(this.order, i -> indexes[i]);
+        }
+    }
+
+    /**
+     * ソートする列の値を辞書番号で保持します
+     */
+    private static final class ColumnKeys {
+        /** 値 -> 辞書番号 */
+        private final Map<String, Integer> dictionary;
+        /** 辞書番号 -> 値 */
+        private final List<String> values;
+        /** 行毎の辞書番号(positionsと同じ順) */
+        private int[] ids;
+
+        private ColumnKeys() {
+            this.dictionary = new HashMap<>();
+            this.values = new ArrayList<>();
+            this.ids = new int[256];
+        }
+
+        private ColumnKeys(ColumnKeys base) {
+            this.dictionary = new HashMap<>(base.dictionary);
+            this.values = new ArrayList<>(base.values);
+            this.ids = base.ids.clone();
+        }
+
+        private void add(int row, String value) {
+            Integer id = this.dictionary.get(value);
+            if (id == null) {
+                id = this.values.size();
+                this.dictionary.put(value, id);
+                this.values.add(value);
+            }
+            if (row >= this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, Math.max(row + 1, this.ids.length * 2));
+            }
+            this.ids[row] = id;
+        }
+
+        /**
+         * 辞書番号毎の順位を返します
+         *
+         * @param comparator 値の比較
+         * @return 順位
+         */
+        private int[] ranks(Comparator<String> comparator) {
+            Integer[] sorted = new Integer[this.values.size()];
+            Arrays.setAll(sorted, i -> i);
+            Arrays.sort(sorted, (a, b) -> comparator.compare(this.values.get(a), this.values.get(b)));
+            int[] ranks = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                ranks[sorted[i]] = ((i > 0) && (comparator.compare(this.values.get(sorted[i - 1]),
+                        this.values.get(sorted[i])) == 0)) ? ranks[sorted[i - 1]] : i;
+            }
+            return ranks;
+        }
+    }
+
+    /**
+     * 報告書を行の位置を数えながら1行ずつ読み込みます
+     * <p>
+     * 改行で終わっていない行は書き込み中のため読み込みません。
+     * </p>
+     */
+    private static final class LineReader implements Closeable {
+        /** 報告書 */
+        private final InputStream in;
+        /** 読み込みバッファ */
+        private final byte[] buffer = new byte[8192];
+        /** バッファの読み込み位置 */
+        private int pos;
+        /** バッファの終わり */
+        private int limit;
+        /** バッファの読み込み位置の報告書での位置 */
+        private long position;
+        /** 次の行の先頭の位置 */
+        private long offset;
+        /** 読み込み中の行 */
+        private byte[] line = new byte[256];
+
+        /**
+         * 報告書を開いて指定した位置に移動します
+         *
+         * @param path 報告書
+         * @param offset 位置
+         * @throws IOException
+         */
+        private LineReader(Path path, long offset) throws IOException {
+            this.in = ReportArchive.newInputStream(path);
+            try {
+                this.seek(offset);
+            } catch (IOException e) {
+                this.in.close();
+                throw e;
+            }
+        }
+
+        /**
+         * 次の行の先頭の位置を返します
+         *
+         * @return 位置
+         */
+        private long getOffset() {
+            return this.offset;
+        }
+
+        /**
+         * 現在の位置より後ろの位置に移動します<br>
+         * 圧縮された報告書は移動する位置まで展開して読み飛ばします
+         *
+         * @param target 位置
+         * @throws IOException
+         */
+        private void seek(long target) throws IOException {
+            long skip = target - this.position;
+            if (skip < 0) {
+                throw new IllegalArgumentException("seek backward: " + target);
+            }
+            if (skip <= (this.limit - this.pos)) {
+                this.pos += (int) skip;
+            } else {
+                skip -= this.limit - this.pos;
+                this.pos = this.limit;
+                while (skip > 0) {
+                    long skipped = this.in.skip(skip);
+                    if (skipped <= 0) {
+                        if (this.in.read() < 0) {
+                            throw new EOFException();
+                        }
+                        skipped = 1;
+                    }
+                    skip -= skipped;
+                }
+            }
+            this.position = target;
+            this.offset = target;
+        }
+
+        /**
+         * 1行読み込みます
+         *
+         * @return 行、ファイルの終わりか改行で終わっていない場合null
+         * @throws IOException
+         */
+        @CheckForNull
+        private String readLine() throws IOException {
+            int length = 0;
+            while (true) {
+                if (this.pos == this.limit) {
+                    int n = this.in.read(this.buffer);
+                    if (n <= 0) {
+                        return null;
+                    }
+                    this.pos = 0;
+                    this.limit = n;
+                }
+                int start = this.pos;
+                int end = start;
+                while ((end < this.limit) && (this.buffer[end] != '\n')) {
+                    end++;
+                }
+                int count = end - start;
+                if ((length + count) > this.line.length) {
+                    this.line = Arrays.copyOf(this.line, Math.max(length + count, this.line.length * 2));
+                }
+                System.arraycopy(this.buffer, start, this.line, length, count);
+                length += count;
+                this.position += count;
+                this.pos = end;
+                if (end < this.limit) {
+                    // 改行
+                    this.pos++;
+                    this.position++;
+                    this.offset = this.position;
+                    if ((length > 0) && (this.line[length - 1] == '\r')) {
+                        length--;
+                    }
+                    return new String(this.line, 0, length, AppConstants.CHARSET);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.in.close();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package logbook.gui.logic;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -14,35 +16,118 @@ import org.apache.commons.lang3.StringUtils;
 
 /**
  * 艦娘フィルタロジック
- *
+ * <p>
+ * 検索ワードは1度だけ解析し、テキスト・艦種・装備・鍵付きのフィルタは{@link ShipIndex}の索引に対して
+ * 所有艦娘が変わるまで1度だけ評価します。グループと艦隊はフィルタ毎に評価します。
+ * </p>
  */
 public final class ShipFilterLogic implements Predicate<ShipBean> {
 
     private final ShipFilterDto filter;
 
+    /** 検索ワード(テキストが入力されていない場合null) */
+    private final List<Predicate<String>> words;
+
+    /** 索引に対して評価した結果 */
+    private BitSet result;
+
+    /** 結果を評価した索引 */
+    private ShipIndex index;
+
     /**
      * 艦娘フィルタ
      */
     public ShipFilterLogic(ShipFilterDto filter) {
         this.filter = filter;
+        this.words = compile(filter);
     }
 
     @Override
     public boolean test(ShipBean t) {
-        return this.shipFilter(t.getShip());
+        ShipDto ship = t.getShip();
+        ShipIndex index = ShipIndex.get();
+        int position = index.indexOf(ship);
+        if (position >= 0) {
+            if (!this.getResult(index).get(position)) {
+                return false;
+            }
+        } else if (!this.indexedFilter(ship)) {
+            // 索引を作成した後に更新された艦娘
+            return false;
+        }
+        return this.shipFilter(ship);
     }
 
     /**
-     * 艦娘をフィルタします
+     * 索引に対してテキスト・艦種・装備・鍵付きのフィルタを評価します
+     *
+     * @param index 索引
+     * @return 索引の番号毎のフィルタ結果
+     */
+    private synchronized BitSet getResult(ShipIndex index) {
+        if (this.index != index) {
+            BitSet bits = index.types(this.filter.shipType);
+            if (this.words != null) {
+                for (Predicate<String> word : this.words) {
+                    bits.and(index.text(word));
+                }
+            }
+            if (!StringUtils.isEmpty(this.filter.itemname)) {
+                bits.and(index.item(this.filter.itemname));
+            }
+            if (!this.filter.locked) {
+                bits.andNot(index.locked());
+            }
+            if (!this.filter.notlocked) {
+                bits.and(index.locked());
+            }
+            this.result = bits;
+            this.index = index;
+        }
+        return this.result;
+    }
+
+    /**
+     * 検索ワードを解析します
      *
-     * @param ship 艦娘
      * @param filter フィルターオブジェクト
+     * @return 検索ワード毎の条件、テキストが入力されていない場合null
+     */
+    private static List<Predicate<String>> compile(ShipFilterDto filter) {
+        if (StringUtils.isEmpty(filter.nametext)) {
+            return null;
+        }
+        // 検索ワード
+        String[] words = StringUtils.split(filter.nametext, " ");
+        List<Predicate<String>> predicates = new ArrayList<>(words.length);
+        for (String word : words) {
+            if (filter.regexp) {
+                // 正規表現で検索
+                try {
+                    Pattern pattern = Pattern.compile(word);
+                    predicates.add(s -> pattern.matcher(s).find());
+                } catch (PatternSyntaxException e) {
+                    // 無効な正規表現はfalseを返す
+                    predicates.add(s -> false);
+                }
+            } else {
+                // 部分一致で検索する
+                predicates.add(s -> s.indexOf(word) != -1);
+            }
+        }
+        return predicates;
+    }
+
+    /**
+     * 索引を使わずにテキスト・艦種・装備・鍵付きのフィルタを評価します
+     *
+     * @param ship 艦娘
      * @return フィルタ結果
      */
-    private boolean shipFilter(ShipDto ship) {
+    private boolean indexedFilter(ShipDto ship) {
         // テキストでフィルタ
-        if (!StringUtils.isEmpty(this.filter.nametext)) {
-            if (!textFilter(ship, this.filter)) {
+        if (this.words != null) {
+            if (!this.textFilter(ship)) {
                 return false;
             }
         }
@@ -50,30 +135,12 @@ public final class ShipFilterLogic implements Predicate<ShipBean> {
         if (!typeFilter(ship, this.filter)) {
             return false;
         }
-        // グループでフィルタ
-        if (this.filter.group != null) {
-            if (!this.filter.group.getShips().contains(ship.getId())) {
-                return false;
-            }
-        }
         // 装備でフィルタ
         if (!StringUtils.isEmpty(this.filter.itemname)) {
             if (!itemFilter(ship, this.filter)) {
                 return false;
             }
         }
-        // 艦隊に所属
-        if (!this.filter.onfleet) {
-            if (!StringUtils.isEmpty(ship.getFleetid())) {
-                return false;
-            }
-        }
-        // 艦隊に非所属
-        if (!this.filter.notonfleet) {
-            if (StringUtils.isEmpty(ship.getFleetid())) {
-                return false;
-            }
-        }
         // 鍵付き
         if (!this.filter.locked) {
             if (ship.getLocked()) {
@@ -89,15 +156,40 @@ public final class ShipFilterLogic implements Predicate<ShipBean> {
         return true;
     }
 
+    /**
+     * 艦娘をグループと艦隊でフィルタします
+     *
+     * @param ship 艦娘
+     * @return フィルタ結果
+     */
+    private boolean shipFilter(ShipDto ship) {
+        // グループでフィルタ
+        if (this.filter.group != null) {
+            if (!this.filter.group.getShips().contains(ship.getId())) {
+                return false;
+            }
+        }
+        // 艦隊に所属
+        if (!this.filter.onfleet) {
+            if (!StringUtils.isEmpty(ship.getFleetid())) {
+                return false;
+            }
+        }
+        // 艦隊に非所属
+        if (!this.filter.notonfleet) {
+            if (StringUtils.isEmpty(ship.getFleetid())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * テキストでフィルタ
      *
      * @param ship
-     * @param filter
      */
-    private static boolean textFilter(ShipDto ship, ShipFilterDto filter) {
-        // 検索ワード
-        String[] words = StringUtils.split(filter.nametext, " ");
+    private boolean textFilter(ShipDto ship) {
         // 検索対象
         // 名前
         String name = ship.getName();
@@ -106,51 +198,21 @@ public final class ShipFilterLogic implements Predicate<ShipBean> {
         // 装備
         List<String> items = ship.getSlot();
 
-        // テキストが入力されている場合処理する
-        if (filter.regexp) {
-            // 正規表現で検索
-            for (int i = 0; i < words.length; i++) {
-                Pattern pattern;
-                try {
-                    pattern = Pattern.compile(words[i]);
-                } catch (PatternSyntaxException e) {
-                    // 無効な正規表現はfalseを返す
-                    return false;
-                }
-                boolean find = false;
-
-                // 名前で検索
-                find = find ? find : pattern.matcher(name).find();
-                // 艦種で検索
-                find = find ? find : pattern.matcher(type).find();
-                // 装備で検索
-                for (String item : items) {
-                    find = find ? find : pattern.matcher(item).find();
-                }
+        for (Predicate<String> word : this.words) {
+            boolean find = false;
 
-                if (!find) {
-                    // どれにもマッチしない場合
-                    return false;
-                }
+            // 名前で検索
+            find = find ? find : word.test(name);
+            // 艦種で検索
+            find = find ? find : word.test(type);
+            // 装備で検索
+            for (String item : items) {
+                find = find ? find : word.test(item);
             }
-        } else {
-            // 部分一致で検索する
-            for (int i = 0; i < words.length; i++) {
-                boolean find = false;
-
-                // 名前で検索
-                find = find ? find : name.indexOf(words[i]) != -1;
-                // 艦種で検索
-                find = find ? find : type.indexOf(words[i]) != -1;
-                // 装備で検索
-                for (String item : items) {
-                    find = find ? find : item.indexOf(words[i]) != -1;
-                }
 
-                if (!find) {
-                    // どれにもマッチしない場合
-                    return false;
-                }
+            if (!find) {
+                // どれにもマッチしない場合
+                return false;
             }
         }
         return true;
@@ -0,0 +1,178 @@
+package logbook.gui.logic;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Predicate;
+
+import logbook.data.context.ItemContext;
+import logbook.data.context.ShipContext;
+import logbook.dto.ItemDto;
+import logbook.dto.ShipDto;
+
+/**
+ * 艦娘フィルタのための艦娘の索引
+ * <p>
+ * 艦娘毎に番号を付け、艦種・装備・鍵付きと検索対象の文字列(名前・艦種・装備名)毎に該当する艦娘をBitSetで保持します。<br>
+ * 索引は所有艦娘か装備が変わった時に作り直されます。
+ * </p>
+ */
+final class ShipIndex {
+
+    /** 最後に作成した索引 */
+    private static ShipIndex current;
+
+    /** 作成した時の{@link ShipContext#getVersion()} */
+    private final int shipVersion;
+
+    /** 作成した時の{@link ItemContext#getVersion()} */
+    private final int itemVersion;
+
+    /** 艦娘(番号順) */
+    private final ShipDto[] ships;
+
+    /** 艦娘IDと番号 */
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    /** 艦種毎の艦娘 */
+    private final Map<String, BitSet> types = new HashMap<>();
+
+    /** 装備名毎の艦娘 */
+    private final Map<String, BitSet> items = new HashMap<>();
+
+    /** 検索対象の文字列毎の艦娘 */
+    private final Map<String, BitSet> texts = new HashMap<>();
+
+    /** 鍵付きの艦娘 */
+    private final BitSet locked = new BitSet();
+
+    /**
+     * 現在の所有艦娘の索引を取得します
+     *
+     * @return 索引
+     */
+    static synchronized ShipIndex get() {
+        int shipVersion = ShipContext.getVersion();
+        int itemVersion = ItemContext.getVersion();
+        if ((current == null) || (current.shipVersion != shipVersion) || (current.itemVersion != itemVersion)) {
+            current = new ShipIndex(shipVersion, itemVersion, ShipContext.get().values());
+        }
+        return current;
+    }
+
+    private ShipIndex(int shipVersion, int itemVersion, Collection<ShipDto> ships) {
+        this.shipVersion = shipVersion;
+        this.itemVersion = itemVersion;
+        this.ships = ships.toArray(new ShipDto[0]);
+        for (int i = 0; i < this.ships.length; i++) {
+            ShipDto ship = this.ships[i];
+            this.positions.put(ship.getId(), i);
+            if (ship.getLocked()) {
+                this.locked.set(i);
+            }
+            if (ship.getType() != null) {
+                add(this.types, ship.getType(), i);
+                add(this.texts, ship.getType(), i);
+            }
+            add(this.texts, ship.getName(), i);
+            for (String slot : ship.getSlot()) {
+                add(this.texts, slot, i);
+            }
+            for (ItemDto item : ship.getItem()) {
+                if (item != null) {
+                    add(this.items, item.getName(), i);
+                }
+            }
+        }
+    }
+
+    private static void add(Map<String, BitSet> map, String key, int position) {
+        BitSet bits = map.get(key);
+        if (bits == null) {
+            bits = new BitSet();
+            map.put(key, bits);
+        }
+        bits.set(position);
+    }
+
+    /**
+     * 索引での艦娘の番号を取得します
+     *
+     * @param ship 艦娘
+     * @return 番号、索引を作成した後に更新された艦娘の場合-1
+     */
+    int indexOf(ShipDto ship) {
+        Integer position = this.positions.get(ship.getId());
+        if ((position != null) && (this.ships[position] == ship)) {
+            return position;
+        }
+        return -1;
+    }
+
+    /**
+     * 全ての艦娘
+     *
+     * @return 全ての艦娘のBitSet
+     */
+    BitSet all() {
+        BitSet bits = new BitSet(this.ships.length);
+        bits.set(0, this.ships.length);
+        return bits;
+    }
+
+    /**
+     * 指定した艦種の艦娘
+     *
+     * @param types 艦種
+     * @return 艦娘のBitSet
+     */
+    BitSet types(Collection<String> types) {
+        BitSet bits = new BitSet(this.ships.length);
+        for (String type : types) {
+            BitSet ships = this.types.get(type);
+            if (ships != null) {
+                bits.or(ships);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 指定した装備を持つ艦娘
+     *
+     * @param name 装備名
+     * @return 艦娘のBitSet
+     */
+    BitSet item(String name) {
+        BitSet bits = this.items.get(name);
+        return bits != null ? (BitSet) bits.clone() : new BitSet(this.ships.length);
+    }
+
+    /**
+     * 名前・艦種・装備名のいずれかが条件に一致する艦娘<br>
+     * 条件は艦娘毎ではなく異なる文字列毎に1度だけ評価されます
+     *
+     * @param word 条件
+     * @return 艦娘のBitSet
+     */
+    BitSet text(Predicate<String> word) {
+        BitSet bits = new BitSet(this.ships.length);
+        for (Entry<String, BitSet> entry : this.texts.entrySet()) {
+            if (word.test(entry.getKey())) {
+                bits.or(entry.getValue());
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 鍵付きの艦娘
+     *
+     * @return 艦娘のBitSet
+     */
+    BitSet locked() {
+        return this.locked;
+    }
+}
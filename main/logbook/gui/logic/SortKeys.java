@@ -0,0 +1,104 @@
+package logbook.gui.logic;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * テーブルの1列分のソートキー
+ * <p>
+ * 列の値を1度だけ数値・時間・文字列のいずれかに変換して保持し、比較の度に文字列を解析しないようにします。<br>
+ * 比較の結果は{@link TableWrapper}の既定のテーブルソートと同じで、空文字は最後になります。
+ * </p>
+ */
+final class SortKeys {
+
+    /** 空文字 */
+    private static final byte EMPTY = 0;
+    /** 数値 */
+    private static final byte NUMBER = 1;
+    /** 時間 */
+    private static final byte DURATION = 2;
+    /** 文字列 */
+    private static final byte TEXT = 3;
+
+    /** 時間のパターン */
+    private static final Pattern DURATION_PATTERN = Pattern
+            .compile("(?:(\\d+)日)?(?:(\\d+)時間)?(?:(\\d+)分)?(?:(\\d+)秒)?");
+
+    /** 種類 */
+    private final byte[] kinds;
+    /** 数値または時間(秒) */
+    private final long[] numbers;
+    /** 値 */
+    private final String[] texts;
+
+    /**
+     * ソートキーを作成します
+     *
+     * @param values 列の値
+     */
+    SortKeys(String[] values) {
+        this.kinds = new byte[values.length];
+        this.numbers = new long[values.length];
+        this.texts = values;
+        for (int i = 0; i < values.length; i++) {
+            this.kinds[i] = this.parse(i, values[i]);
+        }
+    }
+
+    /**
+     * 2つの行のソートキーを比較します
+     *
+     * @param a 行
+     * @param b 行
+     * @return 比較の結果
+     */
+    int compare(int a, int b) {
+        byte ka = this.kinds[a];
+        byte kb = this.kinds[b];
+        if (ka == EMPTY) {
+            return kb == EMPTY ? 0 : 1;
+        }
+        if (kb == EMPTY) {
+            return -1;
+        }
+        if ((ka == kb) && (ka != TEXT)) {
+            return Long.compare(this.numbers[a], this.numbers[b]);
+        }
+        return this.texts[a].compareTo(this.texts[b]);
+    }
+
+    private byte parse(int index, String value) {
+        if ((value == null) || value.isEmpty()) {
+            return EMPTY;
+        }
+        if (StringUtils.isNumeric(value)) {
+            try {
+                this.numbers[index] = Long.parseLong(value);
+                return NUMBER;
+            } catch (NumberFormatException e) {
+                return TEXT;
+            }
+        }
+        Matcher matcher = DURATION_PATTERN.matcher(value);
+        if (matcher.matches()) {
+            try {
+                long seconds = 0;
+                long[] units = { 86400, 3600, 60, 1 };
+                for (int i = 0; i < units.length; i++) {
+                    String group = matcher.group(i + 1);
+                    if (group != null) {
+                        seconds += Long.parseLong(group) * units[i];
+                    }
+                }
+                this.numbers[index] = seconds;
+                return DURATION;
+            } catch (NumberFormatException e) {
+                return TEXT;
+            }
+        }
+        return TEXT;
+    }
+}
@@ -18,6 +18,18 @@ public interface TableItemDecorator<T> {
      */
     void update(TableItem item, T bean, int index);
 
+    /**
+     * 装飾の状態を返します<br>
+     * 前回の描画と状態が等しい行は{@link #update(TableItem, Object, int)}を省略します
+     *
+     * @param bean TableItemの元になったBean
+     * @param index TableItemの行番号
+     * @return 装飾の状態、状態を比較できない場合null
+     */
+    default Object getState(T bean, int index) {
+        return null;
+    }
+
     /**
      * ストライプ模様のTableItemDecoratorを作成します
      *
@@ -25,6 +37,16 @@ public interface TableItemDecorator<T> {
      * @return ストライプ模様のTableItemDecorator
      */
     static <T> TableItemDecorator<T> stripe(Color color) {
-        return (item, bean, index) -> item.setBackground((index % 2) != 0 ? color : null);
+        return new TableItemDecorator<T>() {
+            @Override
+            public void update(TableItem item, T bean, int index) {
+                item.setBackground((index % 2) != 0 ? color : null);
+            }
+
+            @Override
+            public Object getState(T bean, int index) {
+                return (index % 2) != 0;
+            }
+        };
     }
 }
@@ -1,12 +1,18 @@
 package logbook.gui.logic;
 
 import java.text.ParseException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
@@ -30,7 +36,8 @@ import org.eclipse.swt.widgets.TableItem;
 
 /**
  * SWTのテーブルをラップして使いやすくするクラス<br>
- * Beanクラスの{@link logbook.annotation.Name}注釈が付与されたプロパティが列として認識されます
+ * Beanクラスの{@link logbook.annotation.Name}注釈が付与されたプロパティが列として認識されます<br>
+ * テーブルがSWT.VIRTUALスタイルの場合、行の内容は表示される時に設定され、最近表示された行だけが保持されます
  * <pre>{@code
  *
  *     TableWrapper<ItemBean> wrapper = new TableWrapper(table, ItemBean.class)
@@ -45,18 +52,25 @@ import org.eclipse.swt.widgets.TableItem;
  */
 public final class TableWrapper<T> {
 
+    /** SWT.VIRTUALスタイルのテーブルで内容を保持する最大行数 */
+    private static final int VIRTUAL_CACHE_SIZE = 500;
+
     /** テーブル */
     private final Table table;
     /** Beanの情報 */
     private final BeanProperty<T> property;
     /** 1列目にインデックス番号を付ける */
     private final boolean visibleIndex;
+    /** SWT.VIRTUALスタイルのテーブル */
+    private final boolean virtual;
     /** サプライヤー */
     private Supplier<Stream<T>> contentSupplier;
     /** TableItemの装飾 */
     private TableItemDecorator<T> decorator;
     /** テーブルソート */
     private Comparator<String> comparator = new EmptyLast(new TableComparator());
+    /** 既定のテーブルソートを使う(ソートキーを数値・時間・文字列に変換してソートする) */
+    private boolean typedSort = true;
     /** フィルター */
     private Predicate<T> filter;
     /** このテーブルを持つダイアログクラス */
@@ -64,8 +78,32 @@ public final class TableWrapper<T> {
 
     /** テーブルの内容 */
     private List<T> content;
+    /** 報告書から読み込むテーブルの内容 */
+    private ReportPager<T> pager;
+    /** 描画した時のReportPagerの番号 */
+    private int pagerVersion = -1;
     /** ソート */
     private final List<SortParameter> parameters = new ArrayList<>();
+    /** 描画した行(行番号順) */
+    private final List<RenderedRow> rendered = new ArrayList<>();
+    /** 列幅を調整した時の列毎の最も長い文字列 */
+    private String[] packedWidest;
+    /** 内容を設定した行(SWT.VIRTUALスタイルの場合、最近表示された順) */
+    private final Map<Integer, RenderedRow> materialized = new LinkedHashMap<Integer, RenderedRow>(16, 0.75f,
+            true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Entry<Integer, RenderedRow> eldest) {
+            if (this.size() > VIRTUAL_CACHE_SIZE) {
+                TableWrapper.this.release(eldest.getKey());
+                return true;
+            }
+            return false;
+        }
+    };
+    /** 内容を破棄する行 */
+    private final List<Integer> released = new ArrayList<>();
 
     /**
      * TableWrapperを構築します
@@ -88,6 +126,7 @@ public final class TableWrapper<T> {
         this.table = table;
         this.property = BeanProperty.getInstance(clazz);
         this.visibleIndex = visibleIndex;
+        this.virtual = (table.getStyle() & SWT.VIRTUAL) != 0;
 
         // ヘッダーセット
         List<String> names = this.property.getNames();
@@ -110,6 +149,10 @@ public final class TableWrapper<T> {
             col.addSelectionListener(listener);
             col.setText(name);
         }
+        if (this.virtual) {
+            this.content = Collections.emptyList();
+            this.table.addListener(SWT.SetData, e -> this.setData((TableItem) e.item, e.index));
+        }
     }
 
     /**
@@ -135,6 +178,28 @@ public final class TableWrapper<T> {
         return this;
     }
 
+    /**
+     * テーブルの内容を報告書からページ単位で読み込むReportPagerをセットします<br>
+     * テーブルはSWT.VIRTUALスタイルで作成されている必要があります
+     *
+     * @param pager テーブルの内容を報告書から読み込むReportPager
+     * @return TableWrapper
+     */
+    public TableWrapper<T> setPager(ReportPager<T> pager) {
+        Objects.requireNonNull(pager);
+        if ((this.table.getStyle() & SWT.VIRTUAL) == 0) {
+            throw new IllegalStateException("Table is not SWT.VIRTUAL");
+        }
+        this.pager = pager;
+        this.pager.setListener(() -> {
+            if (!this.table.isDisposed()) {
+                this.update();
+            }
+        });
+        this.content = new PagerList();
+        return this;
+    }
+
     /**
      * TableItemの装飾を行うためのTableItemDecoratorをセットします
      *
@@ -143,6 +208,13 @@ public final class TableWrapper<T> {
      */
     public TableWrapper<T> setDecorator(TableItemDecorator<T> decorator) {
         this.decorator = decorator;
+        // 装飾の状態は装飾毎に異なるため全ての行を装飾し直す
+        for (RenderedRow row : this.rendered) {
+            row.decorated = false;
+        }
+        for (RenderedRow row : this.materialized.values()) {
+            row.decorated = false;
+        }
         return this;
     }
 
@@ -155,6 +227,7 @@ public final class TableWrapper<T> {
     public TableWrapper<T> setComparator(Comparator<String> comparator) {
         Objects.requireNonNull(comparator);
         this.comparator = comparator;
+        this.typedSort = false;
         return this;
     }
 
@@ -175,10 +248,16 @@ public final class TableWrapper<T> {
      * @return TableWrapper
      */
     public TableWrapper<T> reload() {
+        if (this.pager != null) {
+            this.pager.setFilter(this.filter);
+            this.pager.setSort(this.parameters, this.comparator);
+            this.pager.reload();
+            return this;
+        }
         Stream<T> stream = this.contentSupplier.get();
         if (this.filter != null)
             stream = stream.filter(this.filter);
-        this.content = this.sort(stream).collect(Collectors.toList());
+        this.content = this.sort(stream.collect(Collectors.toList()));
         return this;
     }
 
@@ -188,34 +267,195 @@ public final class TableWrapper<T> {
      * @return TableWrapper
      */
     public TableWrapper<T> update() {
-        this.table.setRedraw(false);
+        if (this.virtual) {
+            return this.updateVirtual();
+        }
+        boolean redraw = false;
         TableItem[] items = this.table.getItems();
         int size = this.content.size();
-        int override = Math.min(items.length, size);
-        // Override Row
-        for (int i = 0; i < override; i++) {
-            T bean = this.content.get(i);
-            String[] text = this.property.getStringValues(bean);
-            this.setText(i, items[i], text);
-            if (this.decorator != null) {
-                this.decorator.update(items[i], bean, i);
-            }
-        }
-        // Create Row
-        for (int i = override; i < size; i++) {
-            T bean = this.content.get(i);
-            String[] text = this.property.getStringValues(bean);
-            TableItem item = new TableItem(this.table, SWT.NONE);
-            this.setText(i, item, text);
-            if (this.decorator != null) {
-                this.decorator.update(item, bean, i);
+        for (int i = 0; i < size; i++) {
+            TableItem item;
+            RenderedRow row;
+            if (i < items.length) {
+                // Override Row
+                item = items[i];
+                row = this.rendered.get(i);
+            } else {
+                // Create Row
+                if (!redraw) {
+                    this.table.setRedraw(false);
+                    redraw = true;
+                }
+                item = new TableItem(this.table, SWT.NONE);
+                row = new RenderedRow();
+                this.rendered.add(row);
             }
+            redraw = this.render(item, i, this.content.get(i), row, redraw);
         }
         // Dispose Row
-        for (int i = size; i < items.length; i++) {
-            items[i].dispose();
+        if (size < items.length) {
+            if (!redraw) {
+                this.table.setRedraw(false);
+                redraw = true;
+            }
+            for (int i = size; i < items.length; i++) {
+                items[i].dispose();
+            }
+            this.rendered.subList(size, this.rendered.size()).clear();
         }
         // Pack headers
+        redraw = this.pack(this.rendered, redraw);
+        if (redraw) {
+            this.table.setRedraw(true);
+        }
+        return this;
+    }
+
+    /**
+     * SWT.VIRTUALスタイルのテーブルを再描画する<br>
+     * 行の内容は表示される時に{@link SWT#SetData}で設定されます
+     *
+     * @return TableWrapper
+     */
+    private TableWrapper<T> updateVirtual() {
+        boolean redraw = false;
+        int size = this.content.size();
+        if (this.pager != null) {
+            if (this.pagerVersion != this.pager.getVersion()) {
+                // 内容が変わっている場合だけ行の内容を破棄する
+                this.table.setRedraw(false);
+                redraw = true;
+                this.table.setItemCount(size);
+                this.table.clearAll();
+                this.materialized.clear();
+                this.pagerVersion = this.pager.getVersion();
+            }
+        } else {
+            if (this.table.getItemCount() != size) {
+                this.table.setRedraw(false);
+                redraw = true;
+                this.table.setItemCount(size);
+            }
+            // 内容を設定済みの行だけ前回の描画と比較して書き換える
+            Iterator<Entry<Integer, RenderedRow>> it = this.materialized.entrySet().iterator();
+            while (it.hasNext()) {
+                Entry<Integer, RenderedRow> entry = it.next();
+                int index = entry.getKey();
+                if (index < size) {
+                    redraw = this.render(this.table.getItem(index), index, this.content.get(index), entry.getValue(),
+                            redraw);
+                } else {
+                    it.remove();
+                }
+            }
+        }
+        if (this.packedWidest == null) {
+            // 列幅を調整するために最初のページだけ行の内容を設定する
+            int count = Math.min(size, ReportPager.PAGE_SIZE);
+            for (int i = 0; i < count; i++) {
+                this.table.getItem(i).getText();
+            }
+        }
+        redraw = this.pack(this.materialized.values(), redraw);
+        if (redraw) {
+            this.table.setRedraw(true);
+        }
+        return this;
+    }
+
+    /**
+     * 表示される行の内容を設定します
+     *
+     * @param item 行
+     * @param index 行番号
+     */
+    private void setData(TableItem item, int index) {
+        if ((index < 0) || (index >= this.content.size())) {
+            return;
+        }
+        RenderedRow row = new RenderedRow();
+        this.render(item, index, this.content.get(index), row, true);
+        if (row.text != null) {
+            this.materialized.put(index, row);
+        }
+    }
+
+    /**
+     * 最近表示されていない行の内容を破棄します<br>
+     * 破棄した行は再び表示される時に{@link SWT#SetData}で設定されます
+     *
+     * @param index 行番号
+     */
+    private void release(int index) {
+        if (this.released.isEmpty()) {
+            // SetDataの処理中に行を破棄しないよう後で破棄する
+            this.table.getDisplay().asyncExec(() -> {
+                if (!this.table.isDisposed()) {
+                    int count = this.table.getItemCount();
+                    for (Integer i : this.released) {
+                        if ((i < count) && !this.materialized.containsKey(i)) {
+                            this.table.clear(i);
+                        }
+                    }
+                }
+                this.released.clear();
+            });
+        }
+        this.released.add(index);
+    }
+
+    /**
+     * 行の内容を前回の描画と比較して、変わったセルと装飾だけを書き換えます
+     *
+     * @param item 行
+     * @param index 行番号
+     * @param bean 行の内容
+     * @param row 前回の描画
+     * @param redraw テーブルの描画を停止しているか
+     * @return テーブルの描画を停止しているか
+     */
+    private boolean render(TableItem item, int index, T bean, RenderedRow row, boolean redraw) {
+        if (bean == null) {
+            return redraw;
+        }
+        String[] text = this.toText(index, this.property.getStringValues(bean));
+        // 前回の描画から変わったセルだけ書き換える
+        for (int j = 0; j < text.length; j++) {
+            if ((row.text == null) || !text[j].equals(row.text[j])) {
+                if (!redraw) {
+                    this.table.setRedraw(false);
+                    redraw = true;
+                }
+                item.setText(j, text[j]);
+            }
+        }
+        if (this.decorator != null) {
+            Object state = this.decorator.getState(bean, index);
+            boolean same = state != null ? state.equals(row.state) : (bean == row.bean)
+                    && Arrays.equals(text, row.text);
+            if (!row.decorated || !same) {
+                if (!redraw) {
+                    this.table.setRedraw(false);
+                    redraw = true;
+                }
+                this.decorator.update(item, bean, index);
+                row.decorated = true;
+            }
+            row.state = state;
+        }
+        row.bean = bean;
+        row.text = text;
+        return redraw;
+    }
+
+    /**
+     * 最も長い文字列が変わった列だけ列幅を調整します
+     *
+     * @param rows 描画した行
+     * @param redraw テーブルの描画を停止しているか
+     * @return テーブルの描画を停止しているか
+     */
+    private boolean pack(Collection<RenderedRow> rows, boolean redraw) {
         boolean[] visibles = null;
         if (this.dialogClass != null) {
             visibles = AppConfig.get().getVisibleColumnMap().get(this.dialogClass.getName());
@@ -226,15 +466,34 @@ public final class TableWrapper<T> {
             AppConfig.get().getVisibleColumnMap().remove(this.dialogClass.getName());
             visibles = null;
         }
+        // 列毎の最も長い文字列
+        String[] widest = new String[columns.length];
+        Arrays.fill(widest, "");
+        for (RenderedRow row : rows) {
+            if (row.text != null) {
+                for (int i = 0; i < Math.min(widest.length, row.text.length); i++) {
+                    if (row.text[i].length() > widest[i].length()) {
+                        widest[i] = row.text[i];
+                    }
+                }
+            }
+        }
         for (int i = 0; i < columns.length; i++) {
             if ((visibles == null) || visibles[i]) {
-                columns[i].pack();
-            } else {
+                if ((this.packedWidest == null) || !widest[i].equals(this.packedWidest[i])
+                        || (columns[i].getWidth() == 0)) {
+                    if (!redraw) {
+                        this.table.setRedraw(false);
+                        redraw = true;
+                    }
+                    columns[i].pack();
+                }
+            } else if (columns[i].getWidth() != 0) {
                 columns[i].setWidth(0);
             }
         }
-        this.table.setRedraw(true);
-        return this;
+        this.packedWidest = widest;
+        return redraw;
     }
 
     /**
@@ -256,22 +515,32 @@ public final class TableWrapper<T> {
      * @return TableWrapper
      */
     public TableWrapper<T> sort() {
-        this.content = this.sort(this.content.stream())
-                .collect(Collectors.toList());
+        if (this.pager != null) {
+            this.pager.setSort(this.parameters, this.comparator);
+            this.pager.reload();
+            return this;
+        }
+        this.content = this.sort(new ArrayList<>(this.content));
         return this;
     }
 
     /**
-     * 選択している内容を取得します
+     * 選択している内容を取得します<br>
+     * 報告書から読み込めなかった行は含みません
      *
      * @param factory Bean配列を生成するIntFunction
      * @return 選択している内容
      */
     public T[] getSelection(IntFunction<T[]> factory) {
         int[] indices = this.table.getSelectionIndices();
-        T[] objs = factory.apply(indices.length);
-        Arrays.setAll(objs, i -> this.content.get(indices[i]));
-        return objs;
+        List<T> selection = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            T bean = this.content.get(index);
+            if (bean != null) {
+                selection.add(bean);
+            }
+        }
+        return selection.toArray(factory.apply(selection.size()));
     }
 
     /**
@@ -302,14 +571,21 @@ public final class TableWrapper<T> {
         return this.property.getNameIndex(name);
     }
 
-    private void setText(int index, TableItem item, String[] text) {
-        int shift = 0;
-        if (this.visibleIndex) {
-            item.setText(shift++, Integer.toString(index + 1));
-        }
-        for (int i = 0; i < text.length; i++) {
-            item.setText(i + shift, text[i]);
+    /**
+     * 行に表示する文字列(インデックス列を含む)を作成します
+     *
+     * @param index 行番号
+     * @param values Beanのプロパティーの値
+     * @return 行に表示する文字列
+     */
+    private String[] toText(int index, String[] values) {
+        if (!this.visibleIndex) {
+            return values;
         }
+        String[] text = new String[values.length + 1];
+        text[0] = Integer.toString(index + 1);
+        System.arraycopy(values, 0, text, 1, values.length);
+        return text;
     }
 
     private void sort(TableColumn column) {
@@ -327,27 +603,84 @@ public final class TableWrapper<T> {
         this.sort();
     }
 
-    private Stream<T> sort(Stream<T> stream) {
-        for (SortParameter p : this.parameters) {
-            Comparator<String> comparator = p.order == SWT.UP
-                    ? this.comparator : this.comparator.reversed();
-            stream = stream.sorted((o1, o2) -> {
-                String v1 = this.property.getValue(o1, p.index).map(String::valueOf).orElse(null);
-                String v2 = this.property.getValue(o2, p.index).map(String::valueOf).orElse(null);
-                return comparator.compare(v1, v2);
-            });
+    /**
+     * 行毎に1度だけソートキーを取り出し、全てのソート条件で1度だけ安定ソートします
+     *
+     * @param list テーブルの内容
+     * @return ソートされたテーブルの内容
+     */
+    private List<T> sort(List<T> list) {
+        if (this.parameters.isEmpty() || (list.size() < 2)) {
+            return list;
+        }
+        int size = list.size();
+        Comparator<Integer> c = null;
+        // 後から追加されたソート条件を優先する
+        for (int i = this.parameters.size() - 1; i >= 0; i--) {
+            SortParameter p = this.parameters.get(i);
+            String[] values = new String[size];
+            for (int j = 0; j < size; j++) {
+                Object value = this.property.get(list.get(j), p.index);
+                values[j] = value != null ? String.valueOf(value) : null;
+            }
+            int sign = p.order == SWT.UP ? 1 : -1;
+            Comparator<Integer> k;
+            if (this.typedSort) {
+                SortKeys keys = new SortKeys(values);
+                k = (a, b) -> sign * keys.compare(a, b);
+            } else {
+                Comparator<String> comparator = this.comparator;
+                k = (a, b) -> sign * comparator.compare(values[a], values[b]);
+            }
+            c = c == null ? k : c.thenComparing(k);
+        }
+        Integer[] indexes = new Integer[size];
+        Arrays.setAll(indexes, i -> i);
+        Arrays.sort(indexes, c);
+        List<T> sorted = new ArrayList<>(size);
+        for (Integer index : indexes) {
+            sorted.add(list.get(index));
         }
-        return stream;
+        return sorted;
+    }
+
+    /**
+     * 報告書から読み込むテーブルの内容をListとして参照する
+     */
+    private final class PagerList extends AbstractList<T> {
+        @Override
+        public T get(int index) {
+            return TableWrapper.this.pager.get(index);
+        }
+
+        @Override
+        public int size() {
+            return TableWrapper.this.pager.size();
+        }
+    }
+
+    /**
+     * 描画した行の状態
+     */
+    private static final class RenderedRow {
+        /** 行の元になったBean */
+        private Object bean;
+        /** セルの文字列 */
+        private String[] text;
+        /** 装飾の状態 */
+        private Object state;
+        /** 装飾済み */
+        private boolean decorated;
     }
 
     /**
      * ソートのパラメーター
      */
-    private static final class SortParameter {
+    static final class SortParameter {
         /** インデックス */
-        private final int index;
+        final int index;
         /** 昇順・降順 */
-        private final int order;
+        final int order;
 
         public SortParameter(int index, int order) {
             this.index = index;
@@ -21,6 +21,7 @@ import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.DirectoryDialog;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Spinner;
 import org.eclipse.swt.widgets.Text;
 
 /**
@@ -35,6 +36,10 @@ public final class CaptureConfigComposite extends Composite {
     private final Combo imageformatCombo;
     /** 書式 */
     private final Text imageNameFormat;
+    /** 変化のない画像を保存しない */
+    private final Button skipDuplicate;
+    /** 変化がないとみなす明るさの差 */
+    private final Spinner duplicateTolerance;
 
     /**
      * Create the composite.
@@ -118,6 +123,26 @@ public final class CaptureConfigComposite extends Composite {
         Label label12 = new Label(this, SWT.NONE);
         label12.setLayoutData(new GridData(SWT.RIGHT, SWT.CENTER, false, false, 3, 1));
         label12.setText("英字を書式に含めるには ' (シングルクォーテーション)で囲みます");
+
+        this.skipDuplicate = new Button(this, SWT.CHECK);
+        this.skipDuplicate.setLayoutData(new GridData(SWT.LEFT, SWT.CENTER, false, false, 3, 1));
+        this.skipDuplicate.setText("周期キャプチャで変化のない画像を保存しない");
+        this.skipDuplicate.setSelection(AppConfig.get().isSkipDuplicateCapture());
+
+        Label label13 = new Label(this, SWT.NONE);
+        label13.setLayoutData(new GridData(SWT.RIGHT, SWT.CENTER, false, false, 1, 1));
+        label13.setText("許容する差");
+
+        this.duplicateTolerance = new Spinner(this, SWT.BORDER);
+        GridData gdDuplicateTolerance = new GridData(SWT.LEFT, SWT.CENTER, false, false, 1, 1);
+        gdDuplicateTolerance.widthHint = 40;
+        this.duplicateTolerance.setLayoutData(gdDuplicateTolerance);
+        this.duplicateTolerance.setMinimum(0);
+        this.duplicateTolerance.setMaximum(64);
+        this.duplicateTolerance.setSelection(AppConfig.get().getDuplicateCaptureTolerance());
+
+        Label label14 = new Label(this, SWT.NONE);
+        label14.setText("(明るさ 0-255 の差)");
     }
 
     @Override
@@ -157,6 +182,8 @@ public final class CaptureConfigComposite extends Composite {
         config.setCapturePath(this.getCaptureDir());
         config.setImageFormat(this.getImageformat());
         config.setImageNameFormat(this.getImageNameFormat());
+        config.setSkipDuplicateCapture(this.skipDuplicate.getSelection());
+        config.setDuplicateCaptureTolerance(this.duplicateTolerance.getSelection());
     }
 
     /**
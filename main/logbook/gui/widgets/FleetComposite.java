@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
@@ -24,7 +25,7 @@ import logbook.internal.EvaluateExp;
 import logbook.internal.SeaExp;
 import logbook.thread.PlayerThread;
 import logbook.util.CalcExpUtils;
-import logbook.util.SwtUtils;
+import logbook.util.GaugeCache;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.swt.SWT;
@@ -120,6 +121,10 @@ public class FleetComposite extends Composite {
     private final Label[] nextLabels = new Label[MAXCHARA];
     /** メッセージ */
     private final StyledText message;
+    /** 前回描画した艦娘毎の値 */
+    private final Object[] rendered = new Object[MAXCHARA];
+    /** 前回描画したメッセージ */
+    private Object renderedMessage;
 
     /**
      * @param parent 艦隊タブの親
@@ -286,6 +291,9 @@ public class FleetComposite extends Composite {
 
     /**
      * 艦隊を更新します
+     * <p>
+     * 艦娘毎に前回描画した時の値を保持し、値が変わった艦娘のウィジェットだけを書き換えます。
+     * </p>
      *
      * @param dock
      */
@@ -304,23 +312,15 @@ public class FleetComposite extends Composite {
         this.clearDateString = null;
         this.clearDate = null;
         this.badlyDamage = false;
-        this.message.setText("");
 
+        boolean changed = false;
         List<ShipDto> ships = dock.getShips();
         for (int i = ships.size(); i < MAXCHARA; i++) {
-            this.iconLabels[i].setImage(null);
-            this.nameLabels[i].setText("");
-            this.lvLabels[i].setText("");
-            this.hpLabels[i].setText("");
-            this.hpgaugeLabels[i].setImage(null);
-            this.hpmsgLabels[i].setText("");
-            this.condLabels[i].setText("");
-            this.condstLabels[i].setText("");
-            this.bullstLabels[i].setText("");
-            this.dmgcstyLabels[i].setText("");
-            this.dmgcstmLabels[i].setText("");
-            this.fuelstLabels[i].setText("");
-            this.nextLabels[i].setText("");
+            if (this.rendered[i] != null) {
+                this.clearShip(i);
+                this.rendered[i] = null;
+                changed = true;
+            }
         }
         // 艦隊合計Lv
         int totallv = 0;
@@ -330,33 +330,10 @@ public class FleetComposite extends Composite {
         int totalSakutekiSurvey = 0;
         // 電探索敵値計
         int totalSakutekiRader = 0;
-
         for (int i = 0; i < ships.size(); i++) {
             ShipDto ship = ships.get(i);
-            // 艦娘のステータス
-            BitSet shipstatus = new BitSet();
-            // HP
-            long nowhp = ship.getNowhp();
-            // MaxHP
-            long maxhp = ship.getMaxhp();
-            // HP割合
-            float hpratio = (float) nowhp / (float) maxhp;
-            // 経験値ゲージの割合
-            float expraito = ship.getExpraito();
             // 疲労
             long cond = ship.getCond();
-            // 弾
-            int bull = ship.getBull();
-            // 弾Max
-            int bullmax = ship.getBullMax();
-            // 残弾比
-            float bullraito = bullmax != 0 ? (float) bull / (float) bullmax : 1f;
-            // 燃料
-            int fuel = ship.getFuel();
-            // 燃料Max
-            int fuelmax = ship.getFuelMax();
-            // 残燃料比
-            float fuelraito = fuelmax != 0 ? (float) fuel / (float) fuelmax : 1f;
             // 艦隊合計Lv
             totallv += ship.getLv();
             // 索敵値計(素)
@@ -372,198 +349,31 @@ public class FleetComposite extends Composite {
                 this.clearDateString = ship.getCondClearDateString();
                 this.clearDate = ship.getCondClearDate();
             }
-
-            // 体力メッセージ
+            // 大破している艦娘がいる場合メッセージを表示
             if (ship.isBadlyDamage()) {
-                if (AppConfig.get().isFatalBybadlyDamage()) {
-                    // 大破で致命的アイコン
-                    this.state.set(FATAL);
-                    shipstatus.set(FATAL);
-                }
-                // 大破している艦娘がいる場合メッセージを表示
                 this.badlyDamage = true;
-                this.hpmsgLabels[i].setText("大破");
-                this.hpmsgLabels[i].setBackground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
-                this.hpmsgLabels[i].setForeground(SWTResourceManager.getColor(SWT.COLOR_WHITE));
-            } else if (ship.isHalfDamage()) {
-                if (AppConfig.get().isWarnByHalfDamage()) {
-                    // 中破で警告アイコン
-                    this.state.set(WARN);
-                    shipstatus.set(WARN);
-                }
-
-                this.hpmsgLabels[i].setText("中破");
-                this.hpmsgLabels[i].setBackground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
-                this.hpmsgLabels[i].setForeground(SWTResourceManager.getColor(SWT.COLOR_WHITE));
-            } else if (ship.isSlightDamage()) {
-                this.hpmsgLabels[i].setText("小破");
-                this.hpmsgLabels[i].setBackground(null);
-                this.hpmsgLabels[i].setForeground(null);
-            } else {
-                this.hpmsgLabels[i].setText("健在");
-                this.hpmsgLabels[i].setBackground(null);
-                this.hpmsgLabels[i].setForeground(null);
             }
+            // 艦娘のステータス
+            BitSet shipstatus = this.getShipStatus(ship);
+            this.state.or(shipstatus);
 
-            // ステータス
-            // ステータス.疲労
-            this.condstLabels[i].setText("疲");
-            if (cond >= 49) {
-                this.condstLabels[i].setEnabled(false);
-            } else {
-                this.condstLabels[i].setEnabled(true);
-            }
-            // ステータス.燃料
-            this.fuelstLabels[i].setText("燃");
-            if (fuelraito >= 1f) {
-                this.fuelstLabels[i].setEnabled(false);
-                this.fuelstLabels[i].setForeground(null);
-            } else {
-                if (AppConfig.get().isWarnByNeedSupply()) {
-                    // 補給不足で警告アイコン
-                    this.state.set(WARN);
-                    shipstatus.set(WARN);
-                }
-                this.fuelstLabels[i].setEnabled(true);
-                if (fuelraito <= AppConstants.EMPTY_SUPPLY) {
-                    // 補給赤
-                    this.fuelstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
-                } else if (fuelraito <= AppConstants.LOW_SUPPLY) {
-                    // 補給橙
-                    this.fuelstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
-                }
-            }
-            // ステータス.弾
-            this.bullstLabels[i].setText("弾");
-            if (bullraito >= 1f) {
-                this.bullstLabels[i].setEnabled(false);
-                this.bullstLabels[i].setBackground(null);
-                this.bullstLabels[i].setForeground(null);
-            } else {
-                if (AppConfig.get().isWarnByNeedSupply()) {
-                    // 補給不足で警告アイコン
-                    this.state.set(WARN);
-                    shipstatus.set(WARN);
-                }
-                this.bullstLabels[i].setEnabled(true);
-                if (bullraito <= AppConstants.EMPTY_SUPPLY) {
-                    this.bullstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
-                } else if (bullraito <= AppConstants.LOW_SUPPLY) {
-                    this.bullstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
-                }
-            }
-            // ステータス.ダメコン
-            List<ItemDto> item = ship.getItem();
-            int dmgcsty = 0;
-            int dmgcstm = 0;
-            for (ItemDto itemDto : item) {
-                if (itemDto != null) {
-                    if (itemDto.getName().equals("応急修理要員")) {
-                        dmgcsty++;
-                    } else if (itemDto.getName().equals("応急修理女神")) {
-                        dmgcstm++;
-                    }
-                }
-            }
-            if (dmgcsty > 0) {
-                this.dmgcstyLabels[i].setText("要員x" + dmgcsty);
-                this.dmgcstyLabels[i].setEnabled(true);
-                this.dmgcstyLabels[i].setForeground(SWTResourceManager.getColor(SWT.COLOR_DARK_GREEN));
-
-            } else {
-                this.dmgcstyLabels[i].setText("");
-                this.dmgcstyLabels[i].setEnabled(false);
-                this.dmgcstyLabels[i].setForeground(null);
-            }
-            if (dmgcstm > 0) {
-                this.dmgcstmLabels[i].setText("女神x" + dmgcstm);
-                this.dmgcstmLabels[i].setEnabled(true);
-                this.dmgcstmLabels[i].setForeground(SWTResourceManager.getColor(SWT.COLOR_DARK_GREEN));
-
-            } else {
-                this.dmgcstmLabels[i].setText("");
-                this.dmgcstmLabels[i].setEnabled(false);
-                this.dmgcstmLabels[i].setForeground(null);
-            }
             // ステータス.あと何回
+            String next = "";
             if (AppConfig.get().isDisplayCount()) {
                 Integer nextcount = this.getNextCount(ship, i == 0);
                 if (nextcount != null) {
-                    this.nextLabels[i].setText(MessageFormat.format("あと{0}回", nextcount));
-                } else {
-                    this.nextLabels[i].setText("");
-                }
-            }
-
-            // コンディション
-            if (cond <= AppConstants.COND_RED) {
-                // 疲労19以下
-                if (AppConfig.get().isWarnByCondState()) {
-                    // 疲労状態で警告アイコン
-                    this.state.set(WARN);
-                    shipstatus.set(WARN);
+                    next = MessageFormat.format("あと{0}回", nextcount);
                 }
-                this.condLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
-                this.condstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
-            } else if (cond <= AppConstants.COND_ORANGE) {
-                // 疲労29以下
-                if (AppConfig.get().isWarnByCondState()) {
-                    // 疲労状態で警告アイコン
-                    this.state.set(WARN);
-                    shipstatus.set(WARN);
-                }
-                this.condLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
-                this.condstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
-            } else if ((cond >= AppConstants.COND_DARK_GREEN) && (cond < AppConstants.COND_GREEN)) {
-                // 疲労50以上
-                this.condLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_DARK_GREEN_COLOR));
-                this.condstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_DARK_GREEN_COLOR));
-            } else if (cond >= AppConstants.COND_GREEN) {
-                // 疲労53以上
-                this.condLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_GREEN_COLOR));
-                this.condstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_GREEN_COLOR));
-            } else {
-                this.condLabels[i].setForeground(null);
-                this.condstLabels[i].setForeground(null);
             }
-
-            // 艦娘の状態アイコンを更新
-            if (shipstatus.get(FATAL)) {
-                this.iconLabels[i].setImage(SWTResourceManager.getImage(FleetComposite.class,
-                        AppConfig.get().isMonoIcon()
-                                ? AppConstants.R_ICON_EXCLAMATION_MONO
-                                : AppConstants.R_ICON_EXCLAMATION));
-            } else if (shipstatus.get(WARN)) {
-                this.iconLabels[i].setImage(SWTResourceManager.getImage(FleetComposite.class,
-                        AppConfig.get().isMonoIcon()
-                                ? AppConstants.R_ICON_ERROR_MONO
-                                : AppConstants.R_ICON_ERROR));
-            } else {
-                this.iconLabels[i].setImage(null);
-            }
-
-            // ラベルを更新する
-            // 名前
-            this.nameLabels[i].setText(ship.getName());
-            this.nameLabels[i].setToolTipText(MessageFormat.format(AppConstants.TOOLTIP_FLEETTAB_SHIP, nowhp, maxhp,
-                    fuel, fuelmax, bull, bullmax, ship.getNext()));
-            this.lvLabels[i].setText(MessageFormat.format("(Lv.{0})", ship.getLv()));
-            // HP
-            this.hpLabels[i].setText(MessageFormat.format("{0}/{1} ", nowhp, maxhp));
-            // HPゲージ
-            Image gauge = SwtUtils.getHpAndExpGaugeImage(hpratio, expraito,
-                    GAUGE_WIDTH, GAUGE_HEIGHT, EXP_GAUGE_HEIGHT,
-                    AppConstants.HP_EMPTY_COLOR, AppConstants.HP_HALF_COLOR, AppConstants.HP_FULL_COLOR,
-                    AppConstants.EXP_COLOR);
-            this.hpgaugeLabels[i].setImage(gauge);
-            if (this.hpgaugeImages[i] != null) {
-                // 古いイメージを破棄
-                this.hpgaugeImages[i].dispose();
+            // 前回の描画から変わった艦娘だけ更新する
+            List<Object> model = Arrays.asList(ship.getName(), ship.getLv(), ship.getNowhp(), ship.getMaxhp(),
+                    ship.getExpraito(), cond, ship.getFuel(), ship.getFuelMax(), ship.getBull(), ship.getBullMax(),
+                    ship.getSlot(), ship.getNext(), shipstatus, AppConfig.get().isMonoIcon(), next);
+            if (!model.equals(this.rendered[i])) {
+                this.updateShip(i, ship, shipstatus, next);
+                this.rendered[i] = model;
+                changed = true;
             }
-            this.hpgaugeImages[i] = gauge;
-            // コンディション
-            this.condLabels[i].setText(MessageFormat.format("{0} cond.", cond));
-            this.bullstLabels[i].getParent().layout();
         }
         // メッセージを更新する
         // 入渠中の艦娘を探す
@@ -585,18 +395,20 @@ public class FleetComposite extends Composite {
                 + Math.sqrt(totalSakuteki - totalSakutekiSurvey - totalSakutekiRader));
         sakuteki = sakuteki.setScale(2, RoundingMode.HALF_UP);
 
+        StringBuilder text = new StringBuilder();
+        List<StyleRange> ranges = new ArrayList<StyleRange>();
         if (GlobalContext.isMission(this.dock.getId())) {
             // 遠征中
             StyleRange style = new StyleRange();
             style.fontStyle = SWT.BOLD;
             style.foreground = SWTResourceManager.getColor(SWT.COLOR_DARK_BLUE);
-            this.addStyledText(this.message, AppConstants.MESSAGE_MISSION, style);
+            this.addStyledText(text, ranges, AppConstants.MESSAGE_MISSION, style);
         } else if (isBathwater) {
             // 入渠中
             StyleRange style = new StyleRange();
             style.fontStyle = SWT.BOLD;
             style.foreground = SWTResourceManager.getColor(SWT.COLOR_DARK_BLUE);
-            this.addStyledText(this.message,
+            this.addStyledText(text, ranges,
                     MessageFormat.format(AppConstants.MESSAGE_BAD, AppConstants.MESSAGE_BATHWATER), style);
         } else if (this.badlyDamage) {
             // 大破
@@ -606,29 +418,29 @@ public class FleetComposite extends Composite {
             style.underlineStyle = SWT.UNDERLINE_SQUIGGLE;
             style.underlineColor = SWTResourceManager.getColor(SWT.COLOR_RED);
             style.foreground = SWTResourceManager.getColor(SWT.COLOR_RED);
-            this.addStyledText(this.message,
+            this.addStyledText(text, ranges,
                     MessageFormat.format(AppConstants.MESSAGE_BAD, AppConstants.MESSAGE_BADLY_DAMAGE), style);
         } else {
             // 出撃可能
             StyleRange style = new StyleRange();
             style.fontStyle = SWT.BOLD;
             style.foreground = SWTResourceManager.getColor(SWT.COLOR_DARK_GREEN);
-            this.addStyledText(this.message, AppConstants.MESSAGE_GOOD, style);
+            this.addStyledText(text, ranges, AppConstants.MESSAGE_GOOD, style);
         }
         if (this.clearDateString != null) {
             StyleRange style = new StyleRange();
             style.data = this.clearDate;
             style.underline = true;
             style.underlineStyle = SWT.UNDERLINE_LINK;
-            this.addStyledText(this.message, MessageFormat.format(AppConstants.MESSAGE_COND, this.clearDateString),
+            this.addStyledText(text, ranges, MessageFormat.format(AppConstants.MESSAGE_COND, this.clearDateString),
                     style);
         }
         // 制空
-        this.addStyledText(this.message, MessageFormat.format(AppConstants.MESSAGE_SEIKU, seiku), null);
+        this.addStyledText(text, ranges, MessageFormat.format(AppConstants.MESSAGE_SEIKU, seiku), null);
         // 索敵
-        this.addStyledText(this.message, MessageFormat.format(AppConstants.MESSAGE_SAKUTEKI, sakuteki), null);
+        this.addStyledText(text, ranges, MessageFormat.format(AppConstants.MESSAGE_SAKUTEKI, sakuteki), null);
         // 合計Lv
-        this.addStyledText(this.message, MessageFormat.format(AppConstants.MESSAGE_TOTAL_LV, totallv), null);
+        this.addStyledText(text, ranges, MessageFormat.format(AppConstants.MESSAGE_TOTAL_LV, totallv), null);
         // 第1艦隊旗艦が明石の場合経過時間を表示(仮)
         if (dock.getId().equals("1") && (dock.getShips().get(0).getName().indexOf("明石") != -1)) {
             Date modifydate = ShipContext.getModifySecretaryDate();
@@ -638,20 +450,276 @@ public class FleetComposite extends Composite {
                 StyleRange style = new StyleRange();
                 style.fontStyle = SWT.BOLD;
                 if (r <= 20) {
-                    this.addStyledText(this.message, MessageFormat.format(AppConstants.BERTH_REPAIR_1, r), style);
+                    this.addStyledText(text, ranges, MessageFormat.format(AppConstants.BERTH_REPAIR_1, r), style);
                 } else {
-                    this.addStyledText(this.message, MessageFormat.format(AppConstants.BERTH_REPAIR_2, r), style);
+                    this.addStyledText(text, ranges, MessageFormat.format(AppConstants.BERTH_REPAIR_2, r), style);
                 }
             }
         }
+        // メッセージが変わった場合だけ書き換える
+        List<Object> messageModel = Arrays.asList(text.toString(), this.clearDate);
+        if (!messageModel.equals(this.renderedMessage)) {
+            this.message.setText(text.toString());
+            this.message.setStyleRanges(ranges.toArray(new StyleRange[ranges.size()]));
+            this.renderedMessage = messageModel;
+        }
         this.updateTabIcon();
-        this.postFatal();
+        checkFatal(this.main, dock);
 
-        this.fleetGroup.layout();
+        if (changed) {
+            this.fleetGroup.layout();
+        }
 
         this.getShell().setRedraw(true);
     }
 
+    /**
+     * 艦娘のステータス(警告・致命的)を取得します
+     *
+     * @param ship 艦娘
+     * @return 艦娘のステータス
+     */
+    private BitSet getShipStatus(ShipDto ship) {
+        BitSet shipstatus = new BitSet();
+        long cond = ship.getCond();
+        int bullmax = ship.getBullMax();
+        float bullraito = bullmax != 0 ? (float) ship.getBull() / (float) bullmax : 1f;
+        int fuelmax = ship.getFuelMax();
+        float fuelraito = fuelmax != 0 ? (float) ship.getFuel() / (float) fuelmax : 1f;
+        if (ship.isBadlyDamage()) {
+            if (AppConfig.get().isFatalBybadlyDamage()) {
+                // 大破で致命的アイコン
+                shipstatus.set(FATAL);
+            }
+        } else if (ship.isHalfDamage()) {
+            if (AppConfig.get().isWarnByHalfDamage()) {
+                // 中破で警告アイコン
+                shipstatus.set(WARN);
+            }
+        }
+        if ((fuelraito < 1f) || (bullraito < 1f)) {
+            if (AppConfig.get().isWarnByNeedSupply()) {
+                // 補給不足で警告アイコン
+                shipstatus.set(WARN);
+            }
+        }
+        if (cond <= AppConstants.COND_ORANGE) {
+            if (AppConfig.get().isWarnByCondState()) {
+                // 疲労状態で警告アイコン
+                shipstatus.set(WARN);
+            }
+        }
+        return shipstatus;
+    }
+
+    /**
+     * 艦娘がいない位置のラベルを消去します
+     *
+     * @param i 位置
+     */
+    private void clearShip(int i) {
+        this.iconLabels[i].setImage(null);
+        this.nameLabels[i].setText("");
+        this.lvLabels[i].setText("");
+        this.hpLabels[i].setText("");
+        this.hpgaugeLabels[i].setImage(null);
+        GaugeCache.release(this.hpgaugeImages[i]);
+        this.hpgaugeImages[i] = null;
+        this.hpmsgLabels[i].setText("");
+        this.condLabels[i].setText("");
+        this.condstLabels[i].setText("");
+        this.bullstLabels[i].setText("");
+        this.dmgcstyLabels[i].setText("");
+        this.dmgcstmLabels[i].setText("");
+        this.fuelstLabels[i].setText("");
+        this.nextLabels[i].setText("");
+    }
+
+    /**
+     * 艦娘のラベルを更新します
+     *
+     * @param i 位置
+     * @param ship 艦娘
+     * @param shipstatus 艦娘のステータス
+     * @param next あと何回
+     */
+    private void updateShip(int i, ShipDto ship, BitSet shipstatus, String next) {
+        // HP
+        long nowhp = ship.getNowhp();
+        // MaxHP
+        long maxhp = ship.getMaxhp();
+        // HP割合
+        float hpratio = (float) nowhp / (float) maxhp;
+        // 経験値ゲージの割合
+        float expraito = ship.getExpraito();
+        // 疲労
+        long cond = ship.getCond();
+        // 弾
+        int bull = ship.getBull();
+        // 弾Max
+        int bullmax = ship.getBullMax();
+        // 残弾比
+        float bullraito = bullmax != 0 ? (float) bull / (float) bullmax : 1f;
+        // 燃料
+        int fuel = ship.getFuel();
+        // 燃料Max
+        int fuelmax = ship.getFuelMax();
+        // 残燃料比
+        float fuelraito = fuelmax != 0 ? (float) fuel / (float) fuelmax : 1f;
+
+        // 体力メッセージ
+        if (ship.isBadlyDamage()) {
+            this.hpmsgLabels[i].setText("大破");
+            this.hpmsgLabels[i].setBackground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
+            this.hpmsgLabels[i].setForeground(SWTResourceManager.getColor(SWT.COLOR_WHITE));
+        } else if (ship.isHalfDamage()) {
+            this.hpmsgLabels[i].setText("中破");
+            this.hpmsgLabels[i].setBackground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
+            this.hpmsgLabels[i].setForeground(SWTResourceManager.getColor(SWT.COLOR_WHITE));
+        } else if (ship.isSlightDamage()) {
+            this.hpmsgLabels[i].setText("小破");
+            this.hpmsgLabels[i].setBackground(null);
+            this.hpmsgLabels[i].setForeground(null);
+        } else {
+            this.hpmsgLabels[i].setText("健在");
+            this.hpmsgLabels[i].setBackground(null);
+            this.hpmsgLabels[i].setForeground(null);
+        }
+
+        // ステータス
+        // ステータス.疲労
+        this.condstLabels[i].setText("疲");
+        if (cond >= 49) {
+            this.condstLabels[i].setEnabled(false);
+        } else {
+            this.condstLabels[i].setEnabled(true);
+        }
+        // ステータス.燃料
+        this.fuelstLabels[i].setText("燃");
+        if (fuelraito >= 1f) {
+            this.fuelstLabels[i].setEnabled(false);
+            this.fuelstLabels[i].setForeground(null);
+        } else {
+            this.fuelstLabels[i].setEnabled(true);
+            if (fuelraito <= AppConstants.EMPTY_SUPPLY) {
+                // 補給赤
+                this.fuelstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
+            } else if (fuelraito <= AppConstants.LOW_SUPPLY) {
+                // 補給橙
+                this.fuelstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
+            }
+        }
+        // ステータス.弾
+        this.bullstLabels[i].setText("弾");
+        if (bullraito >= 1f) {
+            this.bullstLabels[i].setEnabled(false);
+            this.bullstLabels[i].setBackground(null);
+            this.bullstLabels[i].setForeground(null);
+        } else {
+            this.bullstLabels[i].setEnabled(true);
+            if (bullraito <= AppConstants.EMPTY_SUPPLY) {
+                this.bullstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
+            } else if (bullraito <= AppConstants.LOW_SUPPLY) {
+                this.bullstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
+            }
+        }
+        // ステータス.ダメコン
+        List<ItemDto> item = ship.getItem();
+        int dmgcsty = 0;
+        int dmgcstm = 0;
+        for (ItemDto itemDto : item) {
+            if (itemDto != null) {
+                if (itemDto.getName().equals("応急修理要員")) {
+                    dmgcsty++;
+                } else if (itemDto.getName().equals("応急修理女神")) {
+                    dmgcstm++;
+                }
+            }
+        }
+        if (dmgcsty > 0) {
+            this.dmgcstyLabels[i].setText("要員x" + dmgcsty);
+            this.dmgcstyLabels[i].setEnabled(true);
+            this.dmgcstyLabels[i].setForeground(SWTResourceManager.getColor(SWT.COLOR_DARK_GREEN));
+
+        } else {
+            this.dmgcstyLabels[i].setText("");
+            this.dmgcstyLabels[i].setEnabled(false);
+            this.dmgcstyLabels[i].setForeground(null);
+        }
+        if (dmgcstm > 0) {
+            this.dmgcstmLabels[i].setText("女神x" + dmgcstm);
+            this.dmgcstmLabels[i].setEnabled(true);
+            this.dmgcstmLabels[i].setForeground(SWTResourceManager.getColor(SWT.COLOR_DARK_GREEN));
+
+        } else {
+            this.dmgcstmLabels[i].setText("");
+            this.dmgcstmLabels[i].setEnabled(false);
+            this.dmgcstmLabels[i].setForeground(null);
+        }
+        // ステータス.あと何回
+        if (AppConfig.get().isDisplayCount()) {
+            this.nextLabels[i].setText(next);
+        }
+
+        // コンディション
+        if (cond <= AppConstants.COND_RED) {
+            // 疲労19以下
+            this.condLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
+            this.condstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_RED_COLOR));
+        } else if (cond <= AppConstants.COND_ORANGE) {
+            // 疲労29以下
+            this.condLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
+            this.condstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_ORANGE_COLOR));
+        } else if ((cond >= AppConstants.COND_DARK_GREEN) && (cond < AppConstants.COND_GREEN)) {
+            // 疲労50以上
+            this.condLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_DARK_GREEN_COLOR));
+            this.condstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_DARK_GREEN_COLOR));
+        } else if (cond >= AppConstants.COND_GREEN) {
+            // 疲労53以上
+            this.condLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_GREEN_COLOR));
+            this.condstLabels[i].setForeground(SWTResourceManager.getColor(AppConstants.COND_GREEN_COLOR));
+        } else {
+            this.condLabels[i].setForeground(null);
+            this.condstLabels[i].setForeground(null);
+        }
+
+        // 艦娘の状態アイコンを更新
+        if (shipstatus.get(FATAL)) {
+            this.iconLabels[i].setImage(SWTResourceManager.getImage(FleetComposite.class,
+                    AppConfig.get().isMonoIcon()
+                            ? AppConstants.R_ICON_EXCLAMATION_MONO
+                            : AppConstants.R_ICON_EXCLAMATION));
+        } else if (shipstatus.get(WARN)) {
+            this.iconLabels[i].setImage(SWTResourceManager.getImage(FleetComposite.class,
+                    AppConfig.get().isMonoIcon()
+                            ? AppConstants.R_ICON_ERROR_MONO
+                            : AppConstants.R_ICON_ERROR));
+        } else {
+            this.iconLabels[i].setImage(null);
+        }
+
+        // ラベルを更新する
+        // 名前
+        this.nameLabels[i].setText(ship.getName());
+        this.nameLabels[i].setToolTipText(MessageFormat.format(AppConstants.TOOLTIP_FLEETTAB_SHIP, nowhp, maxhp,
+                fuel, fuelmax, bull, bullmax, ship.getNext()));
+        this.lvLabels[i].setText(MessageFormat.format("(Lv.{0})", ship.getLv()));
+        // HP
+        this.hpLabels[i].setText(MessageFormat.format("{0}/{1} ", nowhp, maxhp));
+        // HPゲージ
+        Image gauge = GaugeCache.hpAndExpGauge(hpratio, expraito,
+                GAUGE_WIDTH, GAUGE_HEIGHT, EXP_GAUGE_HEIGHT,
+                AppConstants.HP_EMPTY_COLOR, AppConstants.HP_HALF_COLOR, AppConstants.HP_FULL_COLOR,
+                AppConstants.EXP_COLOR);
+        this.hpgaugeLabels[i].setImage(gauge);
+        // 古いイメージを返却
+        GaugeCache.release(this.hpgaugeImages[i]);
+        this.hpgaugeImages[i] = gauge;
+        // コンディション
+        this.condLabels[i].setText(MessageFormat.format("{0} cond.", cond));
+        this.bullstLabels[i].getParent().layout();
+    }
+
     /**
      * 艦隊タブのアイコンを更新します
      */
@@ -673,36 +741,49 @@ public class FleetComposite extends Composite {
 
     /**
      * 艦隊が出撃中で大破した場合に警告を行います
+     * <p>
+     * 艦隊が更新されてから最初の呼び出しだけ確認します。メイン画面が表示されていない間も呼び出されます。
+     * </p>
+     *
+     * @param main メイン画面
+     * @param dock 艦隊
      */
-    private void postFatal() {
-        if (this.badlyDamage && GlobalContext.isSortie(this.dock.getId())) {
+    public static void checkFatal(ApplicationMain main, DockDto dock) {
+        if (!dock.isFatalCheck()) {
+            return;
+        }
+        dock.setFatalCheck(false);
+        List<ShipDto> ships = new ArrayList<ShipDto>();
+        for (ShipDto ship : dock.getShips()) {
+            if (ship.isBadlyDamage()) {
+                ships.add(ship);
+            }
+        }
+        if (!ships.isEmpty() && GlobalContext.isSortie(dock.getId())) {
             if (AppConfig.get().isBalloonBybadlyDamage()) {
-                List<ShipDto> ships = this.dock.getShips();
                 StringBuilder sb = new StringBuilder();
                 sb.append(AppConstants.MESSAGE_STOP_SORTIE);
                 sb.append("\n");
                 for (ShipDto shipDto : ships) {
-                    if (shipDto.isBadlyDamage()) {
-                        sb.append(shipDto.getName());
-                        sb.append("(" + shipDto.getLv() + ")");
-                        sb.append(" : ");
-                        List<ItemDto> items = shipDto.getItem();
-                        List<String> names = new ArrayList<String>();
-                        for (ItemDto itemDto : items) {
-                            if (itemDto != null) {
-                                names.add(itemDto.getName());
-                            }
+                    sb.append(shipDto.getName());
+                    sb.append("(" + shipDto.getLv() + ")");
+                    sb.append(" : ");
+                    List<ItemDto> items = shipDto.getItem();
+                    List<String> names = new ArrayList<String>();
+                    for (ItemDto itemDto : items) {
+                        if (itemDto != null) {
+                            names.add(itemDto.getName());
                         }
-                        sb.append(StringUtils.join(names, ","));
-                        sb.append("\n");
                     }
+                    sb.append(StringUtils.join(names, ","));
+                    sb.append("\n");
                 }
-                ToolTip tip = new ToolTip(this.getShell(), SWT.BALLOON
+                ToolTip tip = new ToolTip(main.getShell(), SWT.BALLOON
                         | SWT.ICON_ERROR);
                 tip.setText("大破警告");
                 tip.setMessage(sb.toString());
 
-                this.main.getTrayItem().setToolTip(tip);
+                main.getTrayItem().setToolTip(tip);
                 tip.setVisible(true);
             }
             // 大破時にサウンドを再生する
@@ -711,30 +792,23 @@ public class FleetComposite extends Composite {
     }
 
     /**
-     * スタイル付きテキストを設定します
+     * スタイル付きテキストを追加します
      *
-     * @param text StyledText
+     * @param text テキスト
+     * @param ranges スタイル
      * @param str 文字
      * @param style スタイル
      */
-    private void addStyledText(StyledText text, String str, StyleRange style) {
-        StyleRange[] oldranges = text.getStyleRanges();
-        String beforeText = text.getText();
+    private void addStyledText(StringBuilder text, List<StyleRange> ranges, String str, StyleRange style) {
         StyleRange addStyle = style;
         if (addStyle == null) {
             addStyle = new StyleRange();
         }
-        addStyle.start = beforeText.length();
+        addStyle.start = text.length();
         addStyle.length = str.length();
 
-        StyleRange[] ranges = new StyleRange[oldranges.length + 1];
-        for (int i = 0; i < oldranges.length; i++) {
-            ranges[i] = oldranges[i];
-        }
-        ranges[oldranges.length] = addStyle;
-
-        text.setText(beforeText + str);
-        text.setStyleRanges(ranges);
+        text.append(str);
+        ranges.add(addStyle);
     }
 
     /**
@@ -752,10 +826,10 @@ public class FleetComposite extends Composite {
             // 必要経験値
             long needexp = nextexp - ship.getExp();
             // 海域Exp
-            Integer baseexp = SeaExp.get().get(AppConfig.get().getDefaultSea());
+            int baseexp = SeaExp.getExp(AppConfig.get().getDefaultSea());
             // 評価倍率
-            Double eval = EvaluateExp.get().get(AppConfig.get().getDefaultEvaluate());
-            if ((baseexp != null) && (eval != null)) {
+            double eval = EvaluateExp.getRate(AppConfig.get().getDefaultEvaluate());
+            if ((baseexp >= 0) && !Double.isNaN(eval)) {
                 // 得られる経験値
                 long getexpd = CalcExpUtils.getExp(baseexp, eval, isFlagship, false);
                 // 戦闘回数
@@ -772,9 +846,7 @@ public class FleetComposite extends Composite {
         this.large.dispose();
         this.small.dispose();
         for (Image image : this.hpgaugeImages) {
-            if (image != null) {
-                image.dispose();
-            }
+            GaugeCache.release(image);
         }
     }
 }
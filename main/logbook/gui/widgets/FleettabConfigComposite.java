@@ -1,7 +1,5 @@
 package logbook.gui.widgets;
 
-import java.util.Map.Entry;
-
 import logbook.config.AppConfig;
 import logbook.config.bean.AppConfigBean;
 import logbook.internal.EvaluateExp;
@@ -69,9 +67,9 @@ public final class FleettabConfigComposite extends Composite {
         label9.setText("海域");
         this.seacombo = new Combo(leveling, SWT.READ_ONLY);
         int count = 0;
-        for (Entry<String, Integer> entry : SeaExp.get().entrySet()) {
-            this.seacombo.add(entry.getKey());
-            if (entry.getKey().equals(AppConfig.get().getDefaultSea())) {
+        for (String sea : SeaExp.getNames()) {
+            this.seacombo.add(sea);
+            if (sea.equals(AppConfig.get().getDefaultSea())) {
                 this.seacombo.select(count);
             }
             count++;
@@ -80,9 +78,9 @@ public final class FleettabConfigComposite extends Composite {
         label10.setText("評価");
         this.evalcombo = new Combo(leveling, SWT.READ_ONLY);
         count = 0;
-        for (Entry<String, Double> entry : EvaluateExp.get().entrySet()) {
-            this.evalcombo.add(entry.getKey());
-            if (entry.getKey().equals(AppConfig.get().getDefaultEvaluate())) {
+        for (String eval : EvaluateExp.getNames()) {
+            this.evalcombo.add(eval);
+            if (eval.equals(AppConfig.get().getDefaultEvaluate())) {
                 this.evalcombo.select(count);
             }
             count++;
@@ -1,34 +1,48 @@
 package logbook.internal;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
-import logbook.util.builder.Builders;
-
 /**
  * 戦闘での評価
- *
+ * <p>
+ * 評価と倍率は同じ添字の配列で保持します。
+ * </p>
  */
 public class EvaluateExp {
 
     /**
      * 戦闘での評価プリセット値
      */
-    private static final Map<String, Double> EVAL_EXP = Builders.newMapBuilder(LinkedHashMap<String, Double>::new)
-            .put("S完全勝利", 1.2d)
-            .put("S勝利", 1.2d)
-            .put("A勝利", 1.0d)
-            .put("B戦術的勝利", 1.0d)
-            .put("C戦術的敗北", 0.8d)
-            .put("D敗北", 0.7d)
-            .build();
+    private static final String[] EVAL = {
+            "S完全勝利", "S勝利", "A勝利", "B戦術的勝利", "C戦術的敗北", "D敗北",
+    };
+
+    /**
+     * 戦闘での評価の倍率プリセット値({@link #EVAL}と同じ順に並べる)
+     */
+    private static final double[] EVAL_EXP = {
+            1.2d, 1.2d, 1.0d, 1.0d, 0.8d, 0.7d,
+    };
+
+    /**
+     * 戦闘での評価の一覧を取得します
+     *
+     * @return 戦闘での評価の一覧
+     */
+    public static String[] getNames() {
+        return EVAL.clone();
+    }
 
     /**
-     * 戦闘での評価を取得します
-     * @return 戦闘での評価
+     * 戦闘での評価の倍率を取得します
+     *
+     * @param eval 戦闘での評価
+     * @return 倍率、評価がない場合はNaN
      */
-    public static Map<String, Double> get() {
-        return Collections.unmodifiableMap(EVAL_EXP);
+    public static double getRate(String eval) {
+        for (int i = 0; i < EVAL.length; i++) {
+            if (EVAL[i].equals(eval)) {
+                return EVAL_EXP[i];
+            }
+        }
+        return Double.NaN;
     }
 }
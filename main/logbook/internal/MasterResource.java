@@ -0,0 +1,63 @@
+package logbook.internal;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 同梱されているマスターデータのプリセット値を読み込みます
+ * <p>
+ * プリセット値はタブ区切りのテキストで、1行が1件です。#で始まる行は読み飛ばします。
+ * </p>
+ */
+final class MasterResource {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(MasterResource.class);
+    }
+
+    /**
+     * プリセット値を読み込みます
+     *
+     * @param name リソース名
+     * @return 行毎のタブで区切った値、読み込めない場合は空のリスト
+     */
+    static List<String[]> read(String name) {
+        List<String[]> rows = new ArrayList<>();
+        try (InputStream in = MasterResource.class.getResourceAsStream(name)) {
+            if (in == null) {
+                LoggerHolder.LOG.warn("マスターデータのプリセット値が見つかりません: " + name);
+                return rows;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || (line.charAt(0) == '#')) {
+                    continue;
+                }
+                rows.add(line.split("\t", -1));
+            }
+        } catch (Exception e) {
+            LoggerHolder.LOG.warn("マスターデータのプリセット値を読み込めません: " + name, e);
+        }
+        return rows;
+    }
+
+    /**
+     * IDを配列の添字にした時の長さを求めます
+     *
+     * @param max 最大のID
+     * @return 配列の長さ
+     */
+    static int capacity(int max) {
+        // 新しいIDが追加されても作り直さずに済むように余裕を持たせる
+        return Math.max(16, max + (max >> 2) + 1);
+    }
+}
@@ -1,55 +1,50 @@
 package logbook.internal;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
-import logbook.util.builder.Builders;
-
 /**
  * 海域Exp
- *
+ * <p>
+ * 海域と海域Expは同じ添字の配列で保持します。
+ * </p>
  */
 public class SeaExp {
 
     /**
-     * 海域Expプリセット値
+     * 海域プリセット値
+     */
+    private static final String[] SEA = {
+            "1-1", "1-2", "1-3", "1-4", "1-5", "2-1", "2-2", "2-3", "2-4", "2-5", "3-1", "3-2", "3-3", "3-4",
+            "3-5", "4-1", "4-2", "4-3", "4-4", "5-1", "5-2", "5-3", "5-4", "5-5", "6-1", "6-2",
+    };
+
+    /**
+     * 海域Expプリセット値({@link #SEA}と同じ順に並べる)
      */
-    private static final Map<String, Integer> SEA_EXP = Builders.newMapBuilder(LinkedHashMap<String, Integer>::new)
-            .put("1-1", 30)
-            .put("1-2", 50)
-            .put("1-3", 80)
-            .put("1-4", 100)
-            .put("1-5", 150)
-            .put("2-1", 120)
-            .put("2-2", 150)
-            .put("2-3", 200)
-            .put("2-4", 300)
-            .put("2-5", 250)
-            .put("3-1", 310)
-            .put("3-2", 320)
-            .put("3-3", 330)
-            .put("3-4", 350)
-            .put("3-5", 400)
-            .put("4-1", 310)
-            .put("4-2", 320)
-            .put("4-3", 330)
-            .put("4-4", 340)
-            .put("5-1", 360)
-            .put("5-2", 380)
-            .put("5-3", 400)
-            .put("5-4", 420)
-            .put("5-5", 450)
-            .put("6-1", 380)
-            .put("6-2", 420)
-            .build();
+    private static final int[] SEA_EXP = {
+            30, 50, 80, 100, 150, 120, 150, 200, 300, 250, 310, 320, 330, 350, 400, 310, 320, 330, 340, 360,
+            380, 400, 420, 450, 380, 420,
+    };
+
+    /**
+     * 海域の一覧を取得します
+     *
+     * @return 海域の一覧
+     */
+    public static String[] getNames() {
+        return SEA.clone();
+    }
 
     /**
      * 海域Expを取得します
      *
-     * @return
+     * @param sea 海域
+     * @return 海域Exp、海域がない場合は-1
      */
-    public static Map<String, Integer> get() {
-        return Collections.unmodifiableMap(SEA_EXP);
+    public static int getExp(String sea) {
+        for (int i = 0; i < SEA.length; i++) {
+            if (SEA[i].equals(sea)) {
+                return SEA_EXP[i];
+            }
+        }
+        return -1;
     }
 }
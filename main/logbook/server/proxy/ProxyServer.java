@@ -5,6 +5,7 @@ import java.net.InetAddress;
 import java.util.concurrent.TimeUnit;
 
 import logbook.config.AppConfig;
+import logbook.util.StartupTimeline;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,17 +30,16 @@ public final class ProxyServer extends Thread {
     }
 
     private final int port;
-    private final Shell shell;
 
-    public ProxyServer(int port, Shell shell) {
+    public ProxyServer(int port) {
         this.port = port;
-        this.shell = shell;
         this.setName("logbook_proxy_server");
     }
 
     @Override
     public void run() {
         try {
+            StartupTimeline.begin(StartupTimeline.PROXY);
             Server server = new Server();
             ServerConnector connector = new ServerConnector(server);
             if (AppConfig.get().isAllowOnlyFromLocalhost()) {
@@ -59,6 +59,7 @@ public final class ProxyServer extends Thread {
             try {
                 try {
                     server.start();
+                    StartupTimeline.end(StartupTimeline.PROXY);
                     try {
                         server.join();
                     } catch (InterruptedException e) {
@@ -86,10 +87,16 @@ public final class ProxyServer extends Thread {
 
         final String message = sb.toString();
 
-        Display.getDefault().asyncExec(new Runnable() {
+        // 画面の作成と並行して開始するため、表示する時点のシェルに表示する
+        Display display = Display.getDefault();
+        display.asyncExec(new Runnable() {
             @Override
             public void run() {
-                MessageBox box = new MessageBox(ProxyServer.this.shell, SWT.YES | SWT.ICON_ERROR);
+                Shell[] shells = display.getShells();
+                if (shells.length == 0) {
+                    return;
+                }
+                MessageBox box = new MessageBox(shells[0], SWT.YES | SWT.ICON_ERROR);
                 box.setText("プロキシサーバーが予期せず終了しました");
                 box.setMessage(message);
                 box.open();
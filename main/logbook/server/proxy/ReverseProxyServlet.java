@@ -11,6 +11,7 @@ import logbook.data.DataQueue;
 import logbook.data.DataType;
 import logbook.data.UndefinedData;
 import logbook.thread.ThreadManager;
+import logbook.util.StartupTimeline;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -148,6 +149,7 @@ public final class ReverseProxyServlet extends ProxyServlet {
             if (data.getDataType() != DataType.UNDEFINED) {
                 // 定義済みのデータの場合にキューに追加する
                 DataQueue.add(data);
+                StartupTimeline.finish(StartupTimeline.FIRST_DATA);
 
                 // サーバー名が不明の場合、サーバー名をセットする
                 if (!Filter.isServerDetected()) {
@@ -0,0 +1,188 @@
+package logbook.thread;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 指定した時刻に処理を実行します
+ * <p>
+ * 遠征・入渠のお知らせやタイマーなどの予定を時刻順に1つのキューで管理し、最も早い予定の時刻にだけ待機します。<br>
+ * 予定はキーで識別され、同じキーで登録すると置き換えられます。登録されている予定は{@link #getDeadlines()}で一覧でき、
+ * {@link #cancel(String)}で取り消せます。
+ * </p>
+ */
+public final class DeadlineScheduler {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(DeadlineScheduler.class);
+    }
+
+    /** 時刻順の予定 */
+    private static final PriorityQueue<Deadline> QUEUE = new PriorityQueue<>(
+            (a, b) -> Long.compare(a.time, b.time));
+
+    /** キーと予定 */
+    private static final Map<String, Deadline> DEADLINES = new HashMap<>();
+
+    /** 次の予定の実行 */
+    private static ScheduledFuture<?> next;
+
+    /** 次の予定を実行する時刻 */
+    private static long nextTime;
+
+    /**
+     * 予定
+     */
+    public static final class Deadline {
+
+        private final String key;
+
+        private final long time;
+
+        private final String description;
+
+        private final Runnable action;
+
+        private Deadline(String key, long time, String description, Runnable action) {
+            this.key = key;
+            this.time = time;
+            this.description = description;
+            this.action = action;
+        }
+
+        /**
+         * @return キー
+         */
+        public String getKey() {
+            return this.key;
+        }
+
+        /**
+         * @return 時刻
+         */
+        public Date getTime() {
+            return new Date(this.time);
+        }
+
+        /**
+         * @return 説明
+         */
+        public String getDescription() {
+            return this.description;
+        }
+    }
+
+    /**
+     * 予定を登録します<br>
+     * 同じキーの予定がある場合は置き換えます。過去の時刻を指定した場合は直ちに実行します
+     *
+     * @param key キー
+     * @param time 時刻
+     * @param description 説明
+     * @param action 実行する処理(UIを操作する場合はUIスレッドで実行するようにしてください)
+     */
+    public static synchronized void schedule(String key, Date time, String description, Runnable action) {
+        remove(key);
+        Deadline deadline = new Deadline(key, time.getTime(), description, action);
+        DEADLINES.put(key, deadline);
+        QUEUE.add(deadline);
+        arm();
+    }
+
+    /**
+     * 予定を取り消します
+     *
+     * @param key キー
+     * @return 取り消した予定、予定がない場合null
+     */
+    @CheckForNull
+    public static synchronized Deadline cancel(String key) {
+        Deadline deadline = remove(key);
+        if (deadline != null) {
+            arm();
+        }
+        return deadline;
+    }
+
+    /**
+     * 予定を取得します
+     *
+     * @param key キー
+     * @return 予定、予定がない場合null
+     */
+    @CheckForNull
+    public static synchronized Deadline get(String key) {
+        return DEADLINES.get(key);
+    }
+
+    /**
+     * 登録されている予定を時刻順に取得します
+     *
+     * @return 予定
+     */
+    public static synchronized List<Deadline> getDeadlines() {
+        List<Deadline> list = new ArrayList<>(QUEUE);
+        list.sort((a, b) -> Long.compare(a.time, b.time));
+        return list;
+    }
+
+    private static Deadline remove(String key) {
+        Deadline deadline = DEADLINES.remove(key);
+        if (deadline != null) {
+            QUEUE.remove(deadline);
+        }
+        return deadline;
+    }
+
+    /**
+     * 最も早い予定の時刻に実行されるようにします
+     */
+    private static void arm() {
+        Deadline head = QUEUE.peek();
+        if ((next != null) && ((head == null) || (head.time != nextTime))) {
+            next.cancel(false);
+            next = null;
+        }
+        if ((head != null) && (next == null)) {
+            nextTime = head.time;
+            next = ThreadManager.getExecutorService().schedule(DeadlineScheduler::fire,
+                    Math.max(0, head.time - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 時刻になった予定を実行します
+     */
+    private static void fire() {
+        List<Deadline> due = new ArrayList<>();
+        synchronized (DeadlineScheduler.class) {
+            long now = System.currentTimeMillis();
+            while (!QUEUE.isEmpty() && (QUEUE.peek().time <= now)) {
+                Deadline deadline = QUEUE.poll();
+                DEADLINES.remove(deadline.key);
+                due.add(deadline);
+            }
+            next = null;
+            arm();
+        }
+        for (Deadline deadline : due) {
+            try {
+                deadline.action.run();
+            } catch (Exception e) {
+                LoggerHolder.LOG.warn("予定(" + deadline.key + ")の実行に失敗しました", e);
+            }
+        }
+    }
+}
@@ -1,16 +1,28 @@
 package logbook.thread;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Queue;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
 
+import javax.annotation.CheckForNull;
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.DataLine;
 import javax.sound.sampled.FloatControl;
 import javax.sound.sampled.SourceDataLine;
 import javax.sound.sampled.UnsupportedAudioFileException;
@@ -18,12 +30,16 @@ import javax.sound.sampled.UnsupportedAudioFileException;
 import logbook.config.AppConfig;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * プレイヤースレッド
- *
+ * <p>
+ * 遠征・入渠・大破のサウンドは起動時にPCMデータとしてメモリに読み込み、専用のスレッドで開いたままのラインに書き込んで再生します。<br>
+ * サウンドのディレクトリはWatchServiceで監視し、ファイルが変更された時に読み込み直します。
+ * </p>
  */
 public final class PlayerThread implements Runnable {
 
@@ -38,19 +54,66 @@ public final class PlayerThread implements Runnable {
     /** 拡張子 */
     private static final String[] EXTENSIONS = { "wav" };
 
+    /** サウンドのディレクトリ */
+    private static final Path SOUND_DIR = Paths.get("./sound");
+
+    /** 遠征から帰投した時に再生するサウンド */
+    private static final String EXPEDITION = "expedition";
+
+    /** お風呂からあがる時に再生するサウンド */
+    private static final String DOCK = "dock";
+
+    /** 大破した時に再生するサウンド */
+    private static final String BADLY = "badly";
+
+    /** 変更をまとめて読み込むまでの待ち時間(ミリ秒) */
+    private static final long RELOAD_DELAY = 500;
+
     /** 再生待ち */
-    private static Queue<File> soundfileQueue = new ArrayBlockingQueue<File>(3);
+    private static final BlockingQueue<Sound> SOUND_QUEUE = new ArrayBlockingQueue<Sound>(3);
+
+    /** 読み込んだサウンド */
+    private static volatile Map<String, List<Sound>> bank;
+
+    /** スレッドを開始したか */
+    private static boolean started;
+
+    /** 開いているライン */
+    private SourceDataLine line;
+
+    /**
+     * サウンドを読み込み、再生するスレッドとディレクトリを監視するスレッドを開始します
+     */
+    public static synchronized void startPlayer() {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        Thread player = new Thread(new PlayerThread(), "logbook_player");
+        player.setDaemon(true);
+        player.start();
+
+        if (Files.isDirectory(SOUND_DIR)) {
+            Thread watcher = new Thread(PlayerThread::watch, "logbook_player_watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+    }
 
     @Override
     public void run() {
         try {
-            File file = soundfileQueue.poll();
-            if (file != null) {
-                play(file);
+            // 起動時に読み込んでおく
+            getBank();
+            while (true) {
+                Sound sound = SOUND_QUEUE.take();
+                this.play(sound);
             }
-        } catch (Exception e) {
-            LoggerHolder.LOG.fatal("スレッドが異常終了しました", e);
-            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            // 終了
+        } finally {
+            this.closeLine();
         }
     }
 
@@ -60,7 +123,7 @@ public final class PlayerThread implements Runnable {
      * @param file ファイル
      */
     public static void addQueue(File file) {
-        soundfileQueue.offer(file);
+        SOUND_QUEUE.offer(new Sound(file, null, null, null));
     }
 
     /**
@@ -69,39 +132,14 @@ public final class PlayerThread implements Runnable {
      * @param file ファイル
      */
     public static void play(File file) {
-        try (AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(file)) {
-            AudioFormat audioFormat = audioInputStream.getFormat();
-
-            // データラインの情報オブジェクトを生成します
-            DataLine.Info info = new DataLine.Info(SourceDataLine.class, audioFormat);
-            // 指定されたデータライン情報に一致するラインを取得します
-            try (SourceDataLine line = (SourceDataLine) AudioSystem.getLine(info)) {
-                // 指定されたオーディオ形式でラインを開きます
-                line.open(audioFormat);
-                // ラインでのデータ入出力を可能にします
-                line.start();
-
-                // ゲインのコントロールを取得します
-                FloatControl control = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
-                // サウンド音量を設定
-                controlByLinearScalar(control, AppConfig.get().getSoundLevel());
-
-                int nBytesRead = 0;
-                byte[] abData = new byte[BUFFER_SIZE];
-                while (nBytesRead != -1) {
-                    // オーディオストリームからデータを読み込みます
-                    nBytesRead = audioInputStream.read(abData, 0, abData.length);
-                    if (nBytesRead >= 0) {
-                        // オーディオデータをミキサーに書き込みます
-                        line.write(abData, 0, nBytesRead);
-                    }
-                }
-                line.drain();
+        Sound sound = Sound.decode(file);
+        if (sound != null) {
+            try (SourceDataLine line = AudioSystem.getSourceDataLine(sound.format)) {
+                line.open(sound.format);
+                write(line, sound);
+            } catch (Exception e) {
+                LoggerHolder.LOG.warn("サウンドの再生に失敗しました", e);
             }
-        } catch (UnsupportedAudioFileException e) {
-            LoggerHolder.LOG.warn("サポートされていないサウンドファイル形式です", file);
-        } catch (Exception e) {
-            LoggerHolder.LOG.warn("サウンドの再生に失敗しました", e);
         }
     }
 
@@ -121,7 +159,7 @@ public final class PlayerThread implements Runnable {
      *
      */
     public static void randomExpeditionSoundPlay() {
-        randomPlay(getExpeditionSoundFiles());
+        randomPlay(EXPEDITION);
     }
 
     /**
@@ -129,7 +167,7 @@ public final class PlayerThread implements Runnable {
      *
      */
     public static void randomDockSoundPlay() {
-        randomPlay(getDockSoundFiles());
+        randomPlay(DOCK);
     }
 
     /**
@@ -137,46 +175,157 @@ public final class PlayerThread implements Runnable {
      *
      */
     public static void randomBadlySoundPlay() {
-        randomPlay(getBadlySoundFiles());
+        randomPlay(BADLY);
+    }
+
+    /**
+     * 読み込んだサウンドからランダムに再生します<br>
+     * UIスレッドから呼び出されるため、サウンドの種類だけをキューに入れてプレイヤースレッドで選びます
+     *
+     * @param name サウンドの種類
+     */
+    private static void randomPlay(String name) {
+        SOUND_QUEUE.offer(new Sound(null, name, null, null));
     }
 
     /**
-     * 遠征から帰投した時に再生するサウンドを取得します
+     * 読み込んだサウンドを取得します
      *
-     * @return サウンドファイル
+     * @return サウンドの種類とサウンド
      */
-    private static List<File> getExpeditionSoundFiles() {
-        File expedition = new File("./sound/expedition");
-        if (expedition.exists() && expedition.isDirectory()) {
-            return new ArrayList<File>(FileUtils.listFiles(expedition, EXTENSIONS, true));
+    private static Map<String, List<Sound>> getBank() {
+        Map<String, List<Sound>> sounds = bank;
+        if (sounds == null) {
+            synchronized (PlayerThread.class) {
+                sounds = bank;
+                if (sounds == null) {
+                    sounds = load();
+                    bank = sounds;
+                }
+            }
         }
-        return Collections.emptyList();
+        return sounds;
     }
 
     /**
-     * お風呂からあがる時に再生するサウンドを取得します
+     * サウンドのディレクトリからサウンドを読み込みます
      *
-     * @return サウンドファイル
+     * @return サウンドの種類とサウンド
      */
-    private static List<File> getDockSoundFiles() {
-        File dock = new File("./sound/dock");
-        if (dock.exists() && dock.isDirectory()) {
-            return new ArrayList<File>(FileUtils.listFiles(dock, EXTENSIONS, true));
+    private static Map<String, List<Sound>> load() {
+        Map<String, List<Sound>> sounds = new HashMap<>();
+        for (String name : new String[] { EXPEDITION, DOCK, BADLY }) {
+            File dir = SOUND_DIR.resolve(name).toFile();
+            List<Sound> list = new ArrayList<>();
+            if (dir.isDirectory()) {
+                for (File file : FileUtils.listFiles(dir, EXTENSIONS, true)) {
+                    Sound sound = Sound.decode(file);
+                    if (sound != null) {
+                        list.add(sound);
+                    }
+                }
+            }
+            sounds.put(name, Collections.unmodifiableList(list));
         }
-        return Collections.emptyList();
+        return Collections.unmodifiableMap(sounds);
     }
 
     /**
-     * 大破した時に再生するサウンドを取得します
+     * サウンドのディレクトリを監視し、変更があった場合は読み込み直します
+     */
+    private static void watch() {
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            register(watcher);
+            while (true) {
+                WatchKey key = watcher.take();
+                // 連続した変更はまとめて読み込む
+                Thread.sleep(RELOAD_DELAY);
+                while (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                    key = watcher.poll();
+                }
+                // 追加されたディレクトリを監視する
+                register(watcher);
+                bank = load();
+            }
+        } catch (InterruptedException e) {
+            // 終了
+        } catch (IOException | UncheckedIOException e) {
+            LoggerHolder.LOG.warn("サウンドのディレクトリを監視できません", e);
+        }
+    }
+
+    private static void register(WatchService watcher) throws IOException {
+        try (Stream<Path> dirs = Files.walk(SOUND_DIR)) {
+            for (Path dir : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+    }
+
+    /**
+     * 開いたままのラインでサウンドを再生します(プレイヤースレッド)
      *
-     * @return サウンドファイル
+     * @param sound サウンド
      */
-    private static List<File> getBadlySoundFiles() {
-        File dock = new File("./sound/badly");
-        if (dock.exists() && dock.isDirectory()) {
-            return new ArrayList<File>(FileUtils.listFiles(dock, EXTENSIONS, true));
+    private void play(Sound sound) {
+        if (sound.name != null) {
+            List<Sound> sounds = getBank().get(sound.name);
+            if ((sounds == null) || sounds.isEmpty()) {
+                return;
+            }
+            sound = sounds.get((int) (Math.random() * sounds.size()));
+        }
+        if (sound.data == null) {
+            sound = Sound.decode(sound.file);
+            if (sound == null) {
+                return;
+            }
+        }
+        try {
+            if ((this.line == null) || !this.line.getFormat().matches(sound.format)) {
+                // 形式が異なる場合はラインを開き直す
+                this.closeLine();
+                this.line = AudioSystem.getSourceDataLine(sound.format);
+                this.line.open(sound.format);
+            }
+            write(this.line, sound);
+        } catch (Exception e) {
+            LoggerHolder.LOG.warn("サウンドの再生に失敗しました", e);
+            this.closeLine();
+        }
+    }
+
+    private void closeLine() {
+        if (this.line != null) {
+            this.line.close();
+            this.line = null;
         }
-        return Collections.emptyList();
+    }
+
+    /**
+     * 開いているラインにサウンドを書き込み、再生が終わるまで待ちます
+     *
+     * @param line ライン
+     * @param sound サウンド
+     */
+    private static void write(SourceDataLine line, Sound sound) {
+        // ゲインのコントロールを取得します
+        if (line.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            FloatControl control = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
+            // サウンド音量を設定
+            controlByLinearScalar(control, AppConfig.get().getSoundLevel());
+        }
+        // ラインでのデータ入出力を可能にします
+        line.start();
+        for (int offset = 0; offset < sound.data.length; offset += BUFFER_SIZE) {
+            // オーディオデータをミキサーに書き込みます
+            line.write(sound.data, offset, Math.min(BUFFER_SIZE, sound.data.length - offset));
+        }
+        line.drain();
+        line.stop();
     }
 
     /**
@@ -188,4 +337,57 @@ public final class PlayerThread implements Runnable {
     private static void controlByLinearScalar(FloatControl control, double linearScalar) {
         control.setValue((float) Math.log10(linearScalar) * 20);
     }
-}
\ No newline at end of file
+
+    /**
+     * メモリに読み込んだサウンド
+     */
+    private static final class Sound {
+
+        private final File file;
+
+        /** サウンドの種類(読み込んだサウンドから選んで再生する場合) */
+        private final String name;
+
+        /** PCMの形式 */
+        private final AudioFormat format;
+
+        /** PCMデータ */
+        private final byte[] data;
+
+        private Sound(File file, String name, AudioFormat format, byte[] data) {
+            this.file = file;
+            this.name = name;
+            this.format = format;
+            this.data = data;
+        }
+
+        /**
+         * サウンドファイルをPCMデータに変換して読み込みます
+         *
+         * @param file ファイル
+         * @return サウンド、読み込めない場合null
+         */
+        @CheckForNull
+        private static Sound decode(File file) {
+            try (AudioInputStream in = AudioSystem.getAudioInputStream(file)) {
+                AudioFormat format = in.getFormat();
+                AudioFormat.Encoding encoding = format.getEncoding();
+                if (!AudioFormat.Encoding.PCM_SIGNED.equals(encoding)
+                        && !AudioFormat.Encoding.PCM_UNSIGNED.equals(encoding)) {
+                    // PCM以外は16bitのPCMに変換する
+                    AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(),
+                            16, format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+                    try (AudioInputStream converted = AudioSystem.getAudioInputStream(pcm, in)) {
+                        return new Sound(file, null, pcm, IOUtils.toByteArray(converted));
+                    }
+                }
+                return new Sound(file, null, format, IOUtils.toByteArray(in));
+            } catch (UnsupportedAudioFileException e) {
+                LoggerHolder.LOG.warn("サポートされていないサウンドファイル形式です: " + file);
+            } catch (Exception e) {
+                LoggerHolder.LOG.warn("サウンドの読み込みに失敗しました", e);
+            }
+            return null;
+        }
+    }
+}
@@ -11,7 +11,7 @@ import java.awt.image.BufferedImage;
  */
 public class AwtUtils {
 
-    private static final int WHITE = Color.WHITE.getRGB();
+    private static final int WHITE = Color.WHITE.getRGB() & 0xFFFFFF;
 
     /**
      * <p>
@@ -56,6 +56,9 @@ public class AwtUtils {
 
     /**
      * トリムサイズを返します
+     * <p>
+     * 判定に使う行と列の画素はまとめて読み込みます。Robotでキャプチャした画像はラスタから直接読み込みます。
+     * </p>
      * 
      * @param image
      * @return
@@ -67,6 +70,10 @@ public class AwtUtils {
         int startheightTop = (height / 3) * 2;
         int startheightButton = height / 3;
 
+        int[] rowTop = pixels(image, 0, startheightTop, width, 1);
+        int[] rowButton = pixels(image, 0, startheightButton, width, 1);
+        int[] column = pixels(image, startwidth, 0, 1, height);
+
         int x = 0;
         int y = 0;
         int w = 0;
@@ -74,42 +81,42 @@ public class AwtUtils {
 
         // 左トリム(上)
         for (int i = 0; i < width; i++) {
-            if (image.getRGB(i, startheightTop) != WHITE) {
+            if (rowTop[i] != WHITE) {
                 x = i;
                 break;
             }
         }
         // 左トリム(下)
         for (int i = 0; i < width; i++) {
-            if (image.getRGB(i, startheightButton) != WHITE) {
+            if (rowButton[i] != WHITE) {
                 x = Math.min(x, i);
                 break;
             }
         }
         // 上トリム
         for (int i = 0; i < height; i++) {
-            if (image.getRGB(startwidth, i) != WHITE) {
+            if (column[i] != WHITE) {
                 y = i;
                 break;
             }
         }
         // 右トリム(上)
         for (int i = width - 1; i >= 0; i--) {
-            if (image.getRGB(i, startheightTop) != WHITE) {
+            if (rowTop[i] != WHITE) {
                 w = (i - x) + 1;
                 break;
             }
         }
         // 右トリム(下)
         for (int i = width - 1; i >= 0; i--) {
-            if (image.getRGB(i, startheightButton) != WHITE) {
+            if (rowButton[i] != WHITE) {
                 w = Math.max(w, (i - x) + 1);
                 break;
             }
         }
         // 下トリム
         for (int i = height - 1; i >= 0; i--) {
-            if (image.getRGB(startwidth, i) != WHITE) {
+            if (column[i] != WHITE) {
                 h = (i - y) + 1;
                 break;
             }
@@ -121,4 +128,63 @@ public class AwtUtils {
             return new Rectangle(x, y, w, h);
         }
     }
+
+    /**
+     * 画像を縦横blocks個のブロックに分け、ブロック毎の明るさの平均(0-255)を返します
+     * <p>
+     * 画像の変化を比較するための指紋として使います。
+     * </p>
+     * 
+     * @param image
+     * @param blocks 縦横の分割数
+     * @return ブロック毎の明るさの平均
+     */
+    public static int[] getBlockLuminance(BufferedImage image, int blocks) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        long[] sums = new long[blocks * blocks];
+        int[] counts = new int[blocks * blocks];
+        for (int y = 0; y < height; y++) {
+            int[] row = pixels(image, 0, y, width, 1);
+            int by = (y * blocks) / height;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                int block = (by * blocks) + ((x * blocks) / width);
+                // 輝度(ITU-R BT.601)
+                sums[block] += ((((rgb >> 16) & 0xFF) * 299) + (((rgb >> 8) & 0xFF) * 587) + ((rgb & 0xFF) * 114))
+                        / 1000;
+                counts[block]++;
+            }
+        }
+        int[] luminance = new int[sums.length];
+        for (int i = 0; i < sums.length; i++) {
+            luminance[i] = counts[i] > 0 ? (int) (sums[i] / counts[i]) : 0;
+        }
+        return luminance;
+    }
+
+    /**
+     * 範囲の画素をRGB(アルファなし)で取得します
+     * 
+     * @param image
+     * @param x
+     * @param y
+     * @param w
+     * @param h
+     * @return 画素
+     */
+    private static int[] pixels(BufferedImage image, int x, int y, int w, int h) {
+        int[] pixels = new int[w * h];
+        int type = image.getType();
+        if ((type == BufferedImage.TYPE_INT_RGB) || (type == BufferedImage.TYPE_INT_ARGB)) {
+            // ラスタから直接読み込む
+            image.getRaster().getDataElements(x, y, w, h, pixels);
+        } else {
+            image.getRGB(x, y, w, h, pixels, 0, w);
+        }
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] &= 0xFFFFFF;
+        }
+        return pixels;
+    }
 }
@@ -2,29 +2,41 @@ package logbook.util;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
+import javax.annotation.CheckForNull;
+
 import logbook.annotation.Name;
 
 /**
  * Beanのフィールドに対応する名前とフィールドのgetメソッドを持つ
+ * <p>
+ * getメソッドとpublicフィールドへのアクセスはクラス毎に1度だけ生成し、列のインデックスで参照します。
+ * </p>
  *
  * @param <T> Bean
  */
 public class BeanProperty<T> {
 
-    private final Class<T> clazz;
     private final List<String> names = new ArrayList<>();
-    private final Map<String, Function<T, Object>> getterMap = new LinkedHashMap<>();
+    private final Map<String, Integer> indexMap = new HashMap<>();
+    private final List<Function<T, Object>> getters = new ArrayList<>();
 
     /**
      * BeanクラスのBeanPropertyインスタンスを取得する
@@ -52,10 +64,16 @@ public class BeanProperty<T> {
             } else {
                 continue;
             }
+            Function<T, Object> getter = this.function(clazz, field);
+            if (getter == null) {
+                getter = o -> null;
+            }
+            if (!this.indexMap.containsKey(header)) {
+                this.indexMap.put(header, this.names.size());
+            }
             this.names.add(header);
-            this.getterMap.put(header, this.function(clazz, field));
+            this.getters.add(getter);
         }
-        this.clazz = clazz;
     }
 
     /**
@@ -74,7 +92,8 @@ public class BeanProperty<T> {
      * @return フィールド名にアクセスするFunction
      */
     public Function<T, Object> getFunction(String name) {
-        return this.getterMap.get(name);
+        int index = this.getNameIndex(name);
+        return index >= 0 ? this.getters.get(index) : null;
     }
 
     /**
@@ -84,7 +103,8 @@ public class BeanProperty<T> {
      * @return 指定されたフィールド名の位置のインデックス。そのフィールド名がない場合は -1
      */
     public int getNameIndex(String name) {
-        return this.names.indexOf(name);
+        Integer index = this.indexMap.get(name);
+        return index != null ? index : -1;
     }
 
     /**
@@ -94,10 +114,10 @@ public class BeanProperty<T> {
      * @return Beanが持つ全てのプロパティーの値
      */
     public String[] getStringValues(T bean) {
-        int size = this.names.size();
+        int size = this.getters.size();
         String[] values = new String[size];
         for (int i = 0; i < size; i++) {
-            values[i] = this.getValue(bean, this.names.get(i)).map(String::valueOf).orElse("");
+            values[i] = this.getString(bean, i);
         }
         return values;
     }
@@ -109,10 +129,10 @@ public class BeanProperty<T> {
      * @return Beanが持つ全てのプロパティーの値
      */
     public Optional<?>[] getValues(T bean) {
-        int size = this.names.size();
+        int size = this.getters.size();
         Optional<?>[] values = new Optional<?>[size];
         for (int i = 0; i < size; i++) {
-            values[i] = this.getValue(bean, this.names.get(i));
+            values[i] = Optional.ofNullable(this.get(bean, i));
         }
         return values;
     }
@@ -125,9 +145,9 @@ public class BeanProperty<T> {
      * @return Beanが持つプロパティーの値
      */
     public Optional<?> getValue(T bean, String name) {
-        Function<T, Object> func = this.getterMap.get(name);
-        if (func != null) {
-            return Optional.ofNullable(func.apply(bean));
+        int index = this.getNameIndex(name);
+        if (index >= 0) {
+            return Optional.ofNullable(this.get(bean, index));
         }
         return Optional.empty();
     }
@@ -140,11 +160,36 @@ public class BeanProperty<T> {
      * @return Beanが持つプロパティーの値
      */
     public Optional<?> getValue(T bean, int index) {
-        Function<T, Object> func = this.getterMap.get(this.names.get(index));
-        if (func != null) {
-            return Optional.ofNullable(func.apply(bean));
+        return Optional.ofNullable(this.get(bean, index));
+    }
+
+    /**
+     * Beanからインデックスでプロパティーの値を取得します
+     *
+     * @param bean Bean
+     * @param index インデックス
+     * @return Beanが持つプロパティーの値、値がない場合null
+     */
+    @CheckForNull
+    public Object get(T bean, int index) {
+        try {
+            return this.getters.get(index).apply(bean);
+        } catch (Exception e) {
+            BeanProperty.handle(e);
+            return null;
         }
-        return Optional.empty();
+    }
+
+    /**
+     * Beanからインデックスでプロパティーの値を文字列として取得します
+     *
+     * @param bean Bean
+     * @param index インデックス
+     * @return Beanが持つプロパティーの値、値がない場合は空文字
+     */
+    public String getString(T bean, int index) {
+        Object value = this.get(bean, index);
+        return value != null ? String.valueOf(value) : "";
     }
 
     /**
@@ -155,38 +200,69 @@ public class BeanProperty<T> {
      * @return getメソッドまたはpublicフィールドにアクセスするFunction
      */
     private Function<T, Object> function(Class<T> clazz, Field field) {
-        // フィールドがpublicならフィールドアクセスする
-        if ((field.getModifiers() & Modifier.PUBLIC) != 0) {
-            return o -> {
-                try {
-                    return field.get(o);
-                } catch (Exception e) {
-                    BeanProperty.handle(e);
-                    return null;
-                }
-            };
-        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
         try {
+            // フィールドがpublicならフィールドアクセスする
+            if ((field.getModifiers() & Modifier.PUBLIC) != 0) {
+                return invoker(lookup.unreflectGetter(field));
+            }
             PropertyDescriptor descriptor = new PropertyDescriptor(field.getName(), clazz, field.getName(), null);
             // getメソッド
             Method method = descriptor.getReadMethod();
             if (method != null) {
-                return o -> {
-                    try {
-                        return method.invoke(o);
-                    } catch (Exception e) {
-                        BeanProperty.handle(e);
-                        return null;
-                    }
-                };
+                MethodHandle handle = lookup.unreflect(method);
+                try {
+                    return lambda(lookup, clazz, handle);
+                } catch (Throwable e) {
+                    // getメソッドを直接呼び出すFunctionを生成できない場合はMethodHandleで呼び出す
+                    return invoker(handle);
+                }
             }
-        } catch (IntrospectionException e) {
+        } catch (IntrospectionException | IllegalAccessException e) {
             BeanProperty.handle(e);
         }
         return null;
     }
 
-    private static void handle(Exception e) {
+    /**
+     * getメソッドを直接呼び出すFunctionを生成します
+     *
+     * @param lookup Lookup
+     * @param clazz Bean
+     * @param handle getメソッド
+     * @return getメソッドを呼び出すFunction
+     * @throws Throwable Functionを生成できない場合
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, Object> lambda(MethodHandles.Lookup lookup, Class<T> clazz, MethodHandle handle)
+            throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                handle,
+                MethodType.methodType(Object.class, clazz));
+        return (Function<T, Object>) site.getTarget().invokeExact();
+    }
+
+    /**
+     * MethodHandleを呼び出すFunctionを作成します
+     *
+     * @param handle getメソッドまたはフィールド
+     * @return MethodHandleを呼び出すFunction
+     */
+    private static <T> Function<T, Object> invoker(MethodHandle handle) {
+        MethodHandle getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return o -> {
+            try {
+                return getter.invokeExact((Object) o);
+            } catch (Throwable e) {
+                BeanProperty.handle(e);
+                return null;
+            }
+        };
+    }
+
+    private static void handle(Throwable e) {
         e.printStackTrace();
     }
 
@@ -194,18 +270,11 @@ public class BeanProperty<T> {
      * BeanPropertyをキャッシュする
      */
     private static class PropertyCache {
-        private static final BeanProperty<?>[] cache = new BeanProperty[10];
+        private static final ConcurrentMap<Class<?>, BeanProperty<?>> cache = new ConcurrentHashMap<>();
 
         @SuppressWarnings("unchecked")
-        private synchronized static <T> BeanProperty<T> get(Class<T> clazz) {
-            for (int i = 0; i < cache.length; i++) {
-                if (cache[i] == null) {
-                    return (BeanProperty<T>) (cache[i] = new BeanProperty<T>(clazz));
-                } else if (clazz.equals(cache[i].clazz)) {
-                    return (BeanProperty<T>) cache[i];
-                }
-            }
-            return new BeanProperty<T>(clazz);
+        private static <T> BeanProperty<T> get(Class<T> clazz) {
+            return (BeanProperty<T>) cache.computeIfAbsent(clazz, c -> new BeanProperty<T>(clazz));
         }
     }
 }
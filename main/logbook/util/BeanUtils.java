@@ -3,12 +3,9 @@ package logbook.util;
 import java.beans.XMLDecoder;
 import java.beans.XMLEncoder;
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 
 import javax.annotation.CheckForNull;
 
@@ -34,37 +31,22 @@ public final class BeanUtils {
      * @throws IOException IOException
      */
     public static void writeObject(Path path, Object obj) throws IOException {
-        if (Files.exists(path)) {
-            if (Files.isDirectory(path)) {
-                throw new IOException("File '" + path + "' exists but is a directory");
-            }
-            if (!Files.isWritable(path)) {
-                throw new IOException("File '" + path + "' cannot be written to");
-            }
-        } else {
-            Path parent = path.getParent();
-            if (parent != null) {
-                if (!Files.exists(parent)) {
-                    Files.createDirectories(parent);
-                }
-            }
-        }
-        Path backup = path.resolveSibling(path.getFileName() + ".backup");
-        if (Files.exists(path) && (Files.size(path) > 0)) {
-            // ファイルが存在してかつサイズが0を超える場合、ファイルをバックアップにリネームする
-            Files.move(path, backup, StandardCopyOption.REPLACE_EXISTING);
-        }
-        try (XMLEncoder encoder = new XMLEncoder(new BufferedOutputStream(Files.newOutputStream(path,
-                StandardOpenOption.CREATE)))) {
-            encoder.setExceptionListener(e -> {
-                Class<?> clazz = null;
-                if (obj != null) {
-                    clazz = obj.getClass();
-                }
-                LoggerHolder.LOG.warn("File '" + path + "', Bean Class '" + clazz + "' の書き込み時に例外", e);
-            });
-            encoder.writeObject(obj);
+        if (Files.exists(path) && !Files.isDirectory(path) && !Files.isWritable(path)) {
+            throw new IOException("File '" + path + "' cannot be written to");
         }
+        // 一時ファイルに書き込んでから置き換える
+        FileUtils.writeAtomically(path, out -> {
+            try (XMLEncoder encoder = new XMLEncoder(out)) {
+                encoder.setExceptionListener(e -> {
+                    Class<?> clazz = null;
+                    if (obj != null) {
+                        clazz = obj.getClass();
+                    }
+                    LoggerHolder.LOG.warn("File '" + path + "', Bean Class '" + clazz + "' の書き込み時に例外", e);
+                });
+                encoder.writeObject(obj);
+            }
+        });
     }
 
     /**
@@ -21,7 +21,8 @@ public class CalcExpUtils {
      */
     @CheckForNull
     public static Long getNextLvExp(int nowlv) {
-        return ExpTable.get().get(nowlv + 1);
+        long exp = ExpTable.getExp(nowlv + 1);
+        return exp >= 0 ? Long.valueOf(exp) : null;
     }
 
     /**
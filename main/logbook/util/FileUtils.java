@@ -1,14 +1,17 @@
 package logbook.util;
 
 import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -47,6 +50,8 @@ public class FileUtils {
                 report = Paths.get(name);
             }
         }
+        // 月が変わっていれば過去の報告書に移動します
+        ReportArchive.rotate(report);
         if (isLocked(report)) {
             // ロックされている場合は代替ファイルに書き込みます
             report = report.resolveSibling(altername);
@@ -126,4 +131,63 @@ public class FileUtils {
             }
         }
     }
+
+    /**
+     * ファイルの書き込み
+     */
+    @FunctionalInterface
+    public interface OutputWriter {
+        /**
+         * 内容を書き込みます
+         *
+         * @param out 出力先
+         * @throws IOException IOException
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * 一時ファイルに書き込んでからファイルを置き換えます
+     * <p>
+     * 置き換える前のファイルは.backupとして残します。書き込み中に終了してもファイルは書き込み前か後の内容のどちらかになります。
+     * </p>
+     *
+     * @param path ファイル
+     * @param writer 内容の書き込み
+     * @throws IOException IOException
+     */
+    public static void writeAtomically(Path path, OutputWriter writer) throws IOException {
+        if (Files.isDirectory(path)) {
+            throw new IOException("File '" + path + "' exists but is a directory");
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if ((parent != null) && !Files.exists(parent)) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // writerが閉じても同期するまでチャネルは閉じない
+            OutputStream out = new BufferedOutputStream(new FilterOutputStream(Channels.newOutputStream(channel)) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    this.out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    this.flush();
+                }
+            });
+            writer.write(out);
+            out.flush();
+            channel.force(true);
+        }
+        if (Files.exists(path) && (Files.size(path) > 0)) {
+            // ファイルが存在してかつサイズが0を超える場合、ファイルをバックアップにコピーする
+            Files.copy(path, path.resolveSibling(path.getFileName() + ".backup"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
 }
@@ -0,0 +1,230 @@
+package logbook.util;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * 生成したゲージのイメージをアプリケーション全体で共有します
+ * <p>
+ * ゲージの割合は実線の幅(ピクセル)単位に丸め、種類・実線の幅・色・大きさが全て同じゲージには同じイメージを返します。<br>
+ * イメージは参照カウントで管理します。どこからも参照されなくなったイメージは再利用のために{@link #IDLE_CAPACITY}個まで残し、
+ * それを超えると最も長く使われていないものから破棄します。
+ * </p>
+ */
+public final class GaugeCache {
+
+    /** 参照されていないイメージを残しておく数 */
+    private static final int IDLE_CAPACITY = 128;
+
+    /** ゲージとイメージ */
+    private static final Map<Key, Shared> ENTRIES = new HashMap<>();
+
+    /** イメージとゲージ */
+    private static final Map<Image, Shared> IMAGES = new IdentityHashMap<>();
+
+    /** 参照されていないイメージ(使われた順) */
+    private static final Map<Key, Shared> IDLE = new LinkedHashMap<Key, Shared>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Shared> eldest) {
+            if (this.size() > IDLE_CAPACITY) {
+                discard(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /** Display破棄時の後始末を登録したか */
+    private static boolean registered;
+
+    /**
+     * ゲージのイメージを取得します<br>
+     * 取得したイメージは使い終わったら{@link #release(Image)}で返却してください
+     *
+     * @param ratio 割合
+     * @param width 幅
+     * @param height 高さ
+     * @param background 背景色
+     * @param colors 色たち
+     * @return ゲージのイメージ
+     */
+    public static Image gauge(float ratio, int width, int height, RGB background, RGB... colors) {
+        int fill = fill(ratio, width);
+        RGB color = SwtUtils.gradation((float) fill / width, colors);
+        return acquire(new Key(width, height, 0, fill, 0, background, color, null));
+    }
+
+    /**
+     * HPゲージのイメージを取得します<br>
+     * 取得したイメージは使い終わったら{@link #release(Image)}で返却してください
+     *
+     * @param hpratio HP割合
+     * @param expraito 経験値割合
+     * @param width 幅
+     * @param height 高さ
+     * @param expHeight 経験値ゲージの高さ
+     * @param emptyColor 大破色
+     * @param halfColor 中波色
+     * @param fullColor 健在色
+     * @param expColor 経験値色
+     * @return HPゲージのイメージ
+     */
+    public static Image hpAndExpGauge(float hpratio, float expraito,
+            int width, int height, int expHeight,
+            RGB emptyColor, RGB halfColor, RGB fullColor, RGB expColor) {
+        int hp = fill(hpratio, width);
+        int exp = fill(expraito, width);
+        RGB color = SwtUtils.gradation((float) hp / width, emptyColor, halfColor, fullColor);
+        return acquire(new Key(width, height, expHeight, hp, exp, null, color, expColor));
+    }
+
+    /**
+     * 取得したイメージを返却します
+     *
+     * @param image {@link #gauge}または{@link #hpAndExpGauge}で取得したイメージ
+     */
+    public static synchronized void release(@CheckForNull Image image) {
+        if (image == null) {
+            return;
+        }
+        Shared entry = IMAGES.get(image);
+        if ((entry != null) && (--entry.refs == 0)) {
+            IDLE.put(entry.key, entry);
+        }
+    }
+
+    /**
+     * 実線の幅
+     *
+     * @param ratio 割合
+     * @param width 幅
+     * @return 実線の幅
+     */
+    private static int fill(float ratio, int width) {
+        return Math.max(0, Math.min(width, (int) (width * ratio)));
+    }
+
+    private static synchronized Image acquire(Key key) {
+        Shared entry = ENTRIES.get(key);
+        if (entry == null) {
+            if (!registered) {
+                registered = true;
+                Display.getDefault().disposeExec(GaugeCache::disposeAll);
+            }
+            entry = new Shared(key, key.create());
+            ENTRIES.put(key, entry);
+            IMAGES.put(entry.image, entry);
+        } else if (entry.refs == 0) {
+            IDLE.remove(key);
+        }
+        entry.refs++;
+        return entry.image;
+    }
+
+    private static void discard(Shared entry) {
+        ENTRIES.remove(entry.key);
+        IMAGES.remove(entry.image);
+        entry.image.dispose();
+    }
+
+    private static synchronized void disposeAll() {
+        for (Shared entry : ENTRIES.values()) {
+            entry.image.dispose();
+        }
+        ENTRIES.clear();
+        IMAGES.clear();
+        IDLE.clear();
+        registered = false;
+    }
+
+    /**
+     * ゲージの種類・実線の幅・色・大きさ
+     */
+    private static final class Key {
+
+        private final int width;
+        private final int height;
+        /** 経験値ゲージの高さ */
+        private final int expHeight;
+        /** 実線の幅 */
+        private final int fill;
+        /** 経験値の実線の幅 */
+        private final int expFill;
+        /** 背景色、HPゲージの場合null */
+        private final RGB background;
+        /** 実線の色 */
+        private final RGB color;
+        /** 経験値色、HPゲージ以外の場合null */
+        private final RGB expColor;
+
+        private Key(int width, int height, int expHeight, int fill, int expFill,
+                RGB background, RGB color, RGB expColor) {
+            this.width = width;
+            this.height = height;
+            this.expHeight = expHeight;
+            this.fill = fill;
+            this.expFill = expFill;
+            this.background = background;
+            this.color = color;
+            this.expColor = expColor;
+        }
+
+        private Image create() {
+            if (this.expColor != null) {
+                return SwtUtils.createHpAndExpGaugeImage(this.fill, this.expFill,
+                        this.width, this.height, this.expHeight, this.color, this.expColor);
+            }
+            return SwtUtils.createGaugeImage(this.fill, this.width, this.height, this.background, this.color);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return (this.width == other.width) && (this.height == other.height)
+                    && (this.expHeight == other.expHeight) && (this.fill == other.fill)
+                    && (this.expFill == other.expFill) && Objects.equals(this.background, other.background)
+                    && Objects.equals(this.color, other.color) && Objects.equals(this.expColor, other.expColor);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.width, this.height, this.expHeight, this.fill, this.expFill,
+                    this.background, this.color, this.expColor);
+        }
+    }
+
+    /**
+     * 共有しているイメージ
+     */
+    private static final class Shared {
+
+        private final Key key;
+
+        private final Image image;
+
+        /** 参照数 */
+        private int refs;
+
+        private Shared(Key key, Image image) {
+            this.key = key;
+            this.image = image;
+        }
+    }
+}
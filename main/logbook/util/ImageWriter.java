@@ -6,6 +6,9 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import logbook.thread.ThreadManager;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
@@ -18,7 +21,10 @@ import org.eclipse.swt.widgets.Display;
 
 /**
  * SWTのControl,Imageを画像ファイルとして書き込みます
- *
+ * <p>
+ * {@link #writeAsync(Control, Consumer)}はUIスレッドでは画素の取得だけを行い、
+ * 画像の圧縮とファイルへの書き込みはバックグラウンドのスレッドで行います。
+ * </p>
  */
 public class ImageWriter {
     private final Path path;
@@ -86,6 +92,19 @@ public class ImageWriter {
         return this;
     }
 
+    /**
+     * 圧縮率よりも速度を優先した圧縮を指定します。<br>
+     * PNGの場合は1(low compression and fast)を指定します。その他のフォーマットでは何もしません。
+     *
+     * @return ImageWriter
+     */
+    public ImageWriter fast() {
+        if (this.format == SWT.IMAGE_PNG) {
+            this.compression = 1;
+        }
+        return this;
+    }
+
     /**
      * 指定されたcontrolを画像イメージとして書き込みます。
      *
@@ -94,19 +113,36 @@ public class ImageWriter {
      * @throws IOException
      */
     public void write(Control control) throws IOException {
-        Point size = control.getSize();
-        GC gc = new GC(control);
-        try {
-            Image image = new Image(Display.getDefault(), size.x, size.y);
+        this.write(getImageData(control));
+    }
+
+    /**
+     * 指定されたcontrolを画像イメージとしてバックグラウンドで書き込みます。<br>
+     * このメソッドはUIスレッドから呼び出す必要があります。
+     *
+     * @param control
+     *            画像イメージとして書き込むControl
+     * @param callback
+     *            書き込みが終わった時にUIスレッドで呼び出されます。成功した場合はnull、失敗した場合は例外が渡されます
+     */
+    public void writeAsync(Control control, Consumer<IOException> callback) {
+        Display display = control.getDisplay();
+        // 画素の取得だけUIスレッドで行う
+        ImageData data = getImageData(control);
+        ThreadManager.getExecutorService().execute(() -> {
+            IOException error = null;
             try {
-                gc.copyArea(image, 0, 0);
-                this.write(image);
-            } finally {
-                image.dispose();
+                this.write(data);
+            } catch (IOException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                error = new IOException(e);
             }
-        } finally {
-            gc.dispose();
-        }
+            IOException result = error;
+            if (!display.isDisposed()) {
+                display.asyncExec(() -> callback.accept(result));
+            }
+        });
     }
 
     /**
@@ -117,11 +153,46 @@ public class ImageWriter {
      * @throws IOException
      */
     public void write(Image image) throws IOException {
+        this.write(image.getImageData());
+    }
+
+    /**
+     * 指定されたimageDataを書き込みます。<br>
+     * ImageDataはUIスレッド以外からも書き込めます。
+     *
+     * @param data
+     *            書き込むImageData
+     * @throws IOException
+     */
+    public void write(ImageData data) throws IOException {
         try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(this.path, this.options))) {
             ImageLoader il = new ImageLoader();
-            il.data = new ImageData[] { image.getImageData() };
+            il.data = new ImageData[] { data };
             il.compression = this.compression;
             il.save(out, this.format);
         }
     }
+
+    /**
+     * controlの表示されている画素を取得します。
+     *
+     * @param control
+     *            Control
+     * @return ImageData
+     */
+    private static ImageData getImageData(Control control) {
+        Point size = control.getSize();
+        GC gc = new GC(control);
+        try {
+            Image image = new Image(control.getDisplay(), size.x, size.y);
+            try {
+                gc.copyArea(image, 0, 0);
+                return image.getImageData();
+            } finally {
+                image.dispose();
+            }
+        } finally {
+            gc.dispose();
+        }
+    }
 }
@@ -0,0 +1,375 @@
+package logbook.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * JPEG画像を1つのAVI(Motion-JPEG)ファイルに書き込みます
+ * <p>
+ * 書き込み中は拡張子に{@value #PART_SUFFIX}を付けたファイルに追記し、{@link #close()}で索引を書き込んでから名前を変更します。<br>
+ * ヘッダーのサイズとフレーム数は一定のフレーム毎に更新するため、書き込み中に異常終了した場合でも索引なしで再生でき、
+ * {@link #recover(Path)}で索引を作り直すことができます。<br>
+ * 長さ0のフレームは直前のフレームの繰り返しとして扱われます。<br>
+ * OpenDMLの拡張には対応しないため、ファイルサイズは{@value #MAX_FILE_SIZE}バイトまでです。
+ * 上限を超える前に{@link #canWrite(int)}で確認し、別のファイルに書き込んでください。
+ * </p>
+ */
+public final class MjpegAviWriter implements Closeable {
+
+    /** 書き込み中のファイルの拡張子 */
+    public static final String PART_SUFFIX = ".part";
+
+    /** ファイルサイズの上限(AVI 1.0のRIFFの上限) */
+    public static final long MAX_FILE_SIZE = 1L << 30;
+
+    /** ヘッダーを更新する間隔(フレーム数) */
+    private static final int UPDATE_INTERVAL = 30;
+
+    /** RIFFのサイズ */
+    private static final int RIFF_SIZE_OFFSET = 4;
+    /** avihのdwTotalFrames */
+    private static final int AVIH_FRAMES_OFFSET = 48;
+    /** avihのdwSuggestedBufferSize */
+    private static final int AVIH_BUFFER_OFFSET = 60;
+    /** strhのdwLength */
+    private static final int STRH_LENGTH_OFFSET = 140;
+    /** strhのdwSuggestedBufferSize */
+    private static final int STRH_BUFFER_OFFSET = 144;
+    /** moviリストのサイズ */
+    private static final int MOVI_SIZE_OFFSET = 216;
+    /** moviリストの'movi'の位置(索引のオフセットの基準) */
+    private static final int MOVI_OFFSET = 220;
+    /** 最初のフレームの位置 */
+    private static final int HEADER_SIZE = 224;
+
+    /** avihのAVIF_HASINDEX */
+    private static final int AVIF_HASINDEX = 0x10;
+    /** idx1のAVIIF_KEYFRAME */
+    private static final int AVIIF_KEYFRAME = 0x10;
+
+    /** 書き込み後のファイル */
+    private final Path path;
+
+    /** 書き込み中のファイル */
+    private final Path part;
+
+    private final FileChannel channel;
+
+    /** フレームの位置('movi'からの相対位置) */
+    private long[] offsets = new long[256];
+
+    /** フレームのサイズ */
+    private int[] sizes = new int[256];
+
+    /** フレーム数 */
+    private int frames;
+
+    /** 最大のフレームのサイズ */
+    private int maxSize;
+
+    /** 次のフレームを書き込む位置 */
+    private long position;
+
+    private MjpegAviWriter(Path path, Path part, FileChannel channel) {
+        this.path = path;
+        this.part = part;
+        this.channel = channel;
+    }
+
+    /**
+     * AVIファイルの書き込みを開始します
+     *
+     * @param path 書き込むファイル
+     * @param width 幅
+     * @param height 高さ
+     * @param microSecPerFrame 1フレームの時間(マイクロ秒)
+     * @return MjpegAviWriter
+     * @throws IOException IOException
+     */
+    public static MjpegAviWriter create(Path path, int width, int height, int microSecPerFrame)
+            throws IOException {
+        Path part = path.resolveSibling(path.getFileName() + PART_SUFFIX);
+        FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        MjpegAviWriter writer = new MjpegAviWriter(path, part, channel);
+        try {
+            writer.writeHeader(width, height, microSecPerFrame);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return writer;
+    }
+
+    /**
+     * 書き込み中に異常終了したファイルの索引を作り直し、書き込み後のファイル名に変更します
+     *
+     * @param part 書き込み中のファイル(拡張子{@value #PART_SUFFIX})
+     * @return 書き込み後のファイル
+     * @throws IOException AVIファイルとして読み込めない場合
+     */
+    public static Path recover(Path part) throws IOException {
+        String name = part.getFileName().toString();
+        if (!name.endsWith(PART_SUFFIX)) {
+            throw new IOException("File '" + part + "' is not a part file");
+        }
+        Path path = part.resolveSibling(name.substring(0, name.length() - PART_SUFFIX.length()));
+        FileChannel channel = FileChannel.open(part, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MjpegAviWriter writer = new MjpegAviWriter(path, part, channel);
+        try {
+            writer.scan();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        writer.close();
+        return path;
+    }
+
+    /**
+     * フレームを書き込みます
+     *
+     * @param jpeg JPEG画像、長さ0の場合は直前のフレームの繰り返し
+     * @throws IOException IOException
+     */
+    public void writeFrame(byte[] jpeg) throws IOException {
+        int size = jpeg.length;
+        if (!this.canWrite(size)) {
+            throw new IOException("File '" + this.part + "' exceeds " + MAX_FILE_SIZE + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(8 + size + (size & 1)).order(ByteOrder.LITTLE_ENDIAN);
+        putFourCC(buffer, "00dc");
+        buffer.putInt(size);
+        buffer.put(jpeg);
+        if ((size & 1) != 0) {
+            buffer.put((byte) 0);
+        }
+        buffer.flip();
+        this.write(buffer, this.position);
+        this.addIndex(this.position - MOVI_OFFSET, size);
+        this.position += buffer.limit();
+        if ((this.frames % UPDATE_INTERVAL) == 0) {
+            this.updateHeader();
+        }
+    }
+
+    /**
+     * フレームと索引を書き込んでもファイルサイズの上限を超えないかを返します
+     *
+     * @param size JPEG画像の長さ
+     * @return 書き込める場合true
+     */
+    public boolean canWrite(int size) {
+        long end = this.position + 8 + size + (size & 1) + 8 + ((this.frames + 1L) * 16);
+        return end <= MAX_FILE_SIZE;
+    }
+
+    /**
+     * @return 書き込んだフレーム数
+     */
+    public int getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * 索引を書き込んでファイルを閉じ、書き込み後のファイル名に変更します
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            int indexSize = Math.multiplyExact(this.frames, 16);
+            ByteBuffer index = ByteBuffer.allocate(Math.addExact(8, indexSize)).order(ByteOrder.LITTLE_ENDIAN);
+            putFourCC(index, "idx1");
+            index.putInt(indexSize);
+            for (int i = 0; i < this.frames; i++) {
+                putFourCC(index, "00dc");
+                index.putInt(this.sizes[i] > 0 ? AVIIF_KEYFRAME : 0);
+                index.putInt(Math.toIntExact(this.offsets[i]));
+                index.putInt(this.sizes[i]);
+            }
+            index.flip();
+            this.write(index, this.position);
+            this.channel.truncate(this.position + index.limit());
+            this.updateHeader();
+            this.putInt(RIFF_SIZE_OFFSET, Math.toIntExact((this.position + index.limit()) - 8));
+            this.channel.force(true);
+        } finally {
+            this.channel.close();
+        }
+        Files.move(this.part, this.path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeHeader(int width, int height, int microSecPerFrame) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        putFourCC(buffer, "RIFF");
+        buffer.putInt(HEADER_SIZE - 8);
+        putFourCC(buffer, "AVI ");
+        putFourCC(buffer, "LIST");
+        buffer.putInt(192);
+        putFourCC(buffer, "hdrl");
+        // avih
+        putFourCC(buffer, "avih");
+        buffer.putInt(56);
+        buffer.putInt(microSecPerFrame);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(AVIF_HASINDEX);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(1);
+        buffer.putInt(0);
+        buffer.putInt(width);
+        buffer.putInt(height);
+        buffer.put(new byte[16]);
+        // strl
+        putFourCC(buffer, "LIST");
+        buffer.putInt(116);
+        putFourCC(buffer, "strl");
+        putFourCC(buffer, "strh");
+        buffer.putInt(56);
+        putFourCC(buffer, "vids");
+        putFourCC(buffer, "MJPG");
+        buffer.putInt(0);
+        buffer.putShort((short) 0);
+        buffer.putShort((short) 0);
+        buffer.putInt(0);
+        buffer.putInt(microSecPerFrame);
+        buffer.putInt(1000000);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(-1);
+        buffer.putInt(0);
+        buffer.putShort((short) 0);
+        buffer.putShort((short) 0);
+        buffer.putShort((short) width);
+        buffer.putShort((short) height);
+        // strf (BITMAPINFOHEADER)
+        putFourCC(buffer, "strf");
+        buffer.putInt(40);
+        buffer.putInt(40);
+        buffer.putInt(width);
+        buffer.putInt(height);
+        buffer.putShort((short) 1);
+        buffer.putShort((short) 24);
+        putFourCC(buffer, "MJPG");
+        buffer.putInt(width * height * 3);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        // movi
+        putFourCC(buffer, "LIST");
+        buffer.putInt(4);
+        putFourCC(buffer, "movi");
+        buffer.flip();
+        this.write(buffer, 0);
+        this.position = HEADER_SIZE;
+    }
+
+    /**
+     * 書き込み中のファイルからフレームを読み込みます
+     *
+     * @throws IOException IOException
+     */
+    private void scan() throws IOException {
+        long length = this.channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.read(header, 0);
+        if (!"RIFF".equals(getFourCC(header, 0)) || !"AVI ".equals(getFourCC(header, 8))
+                || !"movi".equals(getFourCC(header, MOVI_OFFSET))) {
+            throw new IOException("File '" + this.part + "' is not a recording");
+        }
+        long position = HEADER_SIZE;
+        ByteBuffer chunk = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        while ((position + 8) <= length) {
+            chunk.clear();
+            this.read(chunk, position);
+            int size = chunk.getInt(4);
+            long next = position + 8 + size + (size & 1);
+            if (!"00dc".equals(getFourCC(chunk, 0)) || (size < 0) || (next > length)) {
+                // 書き込みが完了していないフレーム以降は捨てる
+                break;
+            }
+            this.position = position;
+            if (!this.canWrite(size)) {
+                // 索引を書き込むとファイルサイズの上限を超えるフレーム以降は捨てる
+                break;
+            }
+            this.addIndex(position - MOVI_OFFSET, size);
+            position = next;
+        }
+        this.position = position;
+    }
+
+    private void addIndex(long offset, int size) {
+        if (this.frames == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.frames * 2);
+            this.sizes = Arrays.copyOf(this.sizes, this.frames * 2);
+        }
+        this.offsets[this.frames] = offset;
+        this.sizes[this.frames] = size;
+        this.frames++;
+        this.maxSize = Math.max(this.maxSize, size);
+    }
+
+    /**
+     * ヘッダーのサイズとフレーム数を現在の状態に更新します
+     *
+     * @throws IOException IOException
+     */
+    private void updateHeader() throws IOException {
+        this.putInt(RIFF_SIZE_OFFSET, Math.toIntExact(this.position - 8));
+        this.putInt(AVIH_FRAMES_OFFSET, this.frames);
+        this.putInt(AVIH_BUFFER_OFFSET, this.maxSize + 8);
+        this.putInt(STRH_LENGTH_OFFSET, this.frames);
+        this.putInt(STRH_BUFFER_OFFSET, this.maxSize + 8);
+        this.putInt(MOVI_SIZE_OFFSET, Math.toIntExact(this.position - MOVI_OFFSET));
+    }
+
+    private void putInt(long offset, int value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(value);
+        buffer.flip();
+        this.write(buffer, offset);
+    }
+
+    private void write(ByteBuffer buffer, long offset) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            position += this.channel.write(buffer, position);
+        }
+    }
+
+    private void read(ByteBuffer buffer, long offset) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = this.channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("File '" + this.part + "' is truncated");
+            }
+            position += read;
+        }
+    }
+
+    private static void putFourCC(ByteBuffer buffer, String fourcc) {
+        buffer.put(fourcc.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String getFourCC(ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
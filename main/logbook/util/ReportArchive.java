@@ -0,0 +1,369 @@
+package logbook.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.CheckForNull;
+
+import logbook.config.AppConfig;
+import logbook.constants.AppConstants;
+import logbook.thread.ThreadManager;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 報告書を月毎のファイルに分割して保存・読み込みします
+ * <p>
+ * 報告書は月が変わって最初に書き込む時に報告書の保存先の{@value AppConstants#LOG_ARCHIVE_DIR}フォルダに移動され、
+ * バックグラウンドでgzip圧縮されます。<br>
+ * {@link #lines(String, Date)}は過去の報告書と現在の報告書を日付順に続けて読み込みます。
+ * </p>
+ *
+ */
+public final class ReportArchive {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(ReportArchive.class);
+    }
+
+    /** 圧縮された報告書の拡張子 */
+    private static final String GZIP_SUFFIX = ".gz";
+
+    /** 報告書の拡張子 */
+    private static final String CSV_SUFFIX = ".csv";
+
+    /** 月の書式(報告書の日付の先頭7文字と同じ) */
+    private static final String MONTH_FORMAT = "yyyy-MM";
+
+    /** 報告書と報告書の先頭の行の月 */
+    private static final Map<Path, String> MONTH_CACHE = new ConcurrentHashMap<>();
+
+    /** 圧縮を実行中 */
+    private static final AtomicBoolean COMPRESSING = new AtomicBoolean();
+
+    /** 起動後に圧縮を行ったか */
+    private static final AtomicBoolean COMPRESSED = new AtomicBoolean();
+
+    /**
+     * 報告書の先頭の行が先月以前の場合、報告書を過去の報告書に移動します
+     *
+     * @param report 報告書
+     */
+    public static void rotate(Path report) {
+        String month = new SimpleDateFormat(MONTH_FORMAT).format(new Date());
+        String reportMonth = MONTH_CACHE.get(report);
+        if (reportMonth == null) {
+            reportMonth = readMonth(report);
+            if (reportMonth != null) {
+                MONTH_CACHE.put(report, reportMonth);
+            }
+        }
+        if ((reportMonth != null) && (reportMonth.compareTo(month) < 0)) {
+            try {
+                Path dir = getArchiveDir(report);
+                if (!Files.exists(dir)) {
+                    Files.createDirectories(dir);
+                }
+                Path segment = dir.resolve(getBaseName(report) + "_" + reportMonth + CSV_SUFFIX);
+                if (Files.exists(segment) || Files.exists(segment.resolveSibling(segment.getFileName()
+                        + GZIP_SUFFIX))) {
+                    // 同じ月の過去の報告書がある場合は別名にする
+                    segment = dir.resolve(getBaseName(report) + "_" + reportMonth + "_"
+                            + System.currentTimeMillis() + CSV_SUFFIX);
+                }
+                Files.move(report, segment);
+                MONTH_CACHE.remove(report);
+                COMPRESSED.set(false);
+            } catch (IOException e) {
+                // ロックされている等で移動出来ない場合は次回に持ち越す
+                LoggerHolder.LOG.warn("報告書の移動に失敗しました", e);
+            }
+        }
+        if (!COMPRESSED.get()) {
+            compressLater(getArchiveDir(report));
+        }
+    }
+
+    /**
+     * 過去の報告書と現在の報告書の内容をヘッダーを除いて日付順に読み込みます
+     *
+     * @param name 報告書のファイル名
+     * @return 報告書の内容
+     * @throws IOException
+     */
+    public static Stream<String> lines(String name) throws IOException {
+        return lines(name, null);
+    }
+
+    /**
+     * 過去の報告書と現在の報告書の内容をヘッダーを除いて日付順に読み込みます
+     * <p>
+     * fromより前の月だけを含む過去の報告書は読み込みません。
+     * </p>
+     *
+     * @param name 報告書のファイル名
+     * @param from 読み込む最小の日付(nullの場合全て)
+     * @return 報告書の内容
+     * @throws IOException
+     */
+    public static Stream<String> lines(String name, @CheckForNull Date from) throws IOException {
+        return files(name, from).stream().flatMap(ReportArchive::lines);
+    }
+
+    /**
+     * 過去の報告書と現在の報告書を日付順に取得します
+     *
+     * @param name 報告書のファイル名
+     * @return 報告書
+     * @throws IOException
+     */
+    public static List<Path> files(String name) throws IOException {
+        return files(name, null);
+    }
+
+    /**
+     * 過去の報告書と現在の報告書を日付順に取得します
+     *
+     * @param name 報告書のファイル名
+     * @param from 読み込む最小の日付(nullの場合全て)
+     * @return 報告書
+     * @throws IOException
+     */
+    public static List<Path> files(String name, @CheckForNull Date from) throws IOException {
+        Path report = Paths.get(AppConfig.get().getReportPath(), name);
+        List<Path> files = getSegments(report, from);
+        if (Files.exists(report)) {
+            files.add(report);
+        }
+        return files;
+    }
+
+    /**
+     * 読み込む過去の報告書を日付順に取得します
+     *
+     * @param report 報告書
+     * @param from 読み込む最小の日付(nullの場合全て)
+     * @return 過去の報告書
+     * @throws IOException
+     */
+    private static List<Path> getSegments(Path report, @CheckForNull Date from) throws IOException {
+        Path dir = getArchiveDir(report);
+        // 月(とファイル名) -> ファイル
+        TreeMap<String, Path> segments = new TreeMap<>();
+        if (Files.isDirectory(dir)) {
+            Pattern pattern = Pattern.compile(Pattern.quote(getBaseName(report))
+                    + "_(\\d{4}-\\d{2}(?:_\\d+)?)\\.csv(\\.gz)?");
+            try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+                for (Path path : ds) {
+                    Matcher matcher = pattern.matcher(path.getFileName().toString());
+                    if (matcher.matches()) {
+                        String key = matcher.group(1);
+                        // 圧縮中で両方ある場合は圧縮前のファイルを優先する
+                        if ((matcher.group(2) == null) || !segments.containsKey(key)) {
+                            segments.put(key, path);
+                        }
+                    }
+                }
+            }
+        }
+        List<Path> list = new ArrayList<>();
+        String fromMonth = from != null ? new SimpleDateFormat(MONTH_FORMAT).format(from) : null;
+        List<String> keys = new ArrayList<>(segments.keySet());
+        for (int i = 0; i < keys.size(); i++) {
+            // 過去の報告書は次の過去の報告書の月の前までを含む
+            if ((fromMonth != null) && ((i + 1) < keys.size())
+                    && (keys.get(i + 1).substring(0, MONTH_FORMAT.length()).compareTo(fromMonth) <= 0)) {
+                continue;
+            }
+            list.add(segments.get(keys.get(i)));
+        }
+        return list;
+    }
+
+    /**
+     * 報告書を1つ読み込みます(ヘッダーを除く)
+     *
+     * @param path 報告書
+     * @return 報告書の内容
+     */
+    public static Stream<String> lines(Path path) {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(newInputStream(path),
+                    AppConstants.CHARSET));
+            return reader.lines().skip(1).onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 報告書を1つ開きます(ヘッダーを含む)
+     * <p>
+     * 圧縮された報告書は展開した内容を読み込みます。読み込み前に圧縮された場合は圧縮された報告書を開きます。
+     * </p>
+     *
+     * @param path 報告書
+     * @return InputStream
+     * @throws IOException
+     */
+    public static InputStream newInputStream(Path path) throws IOException {
+        try {
+            return open(path);
+        } catch (NoSuchFileException e) {
+            // 読み込み前に圧縮された場合
+            if (path.toString().endsWith(GZIP_SUFFIX)) {
+                throw e;
+            }
+            return open(path.resolveSibling(path.getFileName() + GZIP_SUFFIX));
+        }
+    }
+
+    /**
+     * 報告書を開きます
+     *
+     * @param path 報告書
+     * @return InputStream
+     * @throws IOException
+     */
+    private static InputStream open(Path path) throws IOException {
+        if (path.toString().endsWith(GZIP_SUFFIX)) {
+            return new GZIPInputStream(Files.newInputStream(path));
+        }
+        return Files.newInputStream(path);
+    }
+
+    /**
+     * 報告書の先頭の行の月を取得します
+     *
+     * @param report 報告書
+     * @return 月、報告書がないか空の場合null
+     */
+    @CheckForNull
+    private static String readMonth(Path report) {
+        if (!Files.isRegularFile(report)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(report, AppConstants.CHARSET)) {
+            // ヘッダー
+            reader.readLine();
+            String line = reader.readLine();
+            if ((line != null) && (line.length() >= MONTH_FORMAT.length())) {
+                String month = line.substring(0, MONTH_FORMAT.length());
+                if (month.matches("\\d{4}-\\d{2}")) {
+                    return month;
+                }
+            }
+        } catch (IOException e) {
+            LoggerHolder.LOG.warn("報告書の読み込みに失敗しました", e);
+        }
+        return null;
+    }
+
+    /**
+     * 過去の報告書をバックグラウンドで圧縮します
+     *
+     * @param dir 過去の報告書のフォルダ
+     */
+    private static void compressLater(Path dir) {
+        if (!Files.isDirectory(dir) || !COMPRESSING.compareAndSet(false, true)) {
+            return;
+        }
+        ThreadManager.getExecutorService().submit(() -> {
+            try {
+                // 圧縮中に移動された報告書は次回に圧縮する
+                COMPRESSED.set(true);
+                compress(dir);
+            } catch (Exception e) {
+                COMPRESSED.set(false);
+                LoggerHolder.LOG.warn("報告書の圧縮に失敗しました", e);
+            } finally {
+                COMPRESSING.set(false);
+            }
+        });
+    }
+
+    /**
+     * 過去の報告書を圧縮します
+     *
+     * @param dir 過去の報告書のフォルダ
+     * @throws IOException
+     */
+    private static void compress(Path dir) throws IOException {
+        List<Path> targets = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, "*" + CSV_SUFFIX)) {
+            for (Path path : ds) {
+                targets.add(path);
+            }
+        }
+        for (Path path : targets) {
+            Path gz = path.resolveSibling(path.getFileName() + GZIP_SUFFIX);
+            Path tmp = path.resolveSibling(path.getFileName() + GZIP_SUFFIX + ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                Files.copy(path, out);
+            }
+            Files.move(tmp, gz, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            try {
+                Files.delete(path);
+            } catch (IOException e) {
+                // 読み込み中の場合は次回に削除する
+                LoggerHolder.LOG.warn("圧縮した報告書の削除に失敗しました", e);
+            }
+        }
+    }
+
+    /**
+     * 過去の報告書のフォルダ
+     *
+     * @param report 報告書
+     * @return 過去の報告書のフォルダ
+     */
+    private static Path getArchiveDir(Path report) {
+        Path parent = report.toAbsolutePath().getParent();
+        return parent.resolve(AppConstants.LOG_ARCHIVE_DIR);
+    }
+
+    /**
+     * 報告書のファイル名から拡張子を除いた名前
+     *
+     * @param report 報告書
+     * @return 拡張子を除いた名前
+     */
+    private static String getBaseName(Path report) {
+        String name = report.getFileName().toString();
+        if (name.endsWith(CSV_SUFFIX)) {
+            return name.substring(0, name.length() - CSV_SUFFIX.length());
+        }
+        return name;
+    }
+}
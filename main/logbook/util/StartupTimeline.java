@@ -0,0 +1,178 @@
+package logbook.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 起動時の各段階にかかった時間を記録します
+ * <p>
+ * 段階は{@link #begin(String)}と{@link #end(String)}で囲むか、{@link #mark(String)}で到達した時刻だけを記録します。
+ * 段階は別々のスレッドから記録できます。{@link #finish(String)}を呼び出すと記録した段階をJVMの開始からの時刻順にログに出力します。
+ * </p>
+ */
+public final class StartupTimeline {
+
+    private static class LoggerHolder {
+        /** ロガー */
+        private static final Logger LOG = LogManager.getLogger(StartupTimeline.class);
+    }
+
+    /** 設定の読み込み */
+    public static final String CONFIG = "設定の読み込み";
+
+    /** SWTの初期化 */
+    public static final String SWT_INIT = "SWTの初期化";
+
+    /** 画面の作成 */
+    public static final String WIDGETS = "画面の作成";
+
+    /** プロキシサーバーの待ち受け開始 */
+    public static final String PROXY = "プロキシサーバーの開始";
+
+    /** 最初のデータを受け取った */
+    public static final String FIRST_DATA = "最初のデータ";
+
+    /** JVMの開始時刻 */
+    private static final long ORIGIN = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    /** 記録した段階 */
+    private static final List<Phase> PHASES = new ArrayList<>();
+
+    /** ログに出力したか */
+    private static volatile boolean reported;
+
+    /**
+     * 段階
+     */
+    private static final class Phase {
+
+        private final String name;
+
+        private final String thread;
+
+        private final long begin;
+
+        private long end = -1;
+
+        private Phase(String name, long begin) {
+            this.name = name;
+            this.thread = Thread.currentThread().getName();
+            this.begin = begin;
+        }
+    }
+
+    /**
+     * 段階の開始を記録します
+     *
+     * @param name 段階
+     */
+    public static void begin(String name) {
+        if (reported) {
+            return;
+        }
+        synchronized (PHASES) {
+            if (find(name) == null) {
+                PHASES.add(new Phase(name, System.currentTimeMillis()));
+            }
+        }
+    }
+
+    /**
+     * 段階の終了を記録します
+     *
+     * @param name 段階
+     */
+    public static void end(String name) {
+        if (reported) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (PHASES) {
+            Phase phase = find(name);
+            if (phase == null) {
+                phase = new Phase(name, now);
+                PHASES.add(phase);
+            }
+            if (phase.end < 0) {
+                phase.end = now;
+            }
+        }
+    }
+
+    /**
+     * 段階に到達したことを記録します
+     *
+     * @param name 段階
+     */
+    public static void mark(String name) {
+        end(name);
+    }
+
+    /**
+     * 段階に到達したことを記録し、記録した段階をログに出力します<br>
+     * 2回目以降の呼び出しでは何もしません
+     *
+     * @param name 段階
+     */
+    public static void finish(String name) {
+        if (reported) {
+            return;
+        }
+        end(name);
+        report();
+    }
+
+    /**
+     * 記録した段階をログに出力します(1回だけ出力します)
+     */
+    public static void report() {
+        String timeline;
+        synchronized (PHASES) {
+            if (reported) {
+                return;
+            }
+            reported = true;
+            timeline = getTimeline();
+        }
+        LoggerHolder.LOG.info(timeline);
+    }
+
+    /**
+     * 記録した段階をJVMの開始からの時刻順に取得します
+     *
+     * @return 段階毎の開始・終了時刻と所要時間
+     */
+    public static String getTimeline() {
+        StringBuilder sb = new StringBuilder("起動時間");
+        synchronized (PHASES) {
+            List<Phase> phases = new ArrayList<>(PHASES);
+            phases.sort((a, b) -> Long.compare(a.begin, b.begin));
+            for (Phase phase : phases) {
+                sb.append(System.lineSeparator());
+                sb.append(String.format("  %6dms", phase.begin - ORIGIN));
+                if (phase.end > phase.begin) {
+                    sb.append(String.format(" - %6dms (%5dms)", phase.end - ORIGIN, phase.end - phase.begin));
+                } else if (phase.end < 0) {
+                    sb.append(" -   (終了していません)");
+                } else {
+                    sb.append(String.format("%21s", ""));
+                }
+                sb.append(' ').append(phase.name).append(" [").append(phase.thread).append(']');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Phase find(String name) {
+        for (Phase phase : PHASES) {
+            if (phase.name.equals(name)) {
+                return phase;
+            }
+        }
+        return null;
+    }
+}
@@ -3,6 +3,7 @@ package logbook.util;
 import javax.annotation.CheckForNull;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.RGB;
@@ -52,16 +53,43 @@ public final class SwtUtils {
     public static Image getHpAndExpGaugeImage(float hpratio, float expraito,
             int width, int height, int expHeight,
             RGB emptyColor, RGB halfColor, RGB fullColor, RGB expColor) {
-        Image image = new Image(Display.getDefault(), width, height);
+        return createHpAndExpGaugeImage((int) (width * hpratio), (int) (width * expraito),
+                width, height, expHeight,
+                gradation(hpratio, emptyColor, halfColor, fullColor), expColor);
+    }
+
+    /**
+     * 実線の幅を指定してHPゲージのイメージを作成します
+     * <p>
+     * 描画に使う色は描画後に破棄します。
+     * </p>
+     *
+     * @param hpWidth HPの実線の幅
+     * @param expWidth 経験値の実線の幅
+     * @param width 幅
+     * @param height 高さ
+     * @param expHeight 経験値ゲージの高さ
+     * @param hpColor HPの色
+     * @param expColor 経験値色
+     * @return HPゲージのイメージ
+     */
+    static Image createHpAndExpGaugeImage(int hpWidth, int expWidth,
+            int width, int height, int expHeight, RGB hpColor, RGB expColor) {
+        Display display = Display.getDefault();
+        Image image = new Image(display, width, height);
+        Color hp = new Color(display, hpColor);
+        Color exp = new Color(display, expColor);
         GC gc = new GC(image);
         gc.setBackground(SWTResourceManager.getColor(SWT.COLOR_WHITE));
         gc.fillRectangle(0, 0, width, height);
-        gc.setBackground(SWTResourceManager.getColor(gradation(hpratio, emptyColor, halfColor, fullColor)));
-        gc.fillRectangle(0, 0, (int) (width * hpratio), height);
-        gc.setBackground(SWTResourceManager.getColor(expColor));
-        gc.fillRectangle(0, height - expHeight, (int) (width * expraito), expHeight);
+        gc.setBackground(hp);
+        gc.fillRectangle(0, 0, hpWidth, height);
+        gc.setBackground(exp);
+        gc.fillRectangle(0, height - expHeight, expWidth, expHeight);
         gc.drawImage(image, 0, 0);
         gc.dispose();
+        hp.dispose();
+        exp.dispose();
         return image;
     }
 
@@ -76,16 +104,38 @@ public final class SwtUtils {
      * @return ゲージのイメージ
      */
     public static Image gaugeImage(float ratio, int width, int height, RGB background, RGB... colors) {
-        Image image = new Image(Display.getDefault(), width, height);
+        return createGaugeImage((int) (width * ratio), width, height, background, gradation(ratio, colors));
+    }
+
+    /**
+     * 実線の幅を指定してゲージのイメージを作成します
+     * <p>
+     * 描画に使う色は描画後に破棄します。
+     * </p>
+     *
+     * @param fillWidth 実線の幅
+     * @param width 幅
+     * @param height 高さ
+     * @param background 背景色
+     * @param fillColor 実線の色
+     * @return ゲージのイメージ
+     */
+    static Image createGaugeImage(int fillWidth, int width, int height, RGB background, RGB fillColor) {
+        Display display = Display.getDefault();
+        Image image = new Image(display, width, height);
+        Color back = new Color(display, background);
+        Color fill = new Color(display, fillColor);
         GC gc = new GC(image);
         gc.drawImage(image, 0, 0);
         gc.setAlpha(0);
-        gc.setBackground(SWTResourceManager.getColor(background));
+        gc.setBackground(back);
         gc.fillRectangle(0, 0, width, height);
         gc.setAlpha(255);
-        gc.setBackground(SWTResourceManager.getColor(gradation(ratio, colors)));
-        gc.fillRectangle(0, 0, (int) (width * ratio), height);
+        gc.setBackground(fill);
+        gc.fillRectangle(0, 0, fillWidth, height);
         gc.dispose();
+        back.dispose();
+        fill.dispose();
         return image;
     }
 